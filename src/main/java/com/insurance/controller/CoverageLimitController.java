@@ -0,0 +1,23 @@
+package com.insurance.controller;
+
+import com.insurance.dto.CoverageLimitsDTO;
+import com.insurance.service.limits.CoverageLimitProvider;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/policy/limits")
+@RequiredArgsConstructor
+public class CoverageLimitController {
+
+    private final CoverageLimitProvider coverageLimitProvider;
+
+    @GetMapping
+    @Timed(value = "policy.limits.get", description = "Time taken to get the coverage limits")
+    public CoverageLimitsDTO getCoverageLimits() {
+        return new CoverageLimitsDTO(coverageLimitProvider.current().toMap());
+    }
+}
@@ -1,28 +1,71 @@
 package com.insurance.controller;
 
-import com.insurance.dto.FraudAnalysisResponseDTO;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.dto.PolicyBatchResponseDTO;
+import com.insurance.dto.PolicyPageDTO;
+import com.insurance.dto.PolicyProcessingBatchResponseDTO;
+import com.insurance.dto.PolicyRequestCursor;
 import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.dto.PolicyRequestSnapshot;
 import com.insurance.dto.PolicyValidationResponseDTO;
 import com.insurance.dto.PolicyCancelResponseDTO;
+import com.insurance.dto.PolicyTransitionsDTO;
+import com.insurance.dto.StatusHistoryDTO;
+import com.insurance.dto.StatusHistoryPageDTO;
+import com.insurance.infrastructure.cache.PolicyRequestCache;
+import com.insurance.infrastructure.cache.PolicyResponseCache;
+import com.insurance.infrastructure.cache.PolicyResponseCache.CachedResponse;
+import com.insurance.infrastructure.config.PolicyBatchProperties;
+import com.insurance.infrastructure.idempotency.IdempotencyService;
+import com.insurance.infrastructure.persistence.routing.ReadAfterWriteTracker;
+import com.insurance.infrastructure.streaming.PolicyEventHub;
 import com.insurance.mapper.PolicyRequestMapper;
 import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.StatusHistory;
 import com.insurance.service.PolicyRequestService;
+import com.insurance.service.concurrency.SingleFlight;
 import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -34,35 +77,157 @@ public class PolicyRequestController {
     private static final Logger log = LoggerFactory.getLogger(PolicyRequestController.class);
     private final PolicyRequestService service;
     private final PolicyRequestMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final PolicyResponseCache responseCache;
+    private final PolicyEventHub eventHub;
+    private final IdempotencyService idempotency;
+    private final SingleFlight singleFlight;
+    private final PolicyRequestCache policyCache;
+    private final ReadAfterWriteTracker readAfterWrite;
+    private final PolicyBatchProperties batchProperties;
+    private final Validator validator;
 
+    /**
+     * With an {@code Idempotency-Key} header, a retry of the same request replays the first response
+     * instead of creating another policy request; the same applies to the workflow step endpoints.
+     */
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
     @Timed(value = "policy.request.create", description = "Time taken to create a policy request")
-    public PolicyRequestDTO createPolicyRequest(@Valid @RequestBody PolicyRequestDTO request) {
+    public ResponseEntity<?> createPolicyRequest(@Valid @RequestBody PolicyRequestDTO request,
+                                                 @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         log.info("Creating policy request for customer: {}", request.getCustomerId());
-        
-        PolicyRequest entity = mapper.toEntity(request);
-        PolicyRequest created = service.createPolicyRequest(entity);
-        
-        return mapper.toDTO(created);
+
+        String fingerprint = idempotencyKey != null ? "create:" + digest(request) : null;
+        return idempotency.execute(idempotencyKey, fingerprint, () -> {
+            PolicyRequest entity = mapper.toEntity(request);
+            PolicyRequest created = service.createPolicyRequest(entity);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toDTO(created));
+        });
+    }
+
+    /**
+     * Same rules as the NDJSON variant below: a body over {@code policy.batch.max-size} items is
+     * rejected, and invalid items are reported as failures at their index without reaching the service.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Timed(value = "policy.request.create.batch", description = "Time taken to create a batch of policy requests")
+    public ResponseEntity<PolicyBatchResponseDTO> createPolicyRequests(@RequestBody List<PolicyRequestDTO> requests) {
+        if (requests.size() > batchProperties.getMaxSize()) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch exceeds the maximum of %d items", batchProperties.getMaxSize()));
+        }
+
+        List<PolicyRequestDTO> valid = new ArrayList<>(requests.size());
+        Map<Integer, String> invalid = new HashMap<>();
+        for (PolicyRequestDTO request : requests) {
+            String violations = violations(request);
+            if (violations != null) {
+                invalid.put(valid.size(), violations);
+                request = null;
+            }
+            valid.add(request);
+        }
+
+        log.info("Creating batch of {} policy requests ({} invalid)", requests.size(), invalid.size());
+
+        return invalid.isEmpty() ? createBatch(valid) : createBatch(valid, invalid);
+    }
+
+    /**
+     * Items are bean-validated as they are parsed: an invalid item is reported as a failure at its
+     * index and never reaches the service. Reading stops as soon as the body holds more than
+     * {@code policy.batch.max-size} items.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Timed(value = "policy.request.create.batch", description = "Time taken to create a batch of policy requests")
+    public ResponseEntity<PolicyBatchResponseDTO> createPolicyRequestsFromNdjson(InputStream body) {
+        List<PolicyRequestDTO> requests = new ArrayList<>();
+        Map<Integer, String> invalid = new HashMap<>();
+
+        try (MappingIterator<PolicyRequestDTO> iterator = objectMapper.readerFor(PolicyRequestDTO.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                if (requests.size() == batchProperties.getMaxSize()) {
+                    throw new IllegalArgumentException(String.format(
+                            "Batch exceeds the maximum of %d items", batchProperties.getMaxSize()));
+                }
+                PolicyRequestDTO request = iterator.nextValue();
+                String violations = violations(request);
+                if (violations != null) {
+                    invalid.put(requests.size(), violations);
+                    request = null;
+                }
+                requests.add(request);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid NDJSON payload at item " + requests.size(), e);
+        }
+
+        log.info("Creating batch of {} policy requests from NDJSON ({} invalid)", requests.size(), invalid.size());
+
+        return invalid.isEmpty() ? createBatch(requests) : createBatch(requests, invalid);
     }
 
+    /**
+     * Responses carry a strong ETag derived from the entity version. Requests in a final status are
+     * served from {@link PolicyResponseCache} as pre-serialized bytes; for the others a conditional
+     * request is answered from {@link PolicyRequestService#findVersion(UUID)}, and the aggregate is
+     * only loaded when the client's copy is stale. Concurrent loads of the same id share one
+     * {@code findSnapshot}, see {@link #loadSnapshot(UUID)}.
+     */
     @GetMapping("/{id}")
     @Timed(value = "policy.request.get", description = "Time taken to get a policy request")
-    public PolicyRequestDTO getPolicyRequest(@PathVariable UUID id) {
+    public ResponseEntity<?> getPolicyRequest(@PathVariable UUID id,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                              WebRequest webRequest) {
         log.debug("Getting policy request with id: {}", id);
-        
-        PolicyRequest entity = service.findById(id);
-        return mapper.toDTO(entity);
+
+        CachedResponse cached = responseCache.get(id);
+        if (cached == null) {
+            if (ifNoneMatch != null) {
+                String current = etag(service.findVersion(id));
+                if (webRequest.checkNotModified(current)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+                }
+            }
+
+            PolicyRequestSnapshot snapshot = loadSnapshot(id);
+            PolicyRequestDTO dto = snapshot.dto();
+
+            if (snapshot.version() == null) {
+                return ResponseEntity.ok(dto);
+            }
+            if (snapshot.status() == null || !snapshot.status().isFinal()) {
+                return ResponseEntity.ok().eTag(etag(snapshot.version())).body(dto);
+            }
+            cached = responseCache.put(id, etag(snapshot.version()), serialize(dto));
+        }
+
+        return cachedResponse(cached, acceptEncoding);
+    }
+
+    /**
+     * With the policy cache enabled, Caffeine already coalesces concurrent loads of an id. Without it,
+     * loads go through {@link SingleFlight}, except for a policy written within the read-after-write
+     * window: the load in flight may have started before that write committed.
+     */
+    private PolicyRequestSnapshot loadSnapshot(UUID id) {
+        if (policyCache.isEnabled() || readAfterWrite.isRecentlyWritten(id)) {
+            return service.findSnapshot(id);
+        }
+        return singleFlight.execute("get-policy", id, () -> service.findSnapshot(id));
     }
 
     @GetMapping("/customer/{customerId}")
     @Timed(value = "policy.request.get.by.customer", description = "Time taken to get policy requests by customer")
-    public List<PolicyRequestDTO> getPolicyRequestsByCustomer(@PathVariable UUID customerId) {
+    public List<PolicyRequestDTO> getPolicyRequestsByCustomer(@PathVariable UUID customerId,
+                                                              @RequestParam(required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since) {
         log.debug("Getting policy requests for customer: {}", customerId);
         
         try {
-            List<PolicyRequest> policyRequests = service.findByCustomerId(customerId);
+            List<PolicyRequest> policyRequests = service.findByCustomerId(customerId, since);
             
             List<PolicyRequestDTO> result = policyRequests.stream()
                     .map(mapper::toDTO)
@@ -76,61 +241,322 @@ public class PolicyRequestController {
         }
     }
 
+    @GetMapping("/customer/{customerId}/page")
+    @Timed(value = "policy.request.get.by.customer.page", description = "Time taken to get a page of policy requests by customer")
+    public PolicyPageDTO getPolicyRequestsPageByCustomer(@PathVariable UUID customerId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "50") int size,
+                                                         @RequestParam(required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since) {
+        log.debug("Getting page of policy requests for customer: {}", customerId);
+
+        PolicyRequestCursor after = cursor != null ? PolicyRequestCursor.decode(cursor) : null;
+        Slice<PolicyRequest> page = service.findPageByCustomerId(customerId, since, after, size);
+
+        List<PolicyRequestDTO> items = page.getContent().stream()
+                .map(mapper::toDTO)
+                .collect(Collectors.toList());
+
+        String nextCursor = page.hasNext()
+                ? PolicyRequestCursor.of(page.getContent().get(page.getNumberOfElements() - 1)).encode()
+                : null;
+
+        return new PolicyPageDTO(items, items.size(), page.hasNext(), nextCursor);
+    }
+
+    @GetMapping(value = "/customer/{customerId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPolicyRequestsByCustomer(@PathVariable UUID customerId,
+                                                                                @RequestParam(required = false)
+                                                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since) {
+        log.debug("Streaming policy requests for customer: {}", customerId);
+
+        StreamingResponseBody body = outputStream -> service.streamByCustomerId(customerId, since, request -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(mapper.toDTO(request)));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPolicyEvents(@PathVariable UUID id) {
+        log.debug("Opening status event stream for policy: {}", id);
+
+        service.findVersion(id);
+        return stream(eventHub.subscribeToPolicy(id));
+    }
+
+    @GetMapping(value = "/customer/{customerId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCustomerEvents(@PathVariable UUID customerId) {
+        log.debug("Opening status event stream for customer: {}", customerId);
+
+        return stream(eventHub.subscribeToCustomer(customerId));
+    }
+
+    @GetMapping("/{id}/history")
+    @Timed(value = "policy.request.history", description = "Time taken to get a page of a policy request's status history")
+    public StatusHistoryPageDTO getStatusHistory(@PathVariable UUID id,
+                                                 @RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "50") int size) {
+        log.debug("Getting status history page {} for policy: {}", page, id);
+
+        Slice<StatusHistory> history = service.findStatusHistory(id, page, size);
+
+        List<StatusHistoryDTO> items = history.getContent().stream()
+                .map(mapper::toStatusHistoryDto)
+                .collect(Collectors.toList());
+
+        return new StatusHistoryPageDTO(items, page, items.size(), history.hasNext());
+    }
+
+    @GetMapping("/{id}/transitions")
+    @Timed(value = "policy.request.transitions", description = "Time taken to list allowed status transitions")
+    public PolicyTransitionsDTO getAllowedTransitions(@PathVariable UUID id) {
+        log.debug("Listing allowed transitions for policy: {}", id);
+
+        return service.getAllowedTransitions(id);
+    }
+
     @PostMapping("/{id}/validate")
     @Timed(value = "policy.request.validate", description = "Time taken to validate a policy request")
-    public ResponseEntity<PolicyValidationResponseDTO> validate(@PathVariable UUID id) {
+    public ResponseEntity<?> validate(@PathVariable UUID id,
+                                      @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         log.info("Validating policy request: {}", id);
-        
-        PolicyValidationResponseDTO response = service.validatePolicyRequest(id);
-        
-        if (response.isValidated()) {
-            return ResponseEntity.ok(response);
-        } else if (response.getStatus() != null) {
-            // Business validation failure
-            return ResponseEntity.badRequest().body(response);
-        } else {
-            // System error
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+
+        return idempotency.execute(idempotencyKey, "validate:" + id, () -> {
+            PolicyValidationResponseDTO response = service.validatePolicyRequest(id);
+
+            if (response.isValidated()) {
+                return ResponseEntity.ok(response);
+            } else if (response.getStatus() != null) {
+                // Business validation failure
+                return ResponseEntity.badRequest().body(response);
+            } else {
+                // System error
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            }
+        });
     }
 
     @PostMapping("/{id}/fraud-analysis")
     @Timed(value = "policy.request.fraud.analysis", description = "Time taken to process fraud analysis")
-    public FraudAnalysisResponseDTO processFraudAnalysis(@PathVariable UUID id) {
+    public ResponseEntity<?> processFraudAnalysis(@PathVariable UUID id,
+                                                  @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         log.info("Processing fraud analysis for policy: {}", id);
-        
-        return service.processFraudAnalysis(id);
+
+        return idempotency.execute(idempotencyKey, "fraud-analysis:" + id,
+                () -> ResponseEntity.ok(service.processFraudAnalysis(id)));
     }
 
     @PostMapping("/{id}/payment")
     @Timed(value = "policy.request.payment", description = "Time taken to process payment")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void processPayment(@PathVariable UUID id) {
+    public ResponseEntity<?> processPayment(@PathVariable UUID id,
+                                            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         log.info("Processing payment for policy: {}", id);
-        
-        service.processPayment(id);
+
+        return idempotency.execute(idempotencyKey, "payment:" + id, () -> {
+            service.processPayment(id);
+            return ResponseEntity.noContent().build();
+        });
     }
 
     @PostMapping("/{id}/subscription")
     @Timed(value = "policy.request.subscription", description = "Time taken to process subscription")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void processSubscription(@PathVariable UUID id) {
+    public ResponseEntity<?> processSubscription(@PathVariable UUID id,
+                                                 @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         log.info("Processing subscription for policy: {}", id);
-        
-        service.processSubscription(id);
+
+        return idempotency.execute(idempotencyKey, "subscription:" + id, () -> {
+            service.processSubscription(id);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @PostMapping("/{id}/process")
+    @Timed(value = "policy.request.process", description = "Time taken to run the full policy workflow")
+    public ResponseEntity<?> processPolicyRequest(@PathVariable UUID id,
+                                                  @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        log.info("Processing policy request end to end: {}", id);
+
+        return idempotency.execute(idempotencyKey, "process:" + id,
+                () -> ResponseEntity.ok(service.processPolicyRequest(id)));
+    }
+
+    @PostMapping("/batch/process")
+    @Timed(value = "policy.request.process.batch", description = "Time taken to run the full policy workflow for a batch")
+    public ResponseEntity<PolicyProcessingBatchResponseDTO> processPolicyRequests(@RequestBody List<UUID> ids) {
+        log.info("Processing batch of {} policy requests end to end", ids.size());
+
+        PolicyProcessingBatchResponseDTO response = service.processPolicyRequests(ids);
+
+        HttpStatus status = response.getNotApproved() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
     }
 
     @PostMapping("/{id}/cancel")
     @Timed(value = "policy.request.cancel", description = "Time taken to cancel a policy request")
-    public ResponseEntity<PolicyCancelResponseDTO> cancelPolicyRequest(@PathVariable UUID id) {
+    public ResponseEntity<?> cancelPolicyRequest(@PathVariable UUID id,
+                                                 @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         log.info("Cancelling policy request: {}", id);
-        
-        PolicyCancelResponseDTO response = service.cancelPolicyRequest(id);
-        
-        if (response.isCancelled()) {
-            return ResponseEntity.ok(response);
-        } else {
-            return ResponseEntity.badRequest().body(response);
+
+        return idempotency.execute(idempotencyKey, "cancel:" + id, () -> {
+            PolicyCancelResponseDTO response = service.cancelPolicyRequest(id);
+
+            if (response.isCancelled()) {
+                return ResponseEntity.ok(response);
+            } else {
+                return ResponseEntity.badRequest().body(response);
+            }
+        });
+    }
+
+    private ResponseEntity<byte[]> cachedResponse(CachedResponse cached, String acceptEncoding) {
+        if (cached.gzip() == null) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(cached.etag())
+                    .body(cached.json());
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .eTag(cached.gzipEtag())
+                    .body(cached.gzip());
+        }
+        return response.eTag(cached.etag()).body(cached.json());
+    }
+
+    /**
+     * Whether Accept-Encoding allows gzip: listed, or covered by {@code *}, with a q-value above zero.
+     * An explicit {@code gzip;q=0} refuses it even when {@code *} is accepted.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzip = null;
+        Double any = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parameters.length; i++) {
+                String[] parameter = parameters[i].split("=", 2);
+                if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                    quality = quality(parameter[1].trim());
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+        }
+        return gzip != null ? gzip > 0 : any != null && any > 0;
+    }
+
+    // A malformed q-value counts as q=0: when in doubt the response goes uncompressed
+    private static double quality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static ResponseEntity<SseEmitter> stream(SseEmitter emitter) {
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(emitter);
+    }
+
+    // The same key with a different body is rejected instead of replaying the first creation response
+    private String digest(PolicyRequestDTO request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(serialize(request)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] serialize(PolicyRequestDTO dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private ResponseEntity<PolicyBatchResponseDTO> createBatch(List<PolicyRequestDTO> requests) {
+        List<PolicyRequest> entities = requests.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+
+        PolicyBatchResponseDTO response = service.createPolicyRequests(entities);
+
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Creates the valid items and merges their results with the failures of the invalid ones, which
+     * are {@code null} in {@code requests}, keeping every result at its item's index.
+     */
+    private ResponseEntity<PolicyBatchResponseDTO> createBatch(List<PolicyRequestDTO> requests,
+                                                               Map<Integer, String> invalid) {
+        List<PolicyRequest> entities = requests.stream()
+                .filter(Objects::nonNull)
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        Iterator<PolicyBatchResponseDTO.ItemResultDTO> created = entities.isEmpty()
+                ? Collections.emptyIterator()
+                : service.createPolicyRequests(entities).getItems().iterator();
+
+        List<PolicyBatchResponseDTO.ItemResultDTO> items = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            if (invalid.containsKey(index)) {
+                items.add(PolicyBatchResponseDTO.ItemResultDTO.failure(index, invalid.get(index)));
+            } else {
+                PolicyBatchResponseDTO.ItemResultDTO item = created.next();
+                item.setIndex(index);
+                items.add(item);
+            }
+        }
+
+        PolicyBatchResponseDTO response = PolicyBatchResponseDTO.of(items);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    private String violations(PolicyRequestDTO request) {
+        if (request == null) {
+            return "item must not be null";
+        }
+        Set<ConstraintViolation<PolicyRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
         }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
-}
\ No newline at end of file
+}
@@ -4,19 +4,24 @@ import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PaymentMethod;
 import com.insurance.domain.enums.PolicyStatus;
 import com.insurance.domain.enums.SalesChannel;
+import com.insurance.infrastructure.cache.PolicyRequestCacheEvictionListener;
+import com.insurance.infrastructure.persistence.routing.ReadAfterWriteListener;
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,13 +31,43 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Fetch plans: coverages and assistances are JSON columns read with the row itself, so only
+ * statusHistory and riskAnalysis need a plan. The detail plan fetches only statusHistory, the one
+ * association the DTO renders; riskAnalysis stays a lazy proxy there. Listings load history through
+ * {@link BatchSize}, at one extra statement per page instead of one per row. The workflow plan
+ * fetches riskAnalysis and leaves statusHistory out: transitions append history rows directly, so
+ * their cost does not grow with the history size.
+ *
+ * <p>In PostgreSQL the table is range partitioned by month on {@code created_at}, and finished
+ * requests are eventually moved to {@code policy_requests_archive} by {@code PolicyArchivalJob}.
+ *
+ * <p>Writes are reported to {@link ReadAfterWriteListener}, which keeps reads of the same request or
+ * customer on the primary database for a short window when replica routing is enabled, and to
+ * {@link PolicyRequestCacheEvictionListener}, which drops the request from the read cache.
+ */
 @Entity
+@EntityListeners({ReadAfterWriteListener.class, PolicyRequestCacheEvictionListener.class})
 @Table(name = "policy_requests")
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = PolicyRequest.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("statusHistory")
+    }),
+    @NamedEntityGraph(name = PolicyRequest.GRAPH_WORKFLOW, attributeNodes = {
+        @NamedAttributeNode("riskAnalysis")
+    })
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class PolicyRequest extends BaseEntity {
 
+    public static final String GRAPH_DETAIL = "PolicyRequest.detail";
+    public static final String GRAPH_WORKFLOW = "PolicyRequest.workflow";
+
     @Column(nullable = false)
     private UUID customerId;
 
@@ -61,31 +96,48 @@ public class PolicyRequest extends BaseEntity {
     @Column(name = "insured_amount", nullable = false)
     private BigDecimal insuredAmount;
 
-    @ElementCollection
-    @CollectionTable(name = "policy_request_coverages", 
-                    joinColumns = @JoinColumn(name = "policy_request_id"))
-    @MapKeyColumn(name = "coverage_name")
-    @Column(name = "coverage_amount")
+    /**
+     * Stored as JSON (jsonb on PostgreSQL) in the policy's own row: creating or changing coverages
+     * issues no inserts/deletes on auxiliary tables. See
+     * {@code db/migration/V2__policy_request_collections_to_jsonb.sql} for migrating the old tables.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "coverages")
     private Map<String, BigDecimal> coverages = new HashMap<>();
 
-    @ElementCollection
-    @CollectionTable(name = "policy_request_assistances", 
-                    joinColumns = @JoinColumn(name = "policy_request_id"))
-    @Column(name = "assistance_name")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "assistances")
     private List<String> assistances = new ArrayList<>();
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "policy_request_id")
+    /**
+     * Read-only: the FK is written through {@link StatusHistory#getPolicyRequestId()} and rows are
+     * inserted by {@code StatusHistoryRepository}, so the collection cascades neither additions nor
+     * removals. Transitions don't initialize it; if it is already loaded, they add the saved row to it.
+     */
+    @OneToMany
+    @BatchSize(size = 100)
+    @JoinColumn(name = "policy_request_id", insertable = false, updatable = false)
     @OrderBy("changedAt DESC")
     private List<StatusHistory> statusHistory = new ArrayList<>();
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "risk_analysis_id")
     private RiskAnalysis riskAnalysis;
 
     @Column(name = "finished_at")
     private LocalDateTime finishedAt;
 
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    /**
+     * Optimistic concurrency version: concurrent transitions on the same policy don't overwrite each
+     * other; the losing one fails on commit and is re-run against the new state.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     public BigDecimal calculateTotalCoverageAmount() {
         return coverages.values()
                        .stream()
@@ -11,6 +11,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -33,6 +34,7 @@ public class RiskAnalysis extends BaseEntity {
     private LocalDateTime analyzedAt;
 
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @JoinColumn(name = "risk_analysis_id")
     private List<RiskOccurrence> occurrences = new ArrayList<>();
 } 
\ No newline at end of file
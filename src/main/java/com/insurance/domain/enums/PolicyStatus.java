@@ -1,10 +1,64 @@
 package com.insurance.domain.enums;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 public enum PolicyStatus {
     RECEIVED,
     VALIDATED,
     PENDING,
     APPROVED,
     REJECTED,
-    CANCELLED
-} 
\ No newline at end of file
+    CANCELLED;
+
+    private static final PolicyStatus[] VALUES = values();
+
+    /**
+     * Transition table: bit {@code to.ordinal()} of {@code NEXT[from.ordinal()]} marks an allowed transition
+     */
+    private static final int[] NEXT = new int[VALUES.length];
+
+    private static final List<Set<PolicyStatus>> NEXT_SETS;
+
+    static {
+        allow(RECEIVED, VALIDATED, REJECTED, CANCELLED);
+        allow(VALIDATED, PENDING, REJECTED, CANCELLED);
+        allow(PENDING, APPROVED, REJECTED, CANCELLED);
+
+        List<Set<PolicyStatus>> sets = new ArrayList<>(VALUES.length);
+        for (PolicyStatus from : VALUES) {
+            EnumSet<PolicyStatus> next = EnumSet.noneOf(PolicyStatus.class);
+            for (PolicyStatus to : VALUES) {
+                if ((NEXT[from.ordinal()] & (1 << to.ordinal())) != 0) {
+                    next.add(to);
+                }
+            }
+            sets.add(Collections.unmodifiableSet(next));
+        }
+        NEXT_SETS = List.copyOf(sets);
+    }
+
+    private static void allow(PolicyStatus from, PolicyStatus... targets) {
+        for (PolicyStatus to : targets) {
+            NEXT[from.ordinal()] |= 1 << to.ordinal();
+        }
+    }
+
+    public boolean canTransitionTo(PolicyStatus next) {
+        return next != null && (NEXT[ordinal()] & (1 << next.ordinal())) != 0;
+    }
+
+    /**
+     * Statuses this one can move to; empty for final statuses
+     */
+    public Set<PolicyStatus> allowedNextStates() {
+        return NEXT_SETS.get(ordinal());
+    }
+
+    public boolean isFinal() {
+        return NEXT[ordinal()] == 0;
+    }
+}
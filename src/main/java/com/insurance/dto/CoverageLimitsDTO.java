@@ -0,0 +1,16 @@
+package com.insurance.dto;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.math.BigDecimal;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverageLimitsDTO {
+    private Map<CustomerRiskType, Map<InsuranceCategory, BigDecimal>> maxInsuredAmount;
+}
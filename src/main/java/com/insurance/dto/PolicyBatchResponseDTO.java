@@ -0,0 +1,46 @@
+package com.insurance.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.insurance.domain.enums.PolicyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyBatchResponseDTO {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<ItemResultDTO> items;
+
+    public static PolicyBatchResponseDTO of(List<ItemResultDTO> items) {
+        int created = (int) items.stream().filter(ItemResultDTO::isCreated).count();
+        return new PolicyBatchResponseDTO(items.size(), created, items.size() - created, items);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResultDTO {
+        private int index;
+        private boolean created;
+        private UUID policyId;
+        private PolicyStatus status;
+        private String error;
+
+        public static ItemResultDTO success(int index, UUID policyId, PolicyStatus status) {
+            return new ItemResultDTO(index, true, policyId, status, null);
+        }
+
+        public static ItemResultDTO failure(int index, String error) {
+            return new ItemResultDTO(index, false, null, null, error);
+        }
+    }
+}
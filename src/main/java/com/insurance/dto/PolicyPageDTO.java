@@ -0,0 +1,19 @@
+package com.insurance.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyPageDTO {
+    private List<PolicyRequestDTO> items;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
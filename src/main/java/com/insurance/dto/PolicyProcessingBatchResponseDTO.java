@@ -0,0 +1,23 @@
+package com.insurance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyProcessingBatchResponseDTO {
+
+    private int total;
+    private int approved;
+    private int notApproved;
+    private List<PolicyProcessingResponseDTO> items;
+
+    public static PolicyProcessingBatchResponseDTO of(List<PolicyProcessingResponseDTO> items) {
+        int approved = (int) items.stream().filter(PolicyProcessingResponseDTO::isApproved).count();
+        return new PolicyProcessingBatchResponseDTO(items.size(), approved, items.size() - approved, items);
+    }
+}
@@ -0,0 +1,82 @@
+package com.insurance.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.StatusHistory;
+import com.insurance.domain.enums.PolicyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyProcessingResponseDTO {
+
+    public enum Step {
+        FRAUD_ANALYSIS,
+        VALIDATION,
+        PAYMENT,
+        SUBSCRIPTION
+    }
+
+    private UUID policyId;
+    private boolean approved;
+    private PolicyStatus status;
+    private Step stoppedAt;
+    private String errorCode;
+    private String reason;
+    private LocalDateTime finishedAt;
+    private List<StatusHistoryDTO> statusHistory;
+
+    public static PolicyProcessingResponseDTO completed(PolicyRequest request, List<StatusHistory> history) {
+        return of(request, history, null, null, null);
+    }
+
+    public static PolicyProcessingResponseDTO stopped(PolicyRequest request, List<StatusHistory> history,
+                                                      Step step, String errorCode, String reason) {
+        return of(request, history, step, errorCode, reason);
+    }
+
+    public static PolicyProcessingResponseDTO notFound(UUID policyId, String reason) {
+        return new PolicyProcessingResponseDTO(policyId, false, null, null, "NOT_FOUND", reason, null, null);
+    }
+
+    public static PolicyProcessingResponseDTO error(UUID policyId, String errorCode, String reason) {
+        return new PolicyProcessingResponseDTO(policyId, false, null, null, errorCode, reason, null, null);
+    }
+
+    private static PolicyProcessingResponseDTO of(PolicyRequest request, List<StatusHistory> entries,
+                                                  Step step, String errorCode, String reason) {
+        List<StatusHistoryDTO> history = entries.stream()
+                .sorted(Comparator.comparing(StatusHistory::getChangedAt))
+                .map(PolicyProcessingResponseDTO::toStatusHistoryDto)
+                .toList();
+
+        return new PolicyProcessingResponseDTO(
+            request.getId(),
+            request.getStatus() == PolicyStatus.APPROVED,
+            request.getStatus(),
+            step,
+            errorCode,
+            reason,
+            request.getFinishedAt(),
+            history
+        );
+    }
+
+    private static StatusHistoryDTO toStatusHistoryDto(StatusHistory entity) {
+        StatusHistoryDTO dto = new StatusHistoryDTO();
+        dto.setStatus(entity.getNewStatus());
+        dto.setPreviousStatus(entity.getPreviousStatus());
+        dto.setTimestamp(entity.getChangedAt());
+        dto.setReason(entity.getReason());
+        return dto;
+    }
+}
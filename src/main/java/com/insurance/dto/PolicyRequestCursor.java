@@ -0,0 +1,46 @@
+package com.insurance.dto;
+
+import com.insurance.domain.PolicyRequest;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over (createdAt, id) used by the paginated customer listing.
+ */
+@Value
+public class PolicyRequestCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime createdAt;
+    UUID id;
+
+    public static PolicyRequestCursor of(PolicyRequest request) {
+        return new PolicyRequestCursor(request.getCreatedAt(), request.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PolicyRequestCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new PolicyRequestCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
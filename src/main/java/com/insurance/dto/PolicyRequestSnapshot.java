@@ -0,0 +1,62 @@
+package com.insurance.dto;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.PolicyStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only view of a policy request taken inside the transaction that loaded it, safe to share
+ * between threads and to keep after the entity is detached. {@link #dto()} hands out a copy on every
+ * call, so callers can never change what other readers see.
+ */
+public record PolicyRequestSnapshot(UUID id, Long version, PolicyStatus status, PolicyRequestDTO dto) {
+
+    public PolicyRequestSnapshot {
+        dto = copy(dto);
+    }
+
+    public static PolicyRequestSnapshot of(PolicyRequest entity, PolicyRequestDTO dto) {
+        return new PolicyRequestSnapshot(entity.getId(), entity.getVersion(), entity.getStatus(), dto);
+    }
+
+    @Override
+    public PolicyRequestDTO dto() {
+        return copy(dto);
+    }
+
+    private static PolicyRequestDTO copy(PolicyRequestDTO source) {
+        PolicyRequestDTO copy = new PolicyRequestDTO();
+        copy.setId(source.getId());
+        copy.setCustomerId(source.getCustomerId());
+        copy.setProductId(source.getProductId());
+        copy.setCategory(source.getCategory());
+        copy.setSalesChannel(source.getSalesChannel());
+        copy.setPaymentMethod(source.getPaymentMethod());
+        copy.setStatus(source.getStatus());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setFinishedAt(source.getFinishedAt());
+        copy.setTotalMonthlyPremiumAmount(source.getTotalMonthlyPremiumAmount());
+        copy.setInsuredAmount(source.getInsuredAmount());
+        copy.setCoverages(source.getCoverages() != null ? new HashMap<>(source.getCoverages()) : null);
+        copy.setAssistances(source.getAssistances() != null ? new ArrayList<>(source.getAssistances()) : null);
+
+        if (source.getHistory() != null) {
+            List<StatusHistoryDTO> history = new ArrayList<>(source.getHistory().size());
+            for (StatusHistoryDTO entry : source.getHistory()) {
+                StatusHistoryDTO item = new StatusHistoryDTO();
+                item.setStatus(entry.getStatus());
+                item.setPreviousStatus(entry.getPreviousStatus());
+                item.setTimestamp(entry.getTimestamp());
+                item.setReason(entry.getReason());
+                history.add(item);
+            }
+            copy.setHistory(history);
+        }
+
+        return copy;
+    }
+}
@@ -0,0 +1,32 @@
+package com.insurance.dto;
+
+import com.insurance.domain.enums.PolicyStatus;
+import com.insurance.event.PolicyRequestEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Status change pushed to Server-Sent Events subscribers; same fields as the {@link PolicyRequestEvent}
+ * published to RabbitMQ, so events from other instances deserialize into it directly.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyStatusEventDTO {
+
+    private UUID eventId;
+    private UUID policyRequestId;
+    private UUID customerId;
+    private PolicyStatus status;
+    private LocalDateTime timestamp;
+    private String eventType;
+
+    public static PolicyStatusEventDTO of(PolicyRequestEvent event) {
+        return new PolicyStatusEventDTO(event.getEventId(), event.getPolicyRequestId(), event.getCustomerId(), event.getStatus(),
+                event.getTimestamp(), event.getEventType());
+    }
+}
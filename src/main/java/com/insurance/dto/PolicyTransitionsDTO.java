@@ -0,0 +1,24 @@
+package com.insurance.dto;
+
+import com.insurance.domain.enums.PolicyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyTransitionsDTO {
+
+    private UUID policyId;
+    private PolicyStatus status;
+    private boolean finalStatus;
+    private Set<PolicyStatus> allowedNextStates;
+
+    public static PolicyTransitionsDTO of(UUID policyId, PolicyStatus status) {
+        return new PolicyTransitionsDTO(policyId, status, status.isFinal(), status.allowedNextStates());
+    }
+}
@@ -8,5 +8,7 @@ import java.time.LocalDateTime;
 @Data
 public class StatusHistoryDTO {
     private PolicyStatus status;
+    private PolicyStatus previousStatus;
     private LocalDateTime timestamp;
+    private String reason;
 } 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.insurance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusHistoryPageDTO {
+    private List<StatusHistoryDTO> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
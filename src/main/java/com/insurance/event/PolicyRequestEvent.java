@@ -10,6 +10,11 @@ import java.util.UUID;
 @Getter
 @RequiredArgsConstructor
 public abstract class PolicyRequestEvent {
+    /**
+     * Identifies this publication of the event; copies delivered by different paths (local dispatch,
+     * RabbitMQ, outbox retries) share it.
+     */
+    private final UUID eventId = UUID.randomUUID();
     private final UUID policyRequestId;
     private final UUID customerId;
     private final PolicyStatus status;
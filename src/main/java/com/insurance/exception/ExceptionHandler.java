@@ -2,10 +2,12 @@ package com.insurance.exception;
 
 import com.insurance.dto.ErrorResponseDTO;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -202,6 +204,41 @@ public class ExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @org.springframework.web.bind.annotation.ExceptionHandler({
+        OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorResponseDTO> handleOptimisticLockingFailure(
+            RuntimeException ex, WebRequest request) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+
+        ErrorResponseDTO error = ErrorResponseDTO.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Concurrent Modification")
+                .message("The resource was modified concurrently, please retry")
+                .errorCode("CONCURRENT_MODIFICATION")
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIdempotencyConflict(
+            IdempotencyConflictException ex, WebRequest request) {
+        logger.warn("Idempotency conflict: {}", ex.getMessage());
+
+        ErrorResponseDTO error = ErrorResponseDTO.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Request In Progress")
+                .message(ex.getMessage())
+                .errorCode("IDEMPOTENCY_KEY_IN_PROGRESS")
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @org.springframework.web.bind.annotation.ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleGenericException(
             Exception ex, WebRequest request) {
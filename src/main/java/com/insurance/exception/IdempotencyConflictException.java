@@ -0,0 +1,11 @@
+package com.insurance.exception;
+
+/**
+ * A request with the same Idempotency-Key is still being processed.
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String idempotencyKey) {
+        super("A request with Idempotency-Key " + idempotencyKey + " is still in progress");
+    }
+}
@@ -0,0 +1,117 @@
+package com.insurance.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.insurance.dto.PolicyRequestSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Size- and TTL-bounded cache of {@link PolicyRequestSnapshot}s, each built inside the transaction
+ * that loaded the request, so no entity, lazy collection or persistence context outlives it. Entries
+ * are evicted whenever the request is written, both at flush time and again after commit, so a reader
+ * that loaded the pre-commit row cannot leave it behind; see {@link PolicyRequestCacheEvictionListener}.
+ *
+ * <p>Workflow steps never read through this cache: they need a managed, versioned entity for
+ * optimistic locking and load it from the database.
+ */
+@Component
+public class PolicyRequestCache {
+
+    static final String CACHE_NAME = "policy-requests";
+
+    private final PolicyRequestCacheProperties properties;
+    private final Cache<UUID, PolicyRequestSnapshot> cache;
+    private final Counter writeInvalidations;
+    private final Counter eventInvalidations;
+
+    public PolicyRequestCache(PolicyRequestCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, "service", "policy-service");
+        this.writeInvalidations = invalidations(meterRegistry, "write");
+        this.eventInvalidations = invalidations(meterRegistry, "event");
+    }
+
+    /**
+     * Returns the cached snapshot or loads it; exceptions thrown by the loader propagate and nothing
+     * is cached. With the cache disabled the loader is always called.
+     */
+    public PolicyRequestSnapshot get(UUID id, Function<UUID, PolicyRequestSnapshot> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Whether reads go through the cache; Caffeine then also coalesces concurrent loads of one id.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Returns the cached snapshot without loading it, or {@code null} when absent or disabled.
+     */
+    public PolicyRequestSnapshot getIfPresent(UUID id) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Evicts {@code id} now and, inside a transaction, once more after it completes.
+     */
+    public void evictOnWrite(UUID id) {
+        if (!properties.isEnabled() || id == null) {
+            return;
+        }
+        cache.invalidate(id);
+        writeInvalidations.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts {@code id} on behalf of a status event, typically published by another instance.
+     */
+    public void evictOnEvent(UUID id) {
+        if (!properties.isEnabled() || id == null) {
+            return;
+        }
+        cache.invalidate(id);
+        eventInvalidations.increment();
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static Counter invalidations(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("insurance.policy.cache.invalidations.total")
+                .tag("service", "policy-service")
+                .tag("source", source)
+                .description("Policy requests evicted from the cache after a write or a status event")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.insurance.infrastructure.cache;
+
+import com.insurance.domain.PolicyRequest;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener that evicts a policy request from {@link PolicyRequestCache} on every update or
+ * delete flushed through the persistence context, which covers all status transitions.
+ */
+public class PolicyRequestCacheEvictionListener {
+
+    private final ObjectProvider<PolicyRequestCache> cache;
+
+    public PolicyRequestCacheEvictionListener(ObjectProvider<PolicyRequestCache> cache) {
+        this.cache = cache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void written(PolicyRequest policyRequest) {
+        cache.ifAvailable(c -> c.evictOnWrite(policyRequest.getId()));
+    }
+}
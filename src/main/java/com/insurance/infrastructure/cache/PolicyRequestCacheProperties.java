@@ -0,0 +1,36 @@
+package com.insurance.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of policies read by id (GET /{id} and allowed transitions)
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.cache")
+@Data
+public class PolicyRequestCacheProperties {
+
+    /**
+     * When off, every read by id goes to the database
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached policies; beyond that the least used are discarded
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Maximum lifetime of a cache entry; bounds staleness when an invalidation is lost
+     */
+    private long expireAfterWriteMs = 60_000;
+
+    /**
+     * Also evicts on the status events every instance publishes. Without it a write on another
+     * instance goes unnoticed here, and the old snapshot and its version, used as ETag, are served
+     * until expire-after-write-ms; only turn it off for a single instance
+     */
+    private boolean eventInvalidation = true;
+}
@@ -0,0 +1,84 @@
+package com.insurance.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-serialized JSON of policy requests in a final status. Once a request is APPROVED, REJECTED or
+ * CANCELLED the state machine allows no further transition, so its representation never changes and
+ * needs no invalidation; the TTL only bounds how long an archived request keeps being served.
+ *
+ * <p>Only callers that have checked {@code PolicyStatus.isFinal()} may {@link #put} a response.
+ */
+@Component
+public class PolicyResponseCache {
+
+    static final String CACHE_NAME = "policy-responses";
+
+    private final PolicyResponseCacheProperties properties;
+    private final Cache<UUID, CachedResponse> cache;
+
+    public PolicyResponseCache(PolicyResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, "service", "policy-service");
+    }
+
+    /**
+     * Returns the cached response, or {@code null} when absent or the cache is disabled.
+     */
+    public CachedResponse get(UUID id) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Stores the serialized response of a finalized request and returns it; with the cache disabled
+     * the response is returned without being stored.
+     */
+    public CachedResponse put(UUID id, String etag, byte[] json) {
+        CachedResponse response = new CachedResponse(etag, json, properties.isGzip() ? gzip(json) : null);
+        if (properties.isEnabled()) {
+            cache.put(id, response);
+        }
+        return response;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * A response body with its strong ETag; {@code gzip} is {@code null} unless pre-compression is on.
+     */
+    public record CachedResponse(String etag, byte[] json, byte[] gzip) {
+
+        /**
+         * Strong validators must differ per content coding, so the gzip variant gets its own ETag.
+         */
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+    }
+}
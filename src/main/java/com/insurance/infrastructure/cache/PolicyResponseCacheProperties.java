@@ -0,0 +1,34 @@
+package com.insurance.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the already serialized JSON responses of policies in a final status (GET /{id})
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.response-cache")
+@Data
+public class PolicyResponseCacheProperties {
+
+    /**
+     * When off, every read by id is mapped and serialized again
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached responses; beyond that the least used are discarded
+     */
+    private long maximumSize = 50_000;
+
+    /**
+     * Maximum lifetime of a cached response; bounds how long an archived policy keeps being served
+     */
+    private long expireAfterWriteMs = 3_600_000;
+
+    /**
+     * Also keeps a gzip copy, served to clients that send Accept-Encoding: gzip
+     */
+    private boolean gzip = false;
+}
@@ -0,0 +1,248 @@
+package com.insurance.infrastructure.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.RiskOccurrence;
+import com.insurance.exception.BusinessException;
+import com.insurance.infrastructure.client.dto.FraudAnalysisRequest;
+import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import com.insurance.service.FraudAnalysisService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link FraudAnalysisService} backed by the external fraud API.
+ *
+ * <p>Calls go through the JDK {@link HttpClient}, which keeps connections alive and reuses them, and
+ * are sent asynchronously so no request thread is held while waiting on the network. Every call is
+ * bounded by {@code fraud.api.timeout-ms}. A semaphore bulkhead caps concurrent calls and rejects
+ * the excess immediately, and a circuit breaker stops calling the provider while it is failing.
+ * Failures surface as {@link BusinessException} with a {@code FRAUD_API_*} error code.
+ */
+@Service
+@Primary
+@Slf4j
+@ConditionalOnProperty(prefix = "fraud.api", name = "enabled", havingValue = "true")
+public class FraudApiClient implements FraudAnalysisService {
+
+    static final String NAME = "fraudApi";
+
+    private final FraudApiProperties properties;
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public FraudApiClient(FraudApiProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.endpoint = URI.create(properties.getUrl());
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.getIoThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "fraud-api-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .executor(executor)
+                .build();
+
+        FraudApiProperties.CircuitBreaker breaker = properties.getCircuitBreaker();
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(breaker.getFailureRateThreshold())
+                .slidingWindowSize(breaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(breaker.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(Duration.ofMillis(breaker.getWaitDurationInOpenStateMs()))
+                .permittedNumberOfCallsInHalfOpenState(breaker.getPermittedCallsInHalfOpenState())
+                .build());
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.circuitBreaker = circuitBreakers.circuitBreaker(NAME);
+        this.bulkhead = bulkheads.bulkhead(NAME);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public RiskAnalysis analyzeFraud(PolicyRequest request) {
+        try {
+            return analyzeFraudAsync(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException("Fraud API call failed", "FRAUD_API_ERROR", e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<RiskAnalysis> analyzeFraudAsync(PolicyRequest request) {
+        if (request == null || request.getId() == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Policy request ID cannot be null"));
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            record("rejected", 0);
+            return CompletableFuture.failedFuture(new BusinessException(
+                    "Too many concurrent fraud API calls", "FRAUD_API_BULKHEAD_FULL"));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            record("rejected", 0);
+            return CompletableFuture.failedFuture(new BusinessException(
+                    "Fraud API circuit breaker is open", "FRAUD_API_CIRCUIT_OPEN"));
+        }
+
+        long start = System.nanoTime();
+        try {
+            HttpRequest httpRequest = HttpRequest.newBuilder(endpoint)
+                    .timeout(Duration.ofMillis(properties.getTimeoutMs()))
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(FraudAnalysisRequest.from(request))))
+                    .build();
+
+            return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                    .orTimeout(properties.getTimeoutMs(), TimeUnit.MILLISECONDS)
+                    .thenApply(response -> toRiskAnalysis(request, response))
+                    .handle((analysis, error) -> {
+                        long elapsed = System.nanoTime() - start;
+                        bulkhead.onComplete();
+                        if (error == null) {
+                            circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                            record("success", elapsed);
+                            return analysis;
+                        }
+                        Throwable cause = unwrap(error);
+                        circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, cause);
+                        record(isTimeout(cause) ? "timeout" : "error", elapsed);
+                        throw new CompletionException(translate(request, cause));
+                    });
+        } catch (JsonProcessingException | RuntimeException e) {
+            bulkhead.onComplete();
+            circuitBreaker.releasePermission();
+            return CompletableFuture.failedFuture(
+                    new BusinessException("Failed to build fraud API request", "FRAUD_API_ERROR", e));
+        }
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private RiskAnalysis toRiskAnalysis(PolicyRequest request, HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new BusinessException("Fraud API returned HTTP " + response.statusCode(), "FRAUD_API_ERROR");
+        }
+
+        FraudAnalysisResponse body;
+        try {
+            body = objectMapper.readValue(response.body(), FraudAnalysisResponse.class);
+        } catch (IOException e) {
+            throw new BusinessException("Invalid fraud API response", "FRAUD_API_ERROR", e);
+        }
+        if (body.getClassification() == null) {
+            throw new BusinessException("Fraud API response without classification", "FRAUD_API_ERROR");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        RiskAnalysis analysis = new RiskAnalysis();
+        analysis.setClassification(body.getClassification());
+        analysis.setAnalyzedAt(body.getAnalyzedAt() != null ? body.getAnalyzedAt() : now);
+
+        List<RiskOccurrence> occurrences = new ArrayList<>();
+        if (body.getOccurrences() != null) {
+            for (FraudAnalysisResponse.RiskOccurrenceResponse item : body.getOccurrences()) {
+                RiskOccurrence occurrence = new RiskOccurrence();
+                occurrence.setType(item.getType());
+                occurrence.setDescription(item.getDescription());
+                occurrence.setCreatedAt(item.getCreatedAt() != null ? item.getCreatedAt() : now);
+                occurrence.setUpdatedAt(item.getUpdatedAt() != null ? item.getUpdatedAt() : occurrence.getCreatedAt());
+                occurrences.add(occurrence);
+            }
+        }
+        analysis.setOccurrences(occurrences);
+
+        log.debug("Fraud API classified policy {} as {}", request.getId(), analysis.getClassification());
+        return analysis;
+    }
+
+    private RuntimeException translate(PolicyRequest request, Throwable cause) {
+        if (cause instanceof BusinessException businessException) {
+            return businessException;
+        }
+        if (isTimeout(cause)) {
+            return new BusinessException("Fraud API timed out for policy " + request.getId(),
+                    "FRAUD_API_TIMEOUT", cause);
+        }
+        return new BusinessException("Fraud API call failed for policy " + request.getId(),
+                "FRAUD_API_ERROR", cause);
+    }
+
+    private void record(String outcome, long elapsedNanos) {
+        Timer.builder("insurance.fraud.api.duration")
+                .description("Fraud API call latency by outcome")
+                .tag("service", "policy-service")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        return error instanceof TimeoutException || error instanceof HttpTimeoutException;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,75 @@
+package com.insurance.infrastructure.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP client for the external fraud analysis API
+ */
+@Component
+@ConfigurationProperties(prefix = "fraud.api")
+@Data
+public class FraudApiProperties {
+
+    /**
+     * Fraud analysis endpoint
+     */
+    private String url;
+
+    /**
+     * When enabled, fraud analysis is delegated to the external API instead of the local rules
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum time to open a connection
+     */
+    private long connectTimeoutMs = 500;
+
+    /**
+     * Overall deadline of each call, from sending to the complete response
+     */
+    private long timeoutMs = 2000;
+
+    /**
+     * Concurrent calls allowed; beyond that a call fails immediately
+     */
+    private int maxConcurrentCalls = 20;
+
+    /**
+     * HTTP client threads that process responses
+     */
+    private int ioThreads = 4;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Data
+    public static class CircuitBreaker {
+
+        /**
+         * Failure rate percentage that opens the circuit
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * Number of calls used to compute the failure rate
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * Minimum number of calls before the circuit can open
+         */
+        private int minimumNumberOfCalls = 10;
+
+        /**
+         * Time the circuit stays open before trial calls are let through
+         */
+        private long waitDurationInOpenStateMs = 30000;
+
+        /**
+         * Trial calls allowed while the circuit is half-open
+         */
+        private int permittedCallsInHalfOpenState = 3;
+    }
+}
@@ -0,0 +1,34 @@
+package com.insurance.infrastructure.client.dto;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.PaymentMethod;
+import com.insurance.domain.enums.SalesChannel;
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.Data;
+
+@Data
+public class FraudAnalysisRequest {
+    private UUID orderId;
+    private UUID customerId;
+    private UUID productId;
+    private InsuranceCategory category;
+    private SalesChannel salesChannel;
+    private PaymentMethod paymentMethod;
+    private BigDecimal insuredAmount;
+    private BigDecimal totalMonthlyPremiumAmount;
+
+    public static FraudAnalysisRequest from(PolicyRequest request) {
+        FraudAnalysisRequest body = new FraudAnalysisRequest();
+        body.setOrderId(request.getId());
+        body.setCustomerId(request.getCustomerId());
+        body.setProductId(request.getProductId());
+        body.setCategory(request.getCategory());
+        body.setSalesChannel(request.getSalesChannel());
+        body.setPaymentMethod(request.getPaymentMethod());
+        body.setInsuredAmount(request.getInsuredAmount());
+        body.setTotalMonthlyPremiumAmount(request.getTotalMonthlyPremiumAmount());
+        return body;
+    }
+}
@@ -0,0 +1,24 @@
+package com.insurance.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulk ingestion of policy requests
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.batch")
+@Data
+public class PolicyBatchProperties {
+
+    /**
+     * Maximum number of items accepted in a single batch request
+     */
+    private int maxSize = 10000;
+
+    /**
+     * Entities persisted before each flush/clear of the persistence context
+     */
+    private int chunkSize = 500;
+}
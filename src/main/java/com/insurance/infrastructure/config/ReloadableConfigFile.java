@@ -0,0 +1,61 @@
+package com.insurance.infrastructure.config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.PropertiesPropertySource;
+
+/**
+ * External .properties file that overrides a {@code @ConfigurationProperties} class at runtime.
+ * Keys are the same as in application.properties; anything missing from the file falls back to the
+ * defaults of the class, not to the values the application started with. The file is only
+ * considered loaded once the consumer accepts it, so a rejected file is retried on the next poll.
+ */
+public class ReloadableConfigFile {
+
+    private final Path path;
+    private final String prefix;
+    private volatile long loadedModified = -1;
+
+    public ReloadableConfigFile(String file, String prefix) {
+        this.path = file == null || file.isBlank() ? null : Path.of(file);
+        this.prefix = prefix;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return {@code true} if the file changed and was applied
+     */
+    public <T> boolean reloadIfChanged(Supplier<T> defaults, Consumer<T> apply) throws IOException {
+        if (path == null || !Files.exists(path)) {
+            return false;
+        }
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        if (modified == loadedModified) {
+            return false;
+        }
+
+        Properties source = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            source.load(reader);
+        }
+        T target = defaults.get();
+        new Binder(ConfigurationPropertySources.from(new PropertiesPropertySource(path.toString(), source)))
+                .bind(prefix, Bindable.ofInstance(target));
+
+        apply.accept(target);
+        loadedModified = modified;
+        return true;
+    }
+}
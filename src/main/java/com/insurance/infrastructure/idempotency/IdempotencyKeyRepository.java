@@ -0,0 +1,107 @@
+package com.insurance.infrastructure.idempotency;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL-only operations over {@code idempotency_keys}, created by the {@code V5} migration.
+ * A key is claimed with a row whose {@code status_code} is null and completed once the response is
+ * known, so an instance that finds an incomplete row knows another one is still executing it.
+ *
+ * <p>A claim only holds a short lease in {@code expires_at}; completing the key extends it to the
+ * replay TTL. The claim's {@code created_at} identifies its owner, so an owner whose lease expired and
+ * was taken over can no longer complete or release the new owner's row.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "policy.idempotency", name = "persistent", havingValue = "true")
+public class IdempotencyKeyRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Returns {@code true} when this call inserted the row, or took over an expired one, and therefore
+     * owns the key until {@code leaseExpiresAt}.
+     */
+    public boolean claim(String key, String fingerprint, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        return entityManager.createNativeQuery("""
+                        INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at, expires_at)
+                        VALUES (:key, :fingerprint, :now, :expiresAt)
+                        ON CONFLICT (idempotency_key) DO UPDATE
+                           SET fingerprint = EXCLUDED.fingerprint, status_code = NULL, body = NULL,
+                               created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+                         WHERE idempotency_keys.expires_at <= EXCLUDED.created_at
+                        """)
+                .setParameter("key", key)
+                .setParameter("fingerprint", fingerprint)
+                .setParameter("now", now)
+                .setParameter("expiresAt", leaseExpiresAt)
+                .executeUpdate() == 1;
+    }
+
+    /**
+     * Returns the stored row of a live key, with a {@code null} status code while it is in progress,
+     * or {@code null} when there is none.
+     */
+    public IdempotentResponse find(String key, LocalDateTime now) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT fingerprint, status_code, body FROM idempotency_keys
+                         WHERE idempotency_key = :key AND expires_at > :now
+                        """)
+                .setParameter("key", key)
+                .setParameter("now", now)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        int statusCode = row[1] != null ? ((Number) row[1]).intValue() : 0;
+        String body = row[2] != null && !((String) row[2]).isEmpty() ? (String) row[2] : null;
+        return new IdempotentResponse((String) row[0], statusCode, body);
+    }
+
+    /**
+     * Stores the response of a key claimed at {@code claimedAt} and keeps it until {@code expiresAt}.
+     * Returns {@code false} when the claim was lost to another instance after its lease expired.
+     */
+    public boolean complete(String key, LocalDateTime claimedAt, IdempotentResponse response, LocalDateTime expiresAt) {
+        return entityManager.createNativeQuery("""
+                        UPDATE idempotency_keys SET status_code = :statusCode, body = :body, expires_at = :expiresAt
+                         WHERE idempotency_key = :key AND created_at = :claimedAt AND status_code IS NULL
+                        """)
+                .setParameter("key", key)
+                .setParameter("claimedAt", claimedAt)
+                .setParameter("statusCode", response.getStatusCode())
+                // Responses without a body are stored as empty text
+                .setParameter("body", response.getBody() != null ? response.getBody() : "")
+                .setParameter("expiresAt", expiresAt)
+                .executeUpdate() == 1;
+    }
+
+    /**
+     * Drops the unfinished claim made at {@code claimedAt} so the key can be retried after a failure.
+     */
+    public void release(String key, LocalDateTime claimedAt) {
+        entityManager.createNativeQuery("""
+                        DELETE FROM idempotency_keys
+                         WHERE idempotency_key = :key AND created_at = :claimedAt AND status_code IS NULL
+                        """)
+                .setParameter("key", key)
+                .setParameter("claimedAt", claimedAt)
+                .executeUpdate();
+    }
+
+    /**
+     * Removes expired keys, including claims whose owner died before completing them.
+     */
+    public int deleteExpired(LocalDateTime now) {
+        return entityManager.createNativeQuery("DELETE FROM idempotency_keys WHERE expires_at <= :now")
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
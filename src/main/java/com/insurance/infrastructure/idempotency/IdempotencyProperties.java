@@ -0,0 +1,50 @@
+package com.insurance.infrastructure.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handling of the Idempotency-Key header on policy creation and the workflow steps
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.idempotency")
+@Data
+public class IdempotencyProperties {
+
+    /**
+     * When off, the header is ignored and every request is executed
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long the response of a key is replayed
+     */
+    private long ttlMs = 86_400_000;
+
+    /**
+     * Maximum number of keys kept in memory per instance
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * How long a duplicate request waits for the original in progress before answering 409
+     */
+    private long inFlightWaitMs = 10_000;
+
+    /**
+     * Stores the responses in the idempotency_keys table, so instances recognize each other's keys
+     */
+    private boolean persistent = false;
+
+    /**
+     * Lease of an in-progress key claim in the table, in multiples of in-flight-wait-ms; if the owning
+     * instance dies, the key becomes available again after this lease rather than the whole TTL
+     */
+    private int claimLeaseMultiplier = 3;
+
+    /**
+     * Interval between purges of expired keys from the table
+     */
+    private long purgeIntervalMs = 600_000;
+}
@@ -0,0 +1,241 @@
+package com.insurance.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.insurance.exception.BusinessException;
+import com.insurance.exception.IdempotencyConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes a request at most once per Idempotency-Key and replays the stored status and body for
+ * retries. Concurrent duplicates on the same instance wait for the in-flight original instead of
+ * running it again; with {@code persistent} enabled the key is also claimed in
+ * {@code idempotency_keys}, and a duplicate arriving on another instance while the original runs
+ * gets {@link IdempotencyConflictException}. The database claim is a lease of
+ * {@code inFlightWaitMs * claimLeaseMultiplier}, extended to the TTL once the response is stored, so a
+ * key whose owner died becomes usable again after the lease rather than after the whole TTL.
+ *
+ * <p>Only 2xx and 4xx responses are stored. A request that fails with an exception or a 5xx releases
+ * its key, so the client's retry executes it again.
+ */
+@Component
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<IdempotencyKeyRepository> repository;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncCache<String, IdempotentResponse> responses;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+
+    public IdempotencyService(IdempotencyProperties properties, ObjectMapper objectMapper,
+                              ObjectProvider<IdempotencyKeyRepository> repository,
+                              TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+                .buildAsync();
+        this.executed = requests(meterRegistry, "executed");
+        this.replayed = requests(meterRegistry, "replayed");
+        this.coalesced = requests(meterRegistry, "coalesced");
+    }
+
+    /**
+     * Runs {@code action} unless {@code key} was already used, in which case the stored response is
+     * returned. {@code fingerprint} identifies the operation and its input; reusing a key for a
+     * different one is rejected.
+     */
+    public ResponseEntity<?> execute(String key, String fingerprint, Supplier<ResponseEntity<?>> action) {
+        if (key == null || !properties.isEnabled()) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        while (true) {
+            CompletableFuture<IdempotentResponse> owned = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> existing = responses.asMap().putIfAbsent(key, owned);
+
+            if (existing == null) {
+                return executeOwned(key, fingerprint, action, owned);
+            }
+
+            boolean inFlight = !existing.isDone();
+            IdempotentResponse response = await(key, existing);
+            if (response != null) {
+                return replay(response, fingerprint, inFlight ? coalesced : replayed);
+            }
+            // The original failed and released the key, so this request runs it instead
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${policy.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        IdempotencyKeyRepository keys = repository.getIfAvailable();
+        if (keys == null) {
+            return;
+        }
+        Integer purged = transactionTemplate.execute(status -> keys.deleteExpired(LocalDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private ResponseEntity<?> executeOwned(String key, String fingerprint, Supplier<ResponseEntity<?>> action,
+                                           CompletableFuture<IdempotentResponse> owned) {
+        IdempotencyKeyRepository keys = repository.getIfAvailable();
+        // Same precision as the timestamp(6) column, since the claim time identifies the owner
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        try {
+            if (keys != null) {
+                IdempotentResponse stored = claim(keys, key, fingerprint, claimedAt);
+                if (stored != null) {
+                    owned.complete(stored);
+                    return replay(stored, fingerprint, replayed);
+                }
+            }
+
+            ResponseEntity<?> result = action.get();
+            executed.increment();
+            if (result.getStatusCode().is5xxServerError()) {
+                release(key, owned, keys, claimedAt);
+                return result;
+            }
+
+            IdempotentResponse response = new IdempotentResponse(fingerprint, result.getStatusCode().value(),
+                    serialize(result.getBody()));
+            if (keys != null) {
+                complete(keys, key, claimedAt, response);
+            }
+            owned.complete(response);
+            return result;
+        } catch (IdempotencyConflictException e) {
+            release(key, owned, null, claimedAt);
+            throw e;
+        } catch (RuntimeException e) {
+            release(key, owned, keys, claimedAt);
+            throw e;
+        }
+    }
+
+    private void release(String key, CompletableFuture<IdempotentResponse> owned, IdempotencyKeyRepository keys,
+                         LocalDateTime claimedAt) {
+        responses.asMap().remove(key, owned);
+        owned.complete(null);
+        if (keys != null) {
+            transactionTemplate.executeWithoutResult(status -> keys.release(key, claimedAt));
+        }
+    }
+
+    /**
+     * Claims the key in the database for a lease; returns the stored response when another request
+     * already completed it, or {@code null} when this request owns it.
+     */
+    private IdempotentResponse claim(IdempotencyKeyRepository keys, String key, String fingerprint,
+                                     LocalDateTime claimedAt) {
+        LocalDateTime leaseExpiresAt = claimedAt.plus(Duration.ofMillis(
+                properties.getInFlightWaitMs() * Math.max(1, properties.getClaimLeaseMultiplier())));
+        Boolean claimed = transactionTemplate.execute(status ->
+                keys.claim(key, fingerprint, claimedAt, leaseExpiresAt));
+        if (Boolean.TRUE.equals(claimed)) {
+            return null;
+        }
+
+        IdempotentResponse stored = transactionTemplate.execute(status -> keys.find(key, claimedAt));
+        if (stored == null || stored.getStatusCode() == 0) {
+            throw new IdempotencyConflictException(key);
+        }
+        return stored;
+    }
+
+    private void complete(IdempotencyKeyRepository keys, String key, LocalDateTime claimedAt,
+                          IdempotentResponse response) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(properties.getTtlMs()));
+        Boolean completed = transactionTemplate.execute(status -> keys.complete(key, claimedAt, response, expiresAt));
+        if (!Boolean.TRUE.equals(completed)) {
+            log.warn("Idempotency key {} outlived its lease and was claimed by another request; response not stored",
+                    key);
+        }
+    }
+
+    private IdempotentResponse await(String key, CompletableFuture<IdempotentResponse> inFlight) {
+        try {
+            return inFlight.get(properties.getInFlightWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(key);
+        } catch (ExecutionException e) {
+            // Failures release the key by completing with null; this is only a safeguard
+            return null;
+        }
+    }
+
+    private ResponseEntity<?> replay(IdempotentResponse response, String fingerprint, Counter outcome) {
+        if (!response.getFingerprint().equals(fingerprint)) {
+            throw new BusinessException(HEADER + " was already used for a different request", "IDEMPOTENCY_KEY_REUSED");
+        }
+        outcome.increment();
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.valueOf(response.getStatusCode()))
+                .header(REPLAYED_HEADER, "true");
+        if (response.getBody() == null) {
+            return builder.build();
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(response.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String serialize(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("insurance.policy.idempotency.requests.total")
+                .tag("service", "policy-service")
+                .tag("outcome", outcome)
+                .description("Requests carrying an Idempotency-Key, by how they were answered")
+                .register(meterRegistry);
+    }
+}
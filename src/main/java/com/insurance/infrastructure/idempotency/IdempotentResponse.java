@@ -0,0 +1,17 @@
+package com.insurance.infrastructure.idempotency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stored outcome of a request made with an Idempotency-Key: the status and JSON body sent back,
+ * and the fingerprint of the request that produced them.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdempotentResponse {
+
+    private final String fingerprint;
+    private final int statusCode;
+    private final String body;
+}
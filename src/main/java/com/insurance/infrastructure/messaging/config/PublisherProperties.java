@@ -0,0 +1,45 @@
+package com.insurance.infrastructure.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pipelined event publishing to RabbitMQ
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.events.publisher")
+@Data
+public class PublisherProperties {
+
+    /**
+     * When enabled, events outside the outbox are queued and sent in batches with asynchronous confirms.
+     * An unconfirmed event is only resent (through the outbox) if policy.events.outbox.enabled is on too
+     */
+    private boolean pipelined = false;
+
+    /**
+     * Maximum number of messages sent and not yet confirmed by the broker
+     */
+    private int maxInFlight = 1024;
+
+    /**
+     * Maximum number of messages sent on the same channel per batch
+     */
+    private int batchSize = 50;
+
+    /**
+     * How long a batch waits for more messages before it is sent
+     */
+    private long lingerMs = 2;
+
+    /**
+     * Maximum time to wait for the confirm of a message
+     */
+    private long confirmTimeoutMs = 5000;
+
+    /**
+     * Maximum time a publish waits for room in the in-flight window
+     */
+    private long enqueueTimeoutMs = 1000;
+}
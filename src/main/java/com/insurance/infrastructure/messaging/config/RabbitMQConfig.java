@@ -20,6 +20,8 @@ public class RabbitMQConfig {
     public static final String POLICY_VALIDATED_KEY = "policy.validated";
     public static final String POLICY_REJECTED_KEY = "policy.rejected";
     public static final String POLICY_APPROVED_KEY = "policy.approved";
+    public static final String POLICY_CANCELLED_KEY = "policy.cancelled";
+    public static final String POLICY_STATUS_CHANGED_KEY = "policy.status.changed";
     public static final String PAYMENT_PROCESSED_KEY = "payment.processed";
     public static final String PAYMENT_REJECTED_KEY = "payment.rejected";
 
@@ -0,0 +1,49 @@
+package com.insurance.infrastructure.messaging.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.infrastructure.cache.PolicyRequestCache;
+import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached policy requests when any instance publishes an event for them. Each instance binds
+ * its own anonymous, auto-delete queue to the policy events exchange, so every instance sees every
+ * event; the payload is read as a tree because only {@code policyRequestId} matters here.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "policy.cache", name = "event-invalidation", havingValue = "true",
+        matchIfMissing = true)
+public class PolicyCacheInvalidationConsumer {
+
+    private final PolicyRequestCache cache;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = RabbitMQConfig.POLICY_EVENTS_EXCHANGE, type = ExchangeTypes.TOPIC),
+            key = "#"))
+    public void onPolicyEvent(Message message) {
+        try {
+            JsonNode policyRequestId = objectMapper.readTree(message.getBody()).get("policyRequestId");
+            if (policyRequestId != null && policyRequestId.isTextual()) {
+                cache.evictOnEvent(UUID.fromString(policyRequestId.asText()));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring policy event that could not be read for cache invalidation: {}", e.getMessage());
+        }
+    }
+}
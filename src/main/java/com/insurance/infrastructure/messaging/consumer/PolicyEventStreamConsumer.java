@@ -0,0 +1,48 @@
+package com.insurance.infrastructure.messaging.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.dto.PolicyStatusEventDTO;
+import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import com.insurance.infrastructure.streaming.PolicyEventHub;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds {@link PolicyEventHub} with the status changes published by every instance, so subscribers
+ * connected here also see transitions executed elsewhere. Like {@link PolicyCacheInvalidationConsumer}
+ * each instance binds its own anonymous, auto-delete queue; the hub drops the copies of changes that
+ * it already dispatched locally.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "policy.events.stream", name = "rabbit-fanout", havingValue = "true",
+        matchIfMissing = true)
+public class PolicyEventStreamConsumer {
+
+    private final PolicyEventHub hub;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = RabbitMQConfig.POLICY_EVENTS_EXCHANGE, type = ExchangeTypes.TOPIC),
+            key = {RabbitMQConfig.POLICY_VALIDATED_KEY, RabbitMQConfig.PAYMENT_PROCESSED_KEY,
+                   RabbitMQConfig.POLICY_APPROVED_KEY, RabbitMQConfig.POLICY_REJECTED_KEY,
+                   RabbitMQConfig.POLICY_CANCELLED_KEY, RabbitMQConfig.POLICY_STATUS_CHANGED_KEY}))
+    public void onStatusEvent(Message message) {
+        try {
+            hub.publish(objectMapper.readValue(message.getBody(), PolicyStatusEventDTO.class));
+        } catch (IOException e) {
+            log.warn("Ignoring policy event that could not be read for streaming: {}", e.getMessage());
+        }
+    }
+}
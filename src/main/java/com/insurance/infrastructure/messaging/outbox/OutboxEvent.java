@@ -0,0 +1,89 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+import com.insurance.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+
+/**
+ * Serialized AMQP message written in the same transaction as the business change and relayed to
+ * the broker by {@link OutboxRelay} after commit.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "type_id")
+    private String typeId;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "content_encoding")
+    private String contentEncoding;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "last_attempt_at")
+    private LocalDateTime lastAttemptAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public static OutboxEvent of(String exchange, String routingKey, String eventType, Message message) {
+        MessageProperties properties = message.getMessageProperties();
+
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setExchange(exchange);
+        outboxEvent.setRoutingKey(routingKey);
+        outboxEvent.setEventType(eventType);
+        outboxEvent.setTypeId(properties.getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+        outboxEvent.setContentType(properties.getContentType());
+        outboxEvent.setContentEncoding(properties.getContentEncoding());
+        outboxEvent.setPayload(new String(message.getBody(), StandardCharsets.UTF_8));
+        outboxEvent.setNextAttemptAt(LocalDateTime.now());
+        return outboxEvent;
+    }
+
+    public Message toMessage() {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(getId().toString());
+        properties.setContentType(contentType);
+        properties.setContentEncoding(contentEncoding);
+        if (typeId != null) {
+            properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, typeId);
+        }
+        return new Message(payload.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
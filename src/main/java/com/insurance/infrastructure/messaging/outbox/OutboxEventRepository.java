@@ -0,0 +1,30 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Locks the oldest pending events that are due, skipping rows locked by another relay instance
+     * (lock timeout -2 is translated to SKIP LOCKED). Rows claimed by another instance are not due
+     * until their lease in {@code nextAttemptAt} runs out.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e"
+            + " where e.status = com.insurance.infrastructure.messaging.outbox.OutboxStatus.PENDING"
+            + " and e.nextAttemptAt <= :now order by e.id asc")
+    List<OutboxEvent> lockNextBatch(@Param("now") LocalDateTime now, Limit limit);
+}
@@ -0,0 +1,40 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transactional outbox for domain events
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.events.outbox")
+@Data
+public class OutboxProperties {
+
+    /**
+     * When enabled, events published inside a transaction are written to the outbox table
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of events sent to the broker per relay cycle
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum time to wait for the publisher confirms of a batch
+     */
+    private long confirmTimeoutMs = 5000;
+
+    /**
+     * How long a batch stays reserved for the instance that claimed it. Must cover sending and
+     * waiting for the confirms; once it runs out, another instance may send the events again
+     */
+    private long leaseMs = 30_000;
+
+    /**
+     * Attempts before an event moves to FAILED and is no longer resent automatically
+     */
+    private int maxAttempts = 10;
+}
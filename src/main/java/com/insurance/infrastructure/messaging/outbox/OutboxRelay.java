@@ -0,0 +1,159 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox table to RabbitMQ in batches. Every message of a batch is sent before waiting
+ * for its publisher confirm, so a batch costs roughly one broker round trip.
+ *
+ * <p>No database lock is held while waiting on the broker. A cycle claims its batch in a short
+ * transaction, counting the attempt and pushing {@code nextAttemptAt} forward by
+ * {@code lease-ms}; if this instance dies before finishing, another one picks the rows up once the
+ * lease runs out. Messages are sent and confirmed outside any transaction, and a second transaction
+ * deletes the acknowledged events and makes the others due again. An event that runs out of
+ * {@code max-attempts} is marked {@link OutboxStatus#FAILED} and counted in
+ * {@code insurance.outbox.events.failed.total}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "policy.events.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository repository;
+    private final RabbitTemplate rabbitTemplate;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter failedEvents;
+
+    public OutboxRelay(OutboxEventRepository repository, RabbitTemplate rabbitTemplate, OutboxProperties properties,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.failedEvents = Counter.builder("insurance.outbox.events.failed.total")
+                .description("Outbox events that ran out of attempts and will not be relayed again")
+                .tag("service", "policy-service")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${policy.events.outbox.poll-interval-ms:200}")
+    public int relay() {
+        List<OutboxEvent> batch = claim(LocalDateTime.now());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxEvent> delivered = new ArrayList<>(batch.size());
+        List<OutboxEvent> undelivered = new ArrayList<>();
+        List<CorrelationData> confirms = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            CorrelationData correlation = new CorrelationData(event.getId().toString());
+            try {
+                rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), event.toMessage(), correlation);
+                confirms.add(correlation);
+            } catch (Exception e) {
+                markFailed(event, "send failed: " + e.getMessage(), undelivered);
+                confirms.add(null);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getConfirmTimeoutMs());
+        for (int i = 0; i < batch.size(); i++) {
+            CorrelationData correlation = confirms.get(i);
+            if (correlation == null) {
+                continue;
+            }
+
+            OutboxEvent event = batch.get(i);
+            try {
+                CorrelationData.Confirm confirm = correlation.getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    delivered.add(event);
+                } else {
+                    markFailed(event, "nack: " + confirm.getReason(), undelivered);
+                }
+            } catch (TimeoutException e) {
+                markFailed(event, "confirm timeout", undelivered);
+            } catch (ExecutionException e) {
+                markFailed(event, "confirm failed: " + e.getCause().getMessage(), undelivered);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                markFailed(event, "interrupted", undelivered);
+            }
+        }
+
+        finish(delivered, undelivered);
+
+        if (!undelivered.isEmpty()) {
+            log.warn("Relayed {} of {} outbox events; the rest will be retried", delivered.size(), batch.size());
+        } else {
+            log.debug("Relayed {} outbox events", delivered.size());
+        }
+        return delivered.size();
+    }
+
+    /**
+     * Locks the next due events, counts the attempt about to be made and leases them to this
+     * instance. The returned events are detached.
+     */
+    List<OutboxEvent> claim(LocalDateTime now) {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            List<OutboxEvent> due = repository.lockNextBatch(now, Limit.of(properties.getBatchSize()));
+            LocalDateTime leaseExpiresAt = now.plus(Duration.ofMillis(properties.getLeaseMs()));
+            for (OutboxEvent event : due) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastAttemptAt(now);
+                event.setNextAttemptAt(leaseExpiresAt);
+            }
+            return due;
+        });
+        return batch != null ? batch : List.of();
+    }
+
+    /**
+     * Deletes the delivered events and writes back the state of the undelivered ones.
+     */
+    void finish(List<OutboxEvent> delivered, List<OutboxEvent> undelivered) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                repository.deleteAllByIdInBatch(delivered.stream().map(OutboxEvent::getId).toList());
+            }
+            if (!undelivered.isEmpty()) {
+                repository.saveAll(undelivered);
+            }
+        });
+    }
+
+    private void markFailed(OutboxEvent event, String error, List<OutboxEvent> undelivered) {
+        undelivered.add(event);
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        event.setNextAttemptAt(LocalDateTime.now());
+        if (event.getAttempts() >= properties.getMaxAttempts()) {
+            event.setStatus(OutboxStatus.FAILED);
+            failedEvents.increment();
+            log.error("Giving up outbox event {} ({}) after {} attempts: {}", event.getId(), event.getEventType(),
+                    event.getAttempts(), event.getLastError());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+/**
+ * Delivery state of an {@link OutboxEvent}. Delivered events are deleted, so there is no state for
+ * them.
+ */
+public enum OutboxStatus {
+
+    /** Waiting to be relayed, or to be retried once its {@code nextAttemptAt} passes. */
+    PENDING,
+
+    /** Ran out of attempts; kept for inspection and never relayed again automatically. */
+    FAILED
+}
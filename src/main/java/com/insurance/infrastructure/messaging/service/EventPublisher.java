@@ -1,10 +1,18 @@
 package com.insurance.infrastructure.messaging.service;
 
 import com.insurance.event.PolicyRequestEvent;
+import com.insurance.infrastructure.messaging.outbox.OutboxEvent;
+import com.insurance.infrastructure.messaging.outbox.OutboxEventRepository;
+import com.insurance.infrastructure.messaging.outbox.OutboxProperties;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -12,8 +20,63 @@ import org.springframework.stereotype.Service;
 public class EventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxProperties outboxProperties;
+    private final PipelinedPublisher pipelinedPublisher;
 
+    /**
+     * Inside a transaction the event is either written to the outbox or, without one, sent to the
+     * broker only after the commit: an attempt rolled back (for instance by an optimistic-lock retry)
+     * never leaves a message behind, and the committed attempt sends exactly one.
+     */
     public void publish(String exchange, String routingKey, PolicyRequestEvent event) {
+        if (useOutbox()) {
+            log.debug("Writing event of type {} to outbox for exchange {} with routing key {}",
+                    event.getEventType(), exchange, routingKey);
+            outboxRepository.save(toOutboxEvent(exchange, routingKey, event));
+            return;
+        }
+
+        afterCommit(() -> send(exchange, routingKey, event));
+    }
+
+    /**
+     * Publishes all events on a single channel bound for the duration of the call,
+     * instead of checking a channel out of the cache for every message.
+     */
+    public void publishAll(String exchange, String routingKey, List<? extends PolicyRequestEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        if (useOutbox()) {
+            log.debug("Writing {} events to outbox for exchange {} with routing key {}",
+                    events.size(), exchange, routingKey);
+            outboxRepository.saveAll(events.stream()
+                    .map(event -> toOutboxEvent(exchange, routingKey, event))
+                    .toList());
+            return;
+        }
+
+        afterCommit(() -> sendAll(exchange, routingKey, events));
+    }
+
+    /**
+     * Events are only diverted to the outbox when there is a transaction to commit them with;
+     * outside of one there is nothing to keep consistent and they go straight to the broker.
+     */
+    private boolean useOutbox() {
+        return outboxProperties.isEnabled() && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void send(String exchange, String routingKey, PolicyRequestEvent event) {
+        if (pipelinedPublisher.isEnabled()) {
+            log.debug("Queueing event of type {} for exchange {} with routing key {}",
+                    event.getEventType(), exchange, routingKey);
+            submit(exchange, routingKey, event);
+            return;
+        }
+
         try {
             log.info("Publishing event of type {} to exchange {} with routing key {}", 
                     event.getEventType(), exchange, routingKey);
@@ -23,4 +86,94 @@ public class EventPublisher {
             throw new RuntimeException("Failed to publish event", e);
         }
     }
-} 
\ No newline at end of file
+
+    private void sendAll(String exchange, String routingKey, List<? extends PolicyRequestEvent> events) {
+        if (pipelinedPublisher.isEnabled()) {
+            log.debug("Queueing {} events for exchange {} with routing key {}",
+                    events.size(), exchange, routingKey);
+            events.forEach(event -> submit(exchange, routingKey, event));
+            return;
+        }
+
+        try {
+            log.info("Publishing {} events to exchange {} with routing key {}",
+                    events.size(), exchange, routingKey);
+            rabbitTemplate.invoke(operations -> {
+                for (PolicyRequestEvent event : events) {
+                    operations.convertAndSend(exchange, routingKey, event);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Failed to publish batch of {} events", events.size(), e);
+            throw new RuntimeException("Failed to publish events", e);
+        }
+    }
+
+    /**
+     * Runs {@code send} once the surrounding transaction commits, or right away outside one. A send
+     * that fails after the commit can no longer undo it, so the failure is only logged.
+     */
+    private void afterCommit(Runnable send) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    send.run();
+                } catch (RuntimeException e) {
+                    log.error("Event could not be sent after commit", e);
+                }
+            }
+        });
+    }
+
+    private void submit(String exchange, String routingKey, PolicyRequestEvent event) {
+        try {
+            pipelinedPublisher.submit(exchange, routingKey, event).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    retryThroughOutbox(exchange, routingKey, event, error);
+                }
+            });
+        } catch (Exception e) {
+            if (outboxProperties.isEnabled()) {
+                retryThroughOutbox(exchange, routingKey, event, e);
+                return;
+            }
+            log.error("Failed to publish event: {}", event, e);
+            throw new RuntimeException("Failed to publish event", e);
+        }
+    }
+
+    /**
+     * The pipeline only learns of a nack, confirm timeout or full window once the business transaction
+     * is long committed. With the outbox enabled the event is written there, in a transaction of its
+     * own, and {@code OutboxRelay} keeps retrying it; a timed out event may then reach consumers twice,
+     * which they already tolerate from the relay. Without the outbox the event is lost and logged.
+     */
+    private void retryThroughOutbox(String exchange, String routingKey, PolicyRequestEvent event, Throwable error) {
+        if (!outboxProperties.isEnabled()) {
+            log.error("Event {} for policy {} was not confirmed by the broker and will not be retried: {}",
+                    event.getEventType(), event.getPolicyRequestId(), error.getMessage());
+            return;
+        }
+
+        try {
+            outboxRepository.save(toOutboxEvent(exchange, routingKey, event));
+            log.warn("Event {} for policy {} was not confirmed by the broker ({}); written to the outbox for retry",
+                    event.getEventType(), event.getPolicyRequestId(), error.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Event {} for policy {} was not confirmed by the broker and could not be written to the outbox",
+                    event.getEventType(), event.getPolicyRequestId(), e);
+        }
+    }
+
+    private OutboxEvent toOutboxEvent(String exchange, String routingKey, PolicyRequestEvent event) {
+        Message message = rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+        return OutboxEvent.of(exchange, routingKey, event.getEventType(), message);
+    }
+}
@@ -0,0 +1,263 @@
+package com.insurance.infrastructure.messaging.service;
+
+import com.insurance.infrastructure.messaging.config.PublisherProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes messages without waiting on the broker per message. Callers enqueue and get a future;
+ * a single flusher thread groups queued messages by exchange, sends each group on one channel and
+ * completes the futures from the correlated publisher confirms. The number of unconfirmed messages
+ * is bounded by a semaphore, so a slow broker pushes back on publishers instead of growing the queue.
+ */
+@Component
+@Slf4j
+public class PipelinedPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PublisherProperties properties;
+    private final MeterRegistry registry;
+    private final Semaphore window;
+    private final BlockingQueue<PendingMessage> queue = new LinkedBlockingQueue<>();
+    private final Set<PendingMessage> outstanding = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public PipelinedPublisher(RabbitTemplate rabbitTemplate, PublisherProperties properties, MeterRegistry registry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.registry = registry;
+        this.window = new Semaphore(properties.getMaxInFlight());
+        Gauge.builder("insurance.events.inflight", this, PipelinedPublisher::inFlight)
+                .description("Events sent or queued and not yet confirmed")
+                .tag("service", "policy-service")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isPipelined();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::run, "event-publisher-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Sends everything still queued and waits up to {@code confirm-timeout-ms} for the outstanding
+     * confirms. Messages not confirmed by then fail, so their callers can fall back to the outbox.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(properties.getConfirmTimeoutMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            drain();
+        }
+        awaitOutstanding(properties.getConfirmTimeoutMs());
+
+        AmqpException stopped = new AmqpException("Publisher stopped before the event was confirmed");
+        outstanding.forEach(message -> fail(message, "shutdown", stopped));
+    }
+
+    /**
+     * Queues a message for sending. Blocks only while the in-flight window is full, for at most
+     * {@code enqueue-timeout-ms}. The returned future completes when the broker confirms the message
+     * and fails on nack, confirm timeout or send error.
+     */
+    public CompletableFuture<Void> submit(String exchange, String routingKey, Object payload) {
+        try {
+            if (!window.tryAcquire(properties.getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                throw new AmqpException("Publisher window full: " + properties.getMaxInFlight()
+                        + " events awaiting confirm");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while waiting for publisher window", e);
+        }
+
+        PendingMessage message = new PendingMessage(exchange, routingKey, payload);
+        outstanding.add(message);
+        message.future.whenComplete((ignored, error) -> outstanding.remove(message));
+        queue.add(message);
+        return message.future;
+    }
+
+    int inFlight() {
+        return properties.getMaxInFlight() - window.availablePermits();
+    }
+
+    /**
+     * Sends everything currently queued, up to one batch, without lingering.
+     */
+    int drain() {
+        List<PendingMessage> batch = new ArrayList<>();
+        queue.drainTo(batch, properties.getBatchSize());
+        send(batch);
+        return batch.size();
+    }
+
+    private void awaitOutstanding(long timeoutMs) {
+        try {
+            CompletableFuture.allOf(outstanding.stream()
+                            .map(message -> message.future)
+                            .toArray(CompletableFuture<?>[]::new))
+                    .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed messages are already settled; the ones still waiting are failed by stop()
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                PendingMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PendingMessage> batch = new ArrayList<>(properties.getBatchSize());
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getLingerMs());
+                while (batch.size() < properties.getBatchSize()) {
+                    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= properties.getBatchSize() || remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                log.error("Event publisher flusher failed", e);
+            }
+        }
+    }
+
+    private void send(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<PendingMessage>> byExchange = new LinkedHashMap<>();
+        for (PendingMessage message : batch) {
+            byExchange.computeIfAbsent(message.exchange, key -> new ArrayList<>()).add(message);
+        }
+
+        byExchange.forEach((exchange, messages) -> {
+            try {
+                rabbitTemplate.invoke(operations -> {
+                    for (PendingMessage message : messages) {
+                        CorrelationData correlation = new CorrelationData();
+                        message.sentAt = System.nanoTime();
+                        operations.convertAndSend(exchange, message.routingKey, message.payload, correlation);
+                        correlation.getFuture()
+                                .orTimeout(properties.getConfirmTimeoutMs(), TimeUnit.MILLISECONDS)
+                                .whenComplete((confirm, error) -> onConfirm(message, confirm, error));
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                log.error("Failed to send {} events to exchange {}", messages.size(), exchange, e);
+                for (PendingMessage message : messages) {
+                    fail(message, "send_failed", e);
+                }
+            }
+        });
+    }
+
+    private void onConfirm(PendingMessage message, CorrelationData.Confirm confirm, Throwable error) {
+        if (error != null) {
+            fail(message, "timeout", error);
+            return;
+        }
+
+        Timer.builder("insurance.events.confirm.latency")
+                .description("Time between sending an event and receiving its publisher confirm")
+                .tag("service", "policy-service")
+                .tag("exchange", message.exchange)
+                .register(registry)
+                .record(System.nanoTime() - message.sentAt, TimeUnit.NANOSECONDS);
+        if (confirm.isAck()) {
+            if (message.future.complete(null)) {
+                window.release();
+            }
+        } else {
+            fail(message, "nack", new AmqpException("Event nacked by broker: " + confirm.getReason()));
+        }
+    }
+
+    private void fail(PendingMessage message, String reason, Throwable error) {
+        if (!message.future.completeExceptionally(error)) {
+            return;
+        }
+        window.release();
+        Counter.builder("insurance.events.nack.total")
+                .description("Events nacked, timed out or failed to send")
+                .tag("service", "policy-service")
+                .tag("exchange", message.exchange)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    private static final class PendingMessage {
+        private final String exchange;
+        private final String routingKey;
+        private final Object payload;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile long sentAt;
+
+        private PendingMessage(String exchange, String routingKey, Object payload) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.payload = payload;
+        }
+    }
+}
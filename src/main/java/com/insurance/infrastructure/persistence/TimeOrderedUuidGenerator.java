@@ -0,0 +1,88 @@
+package com.insurance.infrastructure.persistence;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * UUID version 7 generator (RFC 9562): 48 bits of Unix epoch milliseconds, followed by a 12-bit
+ * sequence in {@code rand_a} and 62 random bits in {@code rand_b}.
+ *
+ * <p>The millisecond and the sequence are kept together in a single {@link AtomicLong} and advanced
+ * with a CAS loop, so ids are strictly increasing per JVM without locking. When more than 4096 ids
+ * are requested within one millisecond, or the wall clock moves backwards, the timestamp part is
+ * carried forward instead of repeating a value.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final TimeOrderedUuidGenerator INSTANCE = new TimeOrderedUuidGenerator();
+
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+    private final LongSupplier clock;
+
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedUuidGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the next identifier from the shared, JVM-wide generator.
+     */
+    public static UUID nextUuid() {
+        return INSTANCE.next();
+    }
+
+    /**
+     * Returns the Unix epoch milliseconds encoded in a version 7 id, or {@code -1} for other versions.
+     */
+    public static long timestampOf(UUID id) {
+        return id.version() == 7 ? id.getMostSignificantBits() >>> 16 : -1;
+    }
+
+    public UUID next() {
+        long timestampAndSequence = nextTimestampAndSequence();
+
+        long mostSignificantBits = (timestampAndSequence >>> SEQUENCE_BITS) << 16
+                | VERSION_7
+                | (timestampAndSequence & ((1L << SEQUENCE_BITS) - 1));
+        long leastSignificantBits = VARIANT_RFC | (ThreadLocalRandom.current().nextLong() & RAND_B_MASK);
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private long nextTimestampAndSequence() {
+        long now = clock.getAsLong() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long candidate = Math.max(now, last + 1);
+            if (lastTimestampAndSequence.compareAndSet(last, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return nextUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
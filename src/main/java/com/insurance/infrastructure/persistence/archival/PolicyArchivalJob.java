@@ -0,0 +1,94 @@
+package com.insurance.infrastructure.persistence.archival;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the monthly partitions of {@code policy_requests} and {@code status_history} created ahead
+ * of time and archives policy requests that finished more than {@code min-age-days} ago. The two
+ * tasks run on separate schedules, so a failure creating partitions never holds archival back, and
+ * the other way around.
+ *
+ * <p>Partitions whose requests have all finished are archived whole: one short transaction detaches
+ * them from the live tables and another copies each one to the archive tables and drops it; a run
+ * archives at most {@code max-partitions-per-run}. Finished requests left in other partitions,
+ * including the legacy one, are then moved in up to {@code max-row-batches-per-run} transactions
+ * of {@code row-batch-size} rows.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "policy.archival", name = "enabled", havingValue = "true")
+public class PolicyArchivalJob {
+
+    private final PolicyArchiveRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final PolicyArchivalProperties properties;
+    private final Counter archived;
+
+    public PolicyArchivalJob(PolicyArchiveRepository repository, TransactionTemplate transactionTemplate,
+                             PolicyArchivalProperties properties, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.archived = Counter.builder("insurance.policy.archived.total")
+                .tag("service", "policy-service")
+                .description("Finished policy requests moved to the archive tables")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${policy.archival.initial-delay-ms:60000}",
+               fixedDelayString = "${policy.archival.partition-interval-ms:3600000}")
+    public int ensurePartitions() {
+        Integer created = transactionTemplate.execute(status ->
+                repository.ensurePartitions(properties.getPartitionMonthsAhead()));
+        if (created != null && created > 0) {
+            log.info("Created {} monthly policy partitions", created);
+        }
+        return created != null ? created : 0;
+    }
+
+    @Scheduled(initialDelayString = "${policy.archival.initial-delay-ms:60000}",
+               fixedDelayString = "${policy.archival.interval-ms:600000}")
+    public int run() {
+        return archive(LocalDateTime.now().minusDays(properties.getMinAgeDays()));
+    }
+
+    int archive(LocalDateTime cutoff) {
+        List<String> pending = new ArrayList<>(transactionTemplate.execute(status -> repository.findDetachedPartitions()));
+        pending.addAll(transactionTemplate.execute(status -> repository.detachArchivablePartitions(
+                cutoff, properties.getMaxPartitionsPerRun(), properties.getDetachLockTimeoutMs())));
+
+        int total = 0;
+        for (String suffix : pending) {
+            Integer moved = transactionTemplate.execute(status -> repository.archiveDetachedPartition(suffix));
+            int count = moved != null ? moved : 0;
+            total += count;
+            archived.increment(count);
+            log.info("Archived partition {} with {} policy requests", suffix, count);
+        }
+
+        for (int batch = 0; batch < properties.getMaxRowBatchesPerRun(); batch++) {
+            Integer moved = transactionTemplate.execute(status ->
+                    repository.archiveFinishedRows(cutoff, properties.getRowBatchSize()));
+            int count = moved != null ? moved : 0;
+            total += count;
+            archived.increment(count);
+            if (count < properties.getRowBatchSize()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Archived {} policy requests finished before {}", total, cutoff);
+        }
+        return total;
+    }
+}
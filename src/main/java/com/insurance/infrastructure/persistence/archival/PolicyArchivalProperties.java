@@ -0,0 +1,52 @@
+package com.insurance.infrastructure.persistence.archival;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintenance of the monthly partitions and archival of finished policy requests
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.archival")
+@Data
+public class PolicyArchivalProperties {
+
+    /**
+     * When enabled, the job creates future partitions and moves finished policy requests to the
+     * archive tables
+     */
+    private boolean enabled = false;
+
+    /**
+     * Minimum age, in days since they finished, of the policy requests that are archived
+     */
+    private int minAgeDays = 90;
+
+    /**
+     * Fully finished monthly partitions archived per run; the rest wait for the next run
+     */
+    private int maxPartitionsPerRun = 1;
+
+    /**
+     * Maximum wait for the exclusive lock DETACH needs on the live tables; without it the run gives
+     * up and tries again next time instead of blocking application queries
+     */
+    private long detachLockTimeoutMs = 2_000;
+
+    /**
+     * Finished policy requests moved per transaction from partitions that cannot be archived whole:
+     * the legacy partition and those that still hold live requests
+     */
+    private int rowBatchSize = 1_000;
+
+    /**
+     * Row batches per run; the rest wait for the next run
+     */
+    private int maxRowBatchesPerRun = 10;
+
+    /**
+     * Months ahead of the current month that already have a partition
+     */
+    private int partitionMonthsAhead = 3;
+}
@@ -0,0 +1,175 @@
+package com.insurance.infrastructure.persistence.archival;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL-only operations over the partitioned policy tables. The statements rely on objects
+ * created by the {@code V4} and {@code V6} migrations.
+ *
+ * <p>Monthly partitions whose policy requests have all finished are archived whole: a partition is
+ * first detached from the live table, then copied to the archive tables and dropped in a separate
+ * transaction, so the copy never holds locks on {@code policy_requests} or {@code status_history}.
+ * A partition left detached by a failed copy is picked up again by {@link #findDetachedPartitions()}.
+ * Finished requests of the legacy partition and of partitions that still hold live requests are
+ * moved row by row by {@link #archiveFinishedRows(LocalDateTime, int)} instead.
+ */
+@Repository
+public class PolicyArchiveRepository {
+
+    private static final Pattern PARTITION_SUFFIX = Pattern.compile("legacy|\\d{4}_\\d{2}");
+
+    private static final String POLICY_COLUMNS = """
+            id, customer_id, product_id, category, sales_channel, payment_method, status,
+            total_monthly_premium_amount, insured_amount, coverages, assistances, risk_analysis_id,
+            finished_at, status_changed_at, version, created_at, updated_at, created_by, updated_by""";
+
+    private static final String HISTORY_COLUMNS = """
+            id, policy_request_id, previous_status, new_status, reason, changed_at,
+            created_at, updated_at, created_by, updated_by""";
+
+    /**
+     * Monthly (or legacy) tables that look like partitions of {@code policy_requests} but are no longer
+     * attached to it.
+     */
+    private static final String DETACHED_PARTITIONS = """
+            SELECT substring(c.relname from length('policy_requests_') + 1)
+              FROM pg_class c
+             WHERE c.relnamespace = cast(current_schema() as regnamespace)
+               AND c.relkind = 'r'
+               AND NOT c.relispartition
+               AND c.relname ~ '^policy_requests_(legacy|[0-9]{4}_[0-9]{2})$'
+             ORDER BY c.relname
+            """;
+
+    /**
+     * Moves a batch of finished policy requests, oldest first, with their history. Rows locked by a
+     * running transaction are left for the next batch.
+     */
+    private static final String ARCHIVE_FINISHED_ROWS = """
+            WITH picked AS (
+                SELECT id, created_at
+                  FROM policy_requests
+                 WHERE finished_at < :cutoff
+                 ORDER BY finished_at
+                 LIMIT :batchSize
+                   FOR UPDATE SKIP LOCKED
+            ), history AS (
+                DELETE FROM status_history h
+                 USING picked p
+                 WHERE h.policy_request_id = p.id
+                RETURNING h.*
+            ), archived_history AS (
+                INSERT INTO status_history_archive (%2$s)
+                SELECT %2$s FROM history
+            ), policies AS (
+                DELETE FROM policy_requests r
+                 USING picked p
+                 WHERE r.id = p.id AND r.created_at = p.created_at
+                RETURNING r.*
+            )
+            INSERT INTO policy_requests_archive (%1$s)
+            SELECT %1$s FROM policies
+            """.formatted(POLICY_COLUMNS, HISTORY_COLUMNS);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Detaches up to {@code maxPartitions} partitions whose policy requests all finished before
+     * {@code cutoff}, oldest first, and returns their suffixes.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> detachArchivablePartitions(LocalDateTime cutoff, int maxPartitions, long lockTimeoutMs) {
+        return entityManager.createNativeQuery(
+                        "select detach_archivable_policy_partitions(:cutoff, :maxPartitions, :lockTimeoutMs)")
+                .setParameter("cutoff", cutoff)
+                .setParameter("maxPartitions", maxPartitions)
+                .setParameter("lockTimeoutMs", (int) lockTimeoutMs)
+                .getResultList();
+    }
+
+    /**
+     * Returns the suffixes of partitions detached by an earlier run but not yet archived.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> findDetachedPartitions() {
+        return entityManager.createNativeQuery(DETACHED_PARTITIONS).getResultList();
+    }
+
+    /**
+     * Copies a detached partition of each table to the archive tables and drops it, together with the
+     * history of its policy requests that is still in live history partitions. Returns the number of
+     * policy requests archived.
+     */
+    public int archiveDetachedPartition(String suffix) {
+        if (!PARTITION_SUFFIX.matcher(suffix).matches()) {
+            throw new IllegalArgumentException("Not a policy partition suffix: " + suffix);
+        }
+
+        String policies = "policy_requests_" + suffix;
+        String history = "status_history_" + suffix;
+
+        // Another instance may be archiving the same partition; whoever gets the lock does it
+        Object locked = entityManager.createNativeQuery("select pg_try_advisory_xact_lock(hashtext(:table))")
+                .setParameter("table", policies)
+                .getSingleResult();
+        if (!Boolean.TRUE.equals(locked) || !exists(policies) || isPartition(policies)) {
+            return 0;
+        }
+
+        if (exists(history) && !isPartition(history)) {
+            entityManager.createNativeQuery("INSERT INTO status_history_archive (" + HISTORY_COLUMNS + ") "
+                    + "SELECT " + HISTORY_COLUMNS + " FROM " + history).executeUpdate();
+            entityManager.createNativeQuery("DROP TABLE " + history).executeUpdate();
+        }
+        entityManager.createNativeQuery("WITH moved AS (DELETE FROM status_history h USING " + policies + " p "
+                + "WHERE h.policy_request_id = p.id RETURNING h.*) "
+                + "INSERT INTO status_history_archive (" + HISTORY_COLUMNS + ") "
+                + "SELECT " + HISTORY_COLUMNS + " FROM moved").executeUpdate();
+
+        int archived = entityManager.createNativeQuery("INSERT INTO policy_requests_archive (" + POLICY_COLUMNS + ") "
+                + "SELECT " + POLICY_COLUMNS + " FROM " + policies).executeUpdate();
+        entityManager.createNativeQuery("DROP TABLE " + policies).executeUpdate();
+        return archived;
+    }
+
+    /**
+     * Moves up to {@code batchSize} policy requests that finished before {@code cutoff}, and their
+     * history, from the live tables to the archive tables. Returns the number of requests moved.
+     */
+    public int archiveFinishedRows(LocalDateTime cutoff, int batchSize) {
+        return entityManager.createNativeQuery(ARCHIVE_FINISHED_ROWS)
+                .setParameter("cutoff", cutoff)
+                .setParameter("batchSize", batchSize)
+                .executeUpdate();
+    }
+
+    /**
+     * Returns the number of monthly partitions created.
+     */
+    public int ensurePartitions(int monthsAhead) {
+        Object created = entityManager.createNativeQuery("select ensure_policy_partitions(:monthsAhead)")
+                .setParameter("monthsAhead", monthsAhead)
+                .getSingleResult();
+        return ((Number) created).intValue();
+    }
+
+    private boolean exists(String table) {
+        return entityManager.createNativeQuery("select to_regclass(:table) is not null")
+                .setParameter("table", table)
+                .getSingleResult()
+                .equals(Boolean.TRUE);
+    }
+
+    private boolean isPartition(String table) {
+        return entityManager.createNativeQuery("select relispartition from pg_class where oid = to_regclass(:table)")
+                .setParameter("table", table)
+                .getSingleResult()
+                .equals(Boolean.TRUE);
+    }
+}
@@ -0,0 +1,6 @@
+package com.insurance.infrastructure.persistence.routing;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,27 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import com.insurance.domain.PolicyRequest;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener that feeds {@link ReadAfterWriteTracker} with every policy request written through
+ * the persistence context, keyed by both the request id and its customer id.
+ */
+public class ReadAfterWriteListener {
+
+    private final ObjectProvider<ReadAfterWriteTracker> tracker;
+
+    public ReadAfterWriteListener(ObjectProvider<ReadAfterWriteTracker> tracker) {
+        this.tracker = tracker;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void written(PolicyRequest policyRequest) {
+        tracker.ifAvailable(t -> t.recordWrite(policyRequest.getId(), policyRequest.getCustomerId()));
+    }
+}
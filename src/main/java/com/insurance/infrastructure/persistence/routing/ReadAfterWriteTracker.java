@@ -0,0 +1,133 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers which policy requests and customers were written recently, so that reads issued right
+ * after a write are served by the primary instead of a replica that may not have replayed it yet.
+ * Keys are recorded when the writing transaction commits and expire after
+ * {@code read-after-write-window-ms}. When replica routing is disabled every method is a no-op.
+ *
+ * <p>The tracker only knows about writes committed on this instance. A client whose read lands on
+ * another instance within the window can still be served by the replica and see the previous
+ * state for as long as the replication lag, which {@link ReplicaLagMonitor} keeps around
+ * {@code max-lag-ms} when a {@code lag-query} is set. Deployments with several instances that need read-your-writes across them
+ * have to route a client's requests to one instance (sticky sessions) or leave routing disabled.
+ */
+@Component
+public class ReadAfterWriteTracker {
+
+    private final ReplicaRoutingProperties properties;
+    private final LongSupplier nanoClock;
+    private final Map<UUID, Long> writtenUntil = new ConcurrentHashMap<>();
+    private volatile long saturatedUntil;
+
+    @Autowired
+    public ReadAfterWriteTracker(ReplicaRoutingProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    ReadAfterWriteTracker(ReplicaRoutingProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.saturatedUntil = nanoClock.getAsLong();
+    }
+
+    /**
+     * Records the keys touched by the current transaction; they become visible to
+     * {@link #isRecentlyWritten(UUID)} once it commits. Outside a transaction they are recorded at once.
+     */
+    public void recordWrite(UUID... keys) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWritten(Arrays.asList(keys));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<UUID> keysOfTransaction = new HashSet<>();
+            pending = keysOfTransaction;
+            TransactionSynchronizationManager.bindResource(this, keysOfTransaction);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markWritten(keysOfTransaction);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReadAfterWriteTracker.this);
+                }
+            });
+        }
+        for (UUID key : keys) {
+            if (key != null) {
+                pending.add(key);
+            }
+        }
+    }
+
+    /**
+     * Keeps the current read-only transaction on the primary if {@code key} was written within the
+     * window. Call it before the first query of the transaction.
+     */
+    public void routeToPrimaryIfRecentlyWritten(UUID key) {
+        if (properties.isEnabled() && isRecentlyWritten(key)) {
+            ReplicaRoutingContext.requirePrimary();
+        }
+    }
+
+    /**
+     * Whether {@code key} was written by a transaction committed on this instance within the window.
+     */
+    public boolean isRecentlyWritten(UUID key) {
+        long now = nanoClock.getAsLong();
+        if (saturatedUntil - now > 0) {
+            return true;
+        }
+        Long until = key != null ? writtenUntil.get(key) : null;
+        if (until == null) {
+            return false;
+        }
+        if (until - now > 0) {
+            return true;
+        }
+        writtenUntil.remove(key, until);
+        return false;
+    }
+
+    private void markWritten(Collection<UUID> keys) {
+        long now = nanoClock.getAsLong();
+        long until = now + TimeUnit.MILLISECONDS.toNanos(properties.getReadAfterWriteWindowMs());
+        for (UUID key : keys) {
+            if (key != null) {
+                writtenUntil.put(key, until);
+            }
+        }
+
+        if (writtenUntil.size() > properties.getMaxTrackedKeys()) {
+            writtenUntil.values().removeIf(deadline -> deadline - now <= 0);
+            if (writtenUntil.size() > properties.getMaxTrackedKeys()) {
+                // Too many writes to track individually: send every read to the primary for one window.
+                saturatedUntil = until;
+                writtenUntil.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Polls the replication lag of the replica and takes it out of rotation while the lag exceeds
+ * {@code max-lag-ms} or cannot be measured. Without a {@code lag-query} the replica is always
+ * considered current and only the read-after-write window protects fresh writes.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "policy.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaRoutingProperties properties;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final AtomicLong lagMs = new AtomicLong();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReplicaRoutingProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+        this.replicaJdbcTemplate = new JdbcTemplate(routingDataSource.getReplica());
+        Gauge.builder("insurance.datasource.replica.lag", lagMs, AtomicLong::get)
+                .tag("service", "policy-service")
+                .baseUnit("milliseconds")
+                .description("Last measured replication lag of the read replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${policy.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        if (!StringUtils.hasText(properties.getLagQuery())) {
+            return;
+        }
+
+        boolean available;
+        try {
+            Long measured = replicaJdbcTemplate.queryForObject(properties.getLagQuery(), Long.class);
+            long lag = measured != null ? measured : 0L;
+            lagMs.set(lag);
+            available = lag <= properties.getMaxLagMs();
+        } catch (RuntimeException e) {
+            log.warn("Could not measure replica lag: {}", e.getMessage());
+            available = false;
+        }
+
+        if (available != routingDataSource.isReplicaAvailable()) {
+            log.warn("Read replica {} rotation (lag {} ms)", available ? "back in" : "taken out of", lagMs.get());
+        }
+        routingDataSource.setReplicaAvailable(available);
+    }
+}
@@ -0,0 +1,40 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-thread override that keeps the current read-only transaction on the primary. The flag is
+ * cleared when the transaction completes, so it never leaks into the next unit of work on a pooled
+ * thread.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * Routes the rest of the current transaction to the primary. Must be called before the
+     * transaction runs its first statement; outside a transaction it has no effect, since
+     * non-transactional work already uses the primary.
+     */
+    public static void requirePrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isPrimaryRequired()) {
+            return;
+        }
+
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY_REQUIRED.remove();
+            }
+        });
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
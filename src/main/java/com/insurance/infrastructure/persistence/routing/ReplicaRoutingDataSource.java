@@ -0,0 +1,63 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the primary.
+ * The lookup happens when a physical connection is fetched, so this data source has to be wrapped
+ * in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: transaction
+ * managers open their connection before the read-only flag is bound to the thread.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource replica;
+    private final Map<DataSourceRole, Counter> routed = new EnumMap<>(DataSourceRole.class);
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (DataSourceRole role : DataSourceRole.values()) {
+            routed.put(role, Counter.builder("insurance.datasource.route.total")
+                    .tag("service", "policy-service")
+                    .tag("role", role.name().toLowerCase())
+                    .description("Physical connections fetched per data source role")
+                    .register(meterRegistry));
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRole role = currentRole();
+        routed.get(role).increment();
+        return role;
+    }
+
+    DataSourceRole currentRole() {
+        boolean replicaRead = replicaAvailable
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRoutingContext.isPrimaryRequired();
+        return replicaRead ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+}
@@ -0,0 +1,55 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read replica and routing of read-only transactions
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.datasource.replica")
+@Data
+public class ReplicaRoutingProperties {
+
+    /**
+     * When enabled, readOnly transactions use the replica and all others the primary database
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName;
+
+    /**
+     * Maximum size of the replica connection pool
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Window after a write commits during which reads of the same policy or customer go to the primary.
+     * Only applies on the instance that wrote; reads on another instance may see the previous state
+     * for up to max-lag-ms
+     */
+    private long readAfterWriteWindowMs = 2000;
+
+    /**
+     * Keys tracked in the window; beyond that every read goes to the primary until the window passes
+     */
+    private int maxTrackedKeys = 100_000;
+
+    /**
+     * Query run on the replica that returns the replication lag in milliseconds; empty turns
+     * monitoring off
+     */
+    private String lagQuery;
+
+    /**
+     * Lag above which the replica stops receiving reads
+     */
+    private long maxLagMs = 1000;
+}
@@ -0,0 +1,262 @@
+package com.insurance.infrastructure.streaming;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.insurance.dto.PolicyStatusEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans policy status changes out to Server-Sent Events subscribers of a single policy or of all
+ * policies of a customer. Publishing never blocks on a connection: each subscriber has a bounded
+ * buffer drained by a small pool of sender threads, and a subscriber whose buffer is full is
+ * disconnected instead of holding events back for everyone else.
+ *
+ * <p>Changes made on this instance are dispatched after commit; with {@code rabbit-fanout} those of
+ * other instances arrive through {@code PolicyEventStreamConsumer}. Every event carries the id it was
+ * published with, so the copy of a local change that comes back from RabbitMQ, or an outbox retry, is
+ * dropped by id and used as the Server-Sent Events id.
+ *
+ * <p>The sender pool is a {@link ThreadPoolTaskExecutor} built from Boot's builder and shut down with
+ * the hub. It is not a bean of its own: an {@code Executor} bean would make Boot back off its
+ * {@code applicationTaskExecutor}, which Spring MVC uses for {@code StreamingResponseBody} responses.
+ */
+@Component
+@Slf4j
+public class PolicyEventHub {
+
+    private static final PolicyStatusEventDTO HEARTBEAT = new PolicyStatusEventDTO();
+
+    private final PolicyEventStreamProperties properties;
+    private final Map<UUID, Set<Subscriber>> byPolicy = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Subscriber>> byCustomer = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Cache<UUID, Boolean> dispatched;
+    private final ThreadPoolTaskExecutor senders;
+    private final Counter delivered;
+    private final Counter evicted;
+
+    public PolicyEventHub(PolicyEventStreamProperties properties, ThreadPoolTaskExecutorBuilder executorBuilder,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dispatched = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(properties.getDedupWindowMs()))
+                .build();
+
+        this.senders = executorBuilder
+                .corePoolSize(properties.getSendThreads())
+                .maxPoolSize(properties.getSendThreads())
+                .threadNamePrefix("policy-stream-")
+                .awaitTermination(false)
+                .build();
+        this.senders.setDaemon(true);
+        this.senders.initialize();
+
+        Gauge.builder("insurance.policy.stream.subscribers", subscribers, AtomicInteger::get)
+                .tag("service", "policy-service")
+                .description("Open Server-Sent Events connections")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("insurance.policy.stream.delivered.total")
+                .tag("service", "policy-service")
+                .description("Status events written to Server-Sent Events connections")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("insurance.policy.stream.evicted.total")
+                .tag("service", "policy-service")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the status changes of one policy, or returns {@code null} at capacity.
+     */
+    public SseEmitter subscribeToPolicy(UUID policyRequestId) {
+        return subscribe(byPolicy, policyRequestId);
+    }
+
+    /**
+     * Opens a stream of the status changes of all policies of a customer, or returns {@code null} at capacity.
+     */
+    public SseEmitter subscribeToCustomer(UUID customerId) {
+        return subscribe(byCustomer, customerId);
+    }
+
+    /**
+     * Dispatches a status change made on this instance once the surrounding transaction commits,
+     * or right away outside a transaction.
+     */
+    public void publishAfterCommit(PolicyStatusEventDTO event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    /**
+     * Dispatches a committed status change to the subscribers of its policy and of its customer.
+     */
+    public void publish(PolicyStatusEventDTO event) {
+        if (subscribers.get() == 0 || event.getPolicyRequestId() == null || event.getStatus() == null) {
+            return;
+        }
+        if (event.getEventId() != null && dispatched.asMap().putIfAbsent(event.getEventId(), Boolean.TRUE) != null) {
+            return;
+        }
+
+        offer(byPolicy.get(event.getPolicyRequestId()), event);
+        if (event.getCustomerId() != null) {
+            offer(byCustomer.get(event.getCustomerId()), event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${policy.events.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        byPolicy.values().forEach(set -> offer(set, HEARTBEAT));
+        byCustomer.values().forEach(set -> offer(set, HEARTBEAT));
+    }
+
+    int subscriberCount() {
+        return subscribers.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+        byPolicy.values().forEach(set -> set.forEach(Subscriber::close));
+        byCustomer.values().forEach(set -> set.forEach(Subscriber::close));
+    }
+
+    private SseEmitter subscribe(Map<UUID, Set<Subscriber>> index, UUID key) {
+        if (subscribers.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscribers.decrementAndGet();
+            return null;
+        }
+
+        Subscriber subscriber = new Subscriber(index, key, new SseEmitter(properties.getTimeoutMs()));
+        index.compute(key, (k, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+        subscriber.emitter.onCompletion(subscriber::remove);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(error -> subscriber.close());
+        return subscriber.emitter;
+    }
+
+    private void offer(Set<Subscriber> subscribers, PolicyStatusEventDTO event) {
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Map<UUID, Set<Subscriber>> index;
+        private final UUID key;
+        private final SseEmitter emitter;
+        private final Queue<PolicyStatusEventDTO> buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Subscriber(Map<UUID, Set<Subscriber>> index, UUID key, SseEmitter emitter) {
+            this.index = index;
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        void offer(PolicyStatusEventDTO event) {
+            if (removed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                evicted.increment();
+                log.debug("Disconnecting slow policy stream subscriber for {}", key);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                PolicyStatusEventDTO event;
+                while (!removed.get() && (event = buffer.poll()) != null) {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        SseEmitter.SseEventBuilder message = SseEmitter.event()
+                                .name(event.getEventType())
+                                .data(event, MediaType.APPLICATION_JSON);
+                        if (event.getEventId() != null) {
+                            message.id(event.getEventId().toString());
+                        }
+                        emitter.send(message);
+                        delivered.increment();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!removed.get() && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            remove();
+            emitter.complete();
+        }
+
+        void remove() {
+            if (removed.compareAndSet(false, true)) {
+                subscribers.decrementAndGet();
+                index.computeIfPresent(key, (k, set) -> {
+                    set.remove(this);
+                    return set.isEmpty() ? null : set;
+                });
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.insurance.infrastructure.streaming;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Server-Sent Events streams of policy status changes
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.events.stream")
+@Data
+public class PolicyEventStreamProperties {
+
+    /**
+     * Maximum open connections per instance; beyond that new subscriptions get a 503
+     */
+    private int maxSubscribers = 10_000;
+
+    /**
+     * Pending events per subscriber; a slow client that fills its buffer is disconnected
+     */
+    private int bufferSize = 32;
+
+    /**
+     * Maximum lifetime of a connection; the client reconnects when it ends
+     */
+    private long timeoutMs = 1_800_000;
+
+    /**
+     * Interval of the keep-alive comments, which also detect dead connections
+     */
+    private long heartbeatMs = 15_000;
+
+    /**
+     * Threads that write to the connections
+     */
+    private int sendThreads = 4;
+
+    /**
+     * Window in which an already delivered event (same eventId) that arrives again is dropped, for
+     * instance when it comes both locally and through RabbitMQ
+     */
+    private long dedupWindowMs = 300_000;
+
+    /**
+     * Also receives the transitions made by other instances, through the policy events exchange
+     */
+    private boolean rabbitFanout = true;
+}
@@ -58,14 +58,16 @@ public class PolicyRequestMapper {
         return dto;
     }
 
-    private StatusHistoryDTO toStatusHistoryDto(StatusHistory entity) {
+    public StatusHistoryDTO toStatusHistoryDto(StatusHistory entity) {
         if (entity == null) {
             return null;
         }
 
         StatusHistoryDTO dto = new StatusHistoryDTO();
         dto.setStatus(entity.getNewStatus());
+        dto.setPreviousStatus(entity.getPreviousStatus());
         dto.setTimestamp(entity.getChangedAt());
+        dto.setReason(entity.getReason());
         
         return dto;
     }
@@ -0,0 +1,16 @@
+package com.insurance.repository;
+
+import com.insurance.domain.PolicyRequest;
+import java.util.List;
+
+/**
+ * Bulk write operations for policy requests that bypass the per-entity merge of {@code save}.
+ */
+public interface PolicyRequestBatchRepository {
+
+    /**
+     * Persists new policy requests, flushing and clearing the persistence context every
+     * {@code chunkSize} entities so Hibernate can group the inserts into JDBC batches.
+     */
+    List<PolicyRequest> persistInBatches(List<PolicyRequest> requests, int chunkSize);
+}
@@ -0,0 +1,36 @@
+package com.insurance.repository;
+
+import com.insurance.domain.PolicyRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+
+public class PolicyRequestBatchRepositoryImpl implements PolicyRequestBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PolicyRequest> persistInBatches(List<PolicyRequest> requests, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+
+        int pending = 0;
+        for (PolicyRequest request : requests) {
+            entityManager.persist(request);
+            if (++pending == chunkSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+
+        if (pending > 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        return requests;
+    }
+}
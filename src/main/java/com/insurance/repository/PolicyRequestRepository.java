@@ -1,12 +1,101 @@
 package com.insurance.repository;
 
 import com.insurance.domain.PolicyRequest;
+import com.insurance.infrastructure.persistence.TimeOrderedUuidGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+/**
+ * {@code policy_requests} is partitioned by month of {@code created_at}. Lookups by id carry a
+ * {@code created_at} range derived from the UUIDv7 timestamp, so PostgreSQL only probes the partitions
+ * that can hold the row; ids of other versions, from before UUIDv7, are looked up in every partition.
+ * Lookups by customer take a lower bound on {@code created_at} for the same reason.
+ */
 @Repository
-public interface PolicyRequestRepository extends JpaRepository<PolicyRequest, UUID> {
-    List<PolicyRequest> findByCustomerId(UUID customerId);
-} 
\ No newline at end of file
+public interface PolicyRequestRepository extends JpaRepository<PolicyRequest, UUID>,
+        PolicyRequestBatchRepository, PolicyRequestScrollRepository {
+
+    /**
+     * Margin around the id timestamp: {@code created_at} is stamped by the application clock at persist
+     * time, close to but not exactly when the id was generated.
+     */
+    Duration CREATED_AT_MARGIN = Duration.ofDays(1);
+
+    /**
+     * Lower bound of {@code created_at} that excludes no row; used when a query has no date to prune
+     * partitions with.
+     */
+    LocalDateTime EARLIEST_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Override
+    @EntityGraph(PolicyRequest.GRAPH_DETAIL)
+    Optional<PolicyRequest> findById(UUID id);
+
+    default Optional<PolicyRequest> findDetailById(UUID id) {
+        return findDetailByIdAndCreatedAtBetween(id, createdFrom(id), createdTo(id));
+    }
+
+    default Optional<PolicyRequest> findWorkflowById(UUID id) {
+        return findWorkflowByIdAndCreatedAtBetween(id, createdFrom(id), createdTo(id));
+    }
+
+    default Optional<Long> findVersionById(UUID id) {
+        return findVersionByIdAndCreatedAtBetween(id, createdFrom(id), createdTo(id));
+    }
+
+    @EntityGraph(PolicyRequest.GRAPH_DETAIL)
+    Optional<PolicyRequest> findDetailByIdAndCreatedAtBetween(UUID id, LocalDateTime from, LocalDateTime to);
+
+    @EntityGraph(PolicyRequest.GRAPH_WORKFLOW)
+    Optional<PolicyRequest> findWorkflowByIdAndCreatedAtBetween(UUID id, LocalDateTime from, LocalDateTime to);
+
+    @Query("select p.version from PolicyRequest p where p.id = :id and p.createdAt between :from and :to")
+    Optional<Long> findVersionByIdAndCreatedAtBetween(@Param("id") UUID id,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    @Query("select p from PolicyRequest p where p.customerId = :customerId and p.createdAt >= :since")
+    List<PolicyRequest> findByCustomerId(@Param("customerId") UUID customerId, @Param("since") LocalDateTime since);
+
+    @Query("select p from PolicyRequest p where p.customerId = :customerId and p.createdAt >= :since "
+            + "order by p.createdAt asc, p.id asc")
+    List<PolicyRequest> findFirstPageByCustomerId(@Param("customerId") UUID customerId,
+                                                  @Param("since") LocalDateTime since,
+                                                  Limit limit);
+
+    @Query("select p from PolicyRequest p where p.customerId = :customerId and p.createdAt >= :since "
+            + "and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id)) "
+            + "order by p.createdAt asc, p.id asc")
+    List<PolicyRequest> findPageByCustomerIdAfter(@Param("customerId") UUID customerId,
+                                                  @Param("since") LocalDateTime since,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") UUID id,
+                                                  Limit limit);
+
+    private static LocalDateTime createdFrom(UUID id) {
+        long timestamp = TimeOrderedUuidGenerator.timestampOf(id);
+        return timestamp < 0 ? EARLIEST_CREATED_AT
+                : toLocal(timestamp).minus(CREATED_AT_MARGIN);
+    }
+
+    private static LocalDateTime createdTo(UUID id) {
+        long timestamp = TimeOrderedUuidGenerator.timestampOf(id);
+        return timestamp < 0 ? LocalDateTime.of(9999, 12, 31, 23, 59)
+                : toLocal(timestamp).plus(CREATED_AT_MARGIN);
+    }
+
+    private static LocalDateTime toLocal(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
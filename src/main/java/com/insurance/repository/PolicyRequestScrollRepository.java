@@ -0,0 +1,20 @@
+package com.insurance.repository;
+
+import com.insurance.domain.PolicyRequest;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Forward-only traversal of large result sets without accumulating them in the persistence context.
+ */
+public interface PolicyRequestScrollRepository {
+
+    /**
+     * Streams every policy request of a customer created at or after {@code since}, ordered by
+     * (createdAt, id), handing each one to {@code action} with its status history loaded. Rows are
+     * detached chunk by chunk, so memory stays flat regardless of customer size. Must be called inside
+     * a transaction.
+     */
+    void forEachByCustomerId(UUID customerId, LocalDateTime since, Consumer<PolicyRequest> action);
+}
@@ -0,0 +1,57 @@
+package com.insurance.repository;
+
+import com.insurance.domain.PolicyRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.AvailableHints;
+
+/**
+ * Rows are handed out in chunks of the statusHistory {@code @BatchSize}: the whole chunk stays in the
+ * persistence context until its histories are loaded, so initializing the first one loads them all in
+ * one statement, and the chunk is detached once the action has seen it.
+ */
+public class PolicyRequestScrollRepositoryImpl implements PolicyRequestScrollRepository {
+
+    private static final int FETCH_SIZE = 500;
+    private static final int CHUNK_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void forEachByCustomerId(UUID customerId, LocalDateTime since, Consumer<PolicyRequest> action) {
+        try (Stream<PolicyRequest> stream = entityManager
+                .createQuery("select p from PolicyRequest p where p.customerId = :customerId and p.createdAt >= :since "
+                        + "order by p.createdAt asc, p.id asc", PolicyRequest.class)
+                .setParameter("customerId", customerId)
+                .setParameter("since", since)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            List<PolicyRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+            stream.forEach(request -> {
+                chunk.add(request);
+                if (chunk.size() == CHUNK_SIZE) {
+                    handOut(chunk, action);
+                }
+            });
+            handOut(chunk, action);
+        }
+    }
+
+    private void handOut(List<PolicyRequest> chunk, Consumer<PolicyRequest> action) {
+        chunk.forEach(request -> Hibernate.initialize(request.getStatusHistory()));
+        for (PolicyRequest request : chunk) {
+            action.accept(request);
+            entityManager.detach(request);
+        }
+        chunk.clear();
+    }
+}
@@ -0,0 +1,21 @@
+package com.insurance.repository;
+
+import com.insurance.domain.StatusHistory;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Append-only access to the status history: rows are inserted one per transition (batched by
+ * Hibernate at flush) and read back in pages, never through {@code PolicyRequest.statusHistory}.
+ */
+@Repository
+public interface StatusHistoryRepository extends JpaRepository<StatusHistory, UUID> {
+
+    Slice<StatusHistory> findByPolicyRequestIdOrderByChangedAtDescIdDesc(UUID policyRequestId, Pageable pageable);
+
+    List<StatusHistory> findByPolicyRequestIdOrderByChangedAtAscIdAsc(UUID policyRequestId);
+}
@@ -2,10 +2,22 @@ package com.insurance.service;
 
 import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.RiskAnalysis;
+import java.util.concurrent.CompletableFuture;
 
 public interface FraudAnalysisService {
     /**
      * Analisa o risco de fraude para uma solicitação
      */
     RiskAnalysis analyzeFraud(PolicyRequest request);
-} 
\ No newline at end of file
+
+    /**
+     * Asynchronous variant of the analysis; remote implementations don't hold the calling thread
+     */
+    default CompletableFuture<RiskAnalysis> analyzeFraudAsync(PolicyRequest request) {
+        try {
+            return CompletableFuture.completedFuture(analyzeFraud(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -1,13 +1,24 @@
 package com.insurance.service;
 
 import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.StatusHistory;
 import com.insurance.domain.enums.PolicyStatus;
 import com.insurance.dto.FraudAnalysisResponseDTO;
+import com.insurance.dto.PolicyBatchResponseDTO;
+import com.insurance.dto.PolicyRequestCursor;
+import com.insurance.dto.PolicyRequestSnapshot;
 import com.insurance.dto.PolicyValidationResponseDTO;
 import com.insurance.dto.PolicyCancelResponseDTO;
+import com.insurance.dto.PolicyProcessingBatchResponseDTO;
+import com.insurance.dto.PolicyProcessingResponseDTO;
+import com.insurance.dto.PolicyTransitionsDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Slice;
 
 public interface PolicyRequestService {
     /**
@@ -15,21 +26,59 @@ public interface PolicyRequestService {
      */
     PolicyRequest createPolicyRequest(PolicyRequest request);
 
+    /**
+     * Creates policy requests in bulk, returning one result per item in input order
+     */
+    PolicyBatchResponseDTO createPolicyRequests(List<PolicyRequest> requests);
+
     /**
      * Finds a policy request by its ID
      */
     PolicyRequest findById(UUID id);
 
     /**
-     * Finds all policy requests for a given customer
+     * Finds a read-only snapshot of a policy request, served from the policy cache when enabled
+     */
+    PolicyRequestSnapshot findSnapshot(UUID id);
+
+    /**
+     * Finds the current version of a policy request without loading the aggregate
+     */
+    long findVersion(UUID id);
+
+    /**
+     * Finds all policy requests for a given customer created on or after {@code since}; all of them
+     * when {@code since} is null
+     */
+    List<PolicyRequest> findByCustomerId(UUID customerId, LocalDate since);
+
+    /**
+     * Finds one page of a customer's policy requests ordered by (createdAt, id), starting after the cursor.
+     * A non-null {@code since} skips requests created before that day
+     */
+    Slice<PolicyRequest> findPageByCustomerId(UUID customerId, LocalDate since, PolicyRequestCursor after, int size);
+
+    /**
+     * Finds one page of a policy request's status history, most recent first
      */
-    List<PolicyRequest> findByCustomerId(UUID customerId);
+    Slice<StatusHistory> findStatusHistory(UUID id, int page, int size);
+
+    /**
+     * Streams the policy requests of a customer to the consumer without holding them in memory. A
+     * non-null {@code since} skips requests created before that day
+     */
+    void streamByCustomerId(UUID customerId, LocalDate since, Consumer<PolicyRequest> consumer);
 
     /**
      * Updates the status of a policy request
      */
     PolicyRequest updateStatus(UUID id, PolicyStatus newStatus);
 
+    /**
+     * Lists the statuses a policy request can move to from its current status
+     */
+    PolicyTransitionsDTO getAllowedTransitions(UUID id);
+
     /**
      * Validates a policy request based on risk analysis
      */
@@ -40,6 +89,13 @@ public interface PolicyRequestService {
      */
     FraudAnalysisResponseDTO processFraudAnalysis(UUID id);
 
+    /**
+     * Replaces a degraded NO_INFORMATION fraud analysis with the result of a re-analysis; a policy already
+     * validated under NO_INFORMATION is validated again and rejected if it no longer fits the coverage limits.
+     * Returns false when the policy no longer carries the degraded analysis
+     */
+    boolean applyFraudReanalysis(UUID id, RiskAnalysis analysis);
+
     /**
      * Processes payment for a policy request
      */
@@ -54,4 +110,15 @@ public interface PolicyRequestService {
      * Cancels a policy request if it's not already approved
      */
     PolicyCancelResponseDTO cancelPolicyRequest(UUID id);
-} 
\ No newline at end of file
+
+    /**
+     * Runs the remaining workflow steps (fraud analysis, validation, payment, subscription) in one call,
+     * stopping at the first rejection
+     */
+    PolicyProcessingResponseDTO processPolicyRequest(UUID id);
+
+    /**
+     * Runs {@link #processPolicyRequest(UUID)} for each policy, one transaction per policy
+     */
+    PolicyProcessingBatchResponseDTO processPolicyRequests(List<UUID> ids);
+}
@@ -0,0 +1,94 @@
+package com.insurance.service.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a unit of work in its own transaction and re-runs it when the commit loses an optimistic
+ * version check. Each attempt starts from a fresh load, so the state-machine checks are evaluated
+ * against the winner's state; a transition that is no longer allowed fails as a business error
+ * instead of being retried. When called inside an existing transaction the work runs once, since
+ * only the outermost transaction can be retried.
+ *
+ * <p>The work must be safe to run more than once: it may only change database state, which the
+ * rollback discards. Side effects are deferred to the commit of the winning attempt instead, as
+ * {@code EventPublisher} does for broker messages and {@code PolicyStatusServiceImpl} for the
+ * transition metrics.
+ */
+@Component
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticRetryExecutor(TransactionTemplate transactionTemplate, OptimisticRetryProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        long backoffMs = properties.getBackoffMs();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                counter("insurance.policy.optimistic.conflict.total", operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    counter("insurance.policy.optimistic.retry.exhausted.total", operation).increment();
+                    log.warn("Giving up on {} after {} conflicting attempts", operation, attempt);
+                    throw e;
+                }
+
+                log.debug("Version conflict on {} (attempt {}), retrying", operation, attempt);
+                pause(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, properties.getMaxBackoffMs());
+            }
+        }
+    }
+
+    public void run(String operation, Runnable work) {
+        execute(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("service", "policy-service")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static void pause(long backoffMs) {
+        if (backoffMs <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs / 2, backoffMs + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.insurance.service.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retry policy for status transitions that lose the version race
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.workflow.retry")
+@Data
+public class OptimisticRetryProperties {
+
+    /**
+     * Total attempts, including the first one, before the conflict is handed back to the caller
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Wait before the second attempt; doubles on every conflict, with jitter
+     */
+    private long backoffMs = 10;
+
+    /**
+     * Upper bound of the wait between attempts
+     */
+    private long maxBackoffMs = 200;
+}
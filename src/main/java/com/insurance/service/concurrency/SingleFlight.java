@@ -0,0 +1,88 @@
+package com.insurance.service.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent executions of the same work: the first caller for a key runs it and callers
+ * arriving while it is in flight wait for and share its result or exception. Nothing is kept once
+ * the work completes, so a later call always runs again and never sees an older result than a
+ * plain call that started at the same time would.
+ *
+ * <p>A caller waits at most {@code policy.singleflight.max-wait-ms} for the call in flight and then
+ * runs the work itself, so a slow load cannot hold every reader of the key hostage. Callers that must
+ * observe a write they just made should not go through here at all, since the call they would join
+ * may have started before that write committed.
+ *
+ * <p>Shared results are handed to several threads and must be treated as read-only.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> work) {
+        List<Object> flightKey = List.of(operation, key);
+        CompletableFuture<Object> owned = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, owned);
+
+        if (existing != null) {
+            counter(operation, "coalesced").increment();
+            try {
+                return (T) existing.get(properties.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                counter(operation, "timed-out").increment();
+                return work.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + operation, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new CompletionException(e.getCause());
+            }
+        }
+
+        counter(operation, "executed").increment();
+        try {
+            T result = work.get();
+            inFlight.remove(flightKey, owned);
+            owned.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flightKey, owned);
+            owned.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return Counter.builder("insurance.policy.singleflight.calls.total")
+                .tag("service", "policy-service")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .description("Calls that ran the work themselves or joined an identical call in flight; timed-out joins then ran it too")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.insurance.service.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalescing of concurrent reads of the same policy into a single load
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.singleflight")
+@Data
+public class SingleFlightProperties {
+
+    /**
+     * How long a call waits for the load in flight before running its own
+     */
+    private long maxWaitMs = 2_000;
+}
@@ -0,0 +1,44 @@
+package com.insurance.service.fraud;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Degraded mode of the fraud analysis
+ */
+@Component
+@ConfigurationProperties(prefix = "fraud.analysis")
+@Data
+public class FraudAnalysisProperties {
+
+    /**
+     * When enabled, an analysis that misses its deadline yields a NO_INFORMATION classification instead of rejecting the policy
+     */
+    private boolean degradedModeEnabled = false;
+
+    /**
+     * Latency budget of the fraud analysis within the policy workflow
+     */
+    private long deadlineMs = 1500;
+
+    /**
+     * Delay before the first re-analysis; each further attempt waits proportionally longer
+     */
+    private long reanalysisDelayMs = 30000;
+
+    /**
+     * Re-analysis attempts before the NO_INFORMATION classification is kept
+     */
+    private int reanalysisMaxAttempts = 5;
+
+    /**
+     * Interval between lookups of due re-analyses in the fraud_reanalyses table
+     */
+    private long reanalysisPollIntervalMs = 5000;
+
+    /**
+     * Due re-analyses processed per cycle
+     */
+    private int reanalysisBatchSize = 50;
+}
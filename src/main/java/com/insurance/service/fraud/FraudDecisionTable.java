@@ -0,0 +1,91 @@
+package com.insurance.service.fraud;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.math.BigDecimal;
+
+/**
+ * Immutable, compiled form of {@link FraudRulesProperties}. Thresholds and occurrence descriptions
+ * are resolved once into arrays indexed by {@link InsuranceCategory#ordinal()}, so an evaluation is
+ * two array reads and at most three {@code compareTo} calls with no allocation.
+ */
+public final class FraudDecisionTable {
+
+    private static final InsuranceCategory[] CATEGORIES = InsuranceCategory.values();
+
+    private final BigDecimal[] preferredFrom;
+    private final BigDecimal[] highRiskAbove;
+    private final String[] highValueDescriptions;
+    private final BigDecimal extremeValueAbove;
+
+    private FraudDecisionTable(BigDecimal[] preferredFrom, BigDecimal[] highRiskAbove,
+                               String[] highValueDescriptions, BigDecimal extremeValueAbove) {
+        this.preferredFrom = preferredFrom;
+        this.highRiskAbove = highRiskAbove;
+        this.highValueDescriptions = highValueDescriptions;
+        this.extremeValueAbove = extremeValueAbove;
+    }
+
+    /**
+     * Validates the rules and compiles them. Every category must have a rule with
+     * {@code 0 <= preferredFrom <= highRiskAbove}; the HIGH_VALUE description is rendered per category
+     * from {@code high-value-description}.
+     */
+    public static FraudDecisionTable compile(FraudRulesProperties rules) {
+        if (rules.getExtremeValueAbove() == null || rules.getExtremeValueAbove().signum() <= 0) {
+            throw new IllegalArgumentException("fraud.rules.extreme-value-above must be greater than zero");
+        }
+        if (rules.getHighValueDescription() == null || rules.getHighValueDescription().isBlank()) {
+            throw new IllegalArgumentException("fraud.rules.high-value-description must not be blank");
+        }
+
+        BigDecimal[] preferredFrom = new BigDecimal[CATEGORIES.length];
+        BigDecimal[] highRiskAbove = new BigDecimal[CATEGORIES.length];
+        String[] descriptions = new String[CATEGORIES.length];
+        for (InsuranceCategory category : CATEGORIES) {
+            FraudRulesProperties.CategoryRule rule = rules.getCategories().get(category);
+            if (rule == null || rule.getPreferredFrom() == null || rule.getHighRiskAbove() == null) {
+                throw new IllegalArgumentException("Missing fraud rule for category " + category);
+            }
+            if (rule.getPreferredFrom().signum() < 0 || rule.getPreferredFrom().compareTo(rule.getHighRiskAbove()) > 0) {
+                throw new IllegalArgumentException("Invalid fraud rule for category " + category
+                        + ": preferredFrom must be between zero and highRiskAbove");
+            }
+            preferredFrom[category.ordinal()] = rule.getPreferredFrom();
+            highRiskAbove[category.ordinal()] = rule.getHighRiskAbove();
+            descriptions[category.ordinal()] = rules.getHighValueDescription().replace("{category}", category.name());
+        }
+        return new FraudDecisionTable(preferredFrom, highRiskAbove, descriptions, rules.getExtremeValueAbove());
+    }
+
+    public CustomerRiskType classify(InsuranceCategory category, BigDecimal amount) {
+        int index = category.ordinal();
+        if (amount.compareTo(highRiskAbove[index]) > 0) {
+            return CustomerRiskType.HIGH_RISK;
+        }
+        if (amount.compareTo(preferredFrom[index]) >= 0) {
+            return CustomerRiskType.PREFERRED;
+        }
+        return CustomerRiskType.REGULAR;
+    }
+
+    public boolean isExtremeValue(BigDecimal amount) {
+        return amount.compareTo(extremeValueAbove) > 0;
+    }
+
+    public String highValueDescription(InsuranceCategory category) {
+        return highValueDescriptions[category.ordinal()];
+    }
+
+    public BigDecimal preferredFrom(InsuranceCategory category) {
+        return preferredFrom[category.ordinal()];
+    }
+
+    public BigDecimal highRiskAbove(InsuranceCategory category) {
+        return highRiskAbove[category.ordinal()];
+    }
+
+    public BigDecimal extremeValueAbove() {
+        return extremeValueAbove;
+    }
+}
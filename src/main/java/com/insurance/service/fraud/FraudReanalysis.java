@@ -0,0 +1,40 @@
+package com.insurance.service.fraud;
+
+import com.insurance.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Pending re-analysis of a policy whose fraud analysis was degraded to NO_INFORMATION, written in the
+ * same transaction as the degraded analysis and worked off by {@link FraudReanalysisScheduler}.
+ */
+@Entity
+@Table(name = "fraud_reanalyses")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class FraudReanalysis extends BaseEntity {
+
+    @Column(name = "policy_request_id", nullable = false, unique = true)
+    private UUID policyRequestId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public static FraudReanalysis of(UUID policyRequestId, LocalDateTime nextAttemptAt) {
+        FraudReanalysis reanalysis = new FraudReanalysis();
+        reanalysis.setPolicyRequestId(policyRequestId);
+        reanalysis.setNextAttemptAt(nextAttemptAt);
+        return reanalysis;
+    }
+}
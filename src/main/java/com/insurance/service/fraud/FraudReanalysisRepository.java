@@ -0,0 +1,30 @@
+package com.insurance.service.fraud;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FraudReanalysisRepository extends JpaRepository<FraudReanalysis, UUID> {
+
+    /**
+     * Locks the re-analyses that are due and still have attempts left, skipping rows already claimed
+     * by another instance (lock timeout -2 is translated to SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select r from FraudReanalysis r
+             where r.nextAttemptAt <= :now and r.attempts < :maxAttempts
+             order by r.nextAttemptAt asc""")
+    List<FraudReanalysis> lockDue(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts, Limit limit);
+}
@@ -0,0 +1,150 @@
+package com.insurance.service.fraud;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.repository.PolicyRequestRepository;
+import com.insurance.service.FraudAnalysisService;
+import com.insurance.service.PolicyRequestService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Re-runs fraud analysis for policies that were classified NO_INFORMATION because the original
+ * analysis missed its deadline. Pending re-analyses are rows of {@code fraud_reanalyses}, written
+ * together with the degraded analysis, so they survive restarts and are shared by all instances.
+ *
+ * <p>Each cycle claims the due rows in a short transaction and pushes their next attempt forward
+ * (a linearly growing delay), which doubles as a lease: if this instance dies, another one picks the
+ * row up once that time passes. The provider is called outside any transaction and the result is
+ * handed to {@link PolicyRequestService#applyFraudReanalysis(UUID, RiskAnalysis)}, which also
+ * re-checks the coverage limits of a policy already validated under NO_INFORMATION. A row that runs
+ * out of {@code reanalysis-max-attempts} is kept with its last error.
+ */
+@Component
+@Slf4j
+public class FraudReanalysisScheduler {
+
+    /**
+     * Occurrence type that marks an analysis as degraded, as opposed to a NO_INFORMATION
+     * classification returned by the provider itself.
+     */
+    public static final String DEADLINE_EXCEEDED = "FRAUD_ANALYSIS_DEADLINE_EXCEEDED";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final FraudReanalysisRepository reanalyses;
+    private final PolicyRequestRepository repository;
+    private final PolicyRequestService policyRequestService;
+    private final FraudAnalysisService fraudAnalysisService;
+    private final FraudAnalysisProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public FraudReanalysisScheduler(FraudReanalysisRepository reanalyses, PolicyRequestRepository repository,
+                                    PolicyRequestService policyRequestService,
+                                    FraudAnalysisService fraudAnalysisService, FraudAnalysisProperties properties,
+                                    PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.reanalyses = reanalyses;
+        this.repository = repository;
+        this.policyRequestService = policyRequestService;
+        this.fraudAnalysisService = fraudAnalysisService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${fraud.analysis.reanalysis-poll-interval-ms:5000}")
+    public void runDue() {
+        List<FraudReanalysis> due = claimDue(LocalDateTime.now());
+        for (FraudReanalysis reanalysis : due) {
+            run(reanalysis);
+        }
+    }
+
+    /**
+     * Locks the due rows, counts the attempt about to be made and schedules the next one.
+     */
+    List<FraudReanalysis> claimDue(LocalDateTime now) {
+        List<FraudReanalysis> due = transactionTemplate.execute(status -> {
+            List<FraudReanalysis> batch = reanalyses.lockDue(now, properties.getReanalysisMaxAttempts(),
+                    Limit.of(properties.getReanalysisBatchSize()));
+            for (FraudReanalysis reanalysis : batch) {
+                int attempt = reanalysis.getAttempts() + 1;
+                reanalysis.setAttempts(attempt);
+                reanalysis.setNextAttemptAt(now.plus(Duration.ofMillis(properties.getReanalysisDelayMs() * attempt)));
+            }
+            return batch;
+        });
+        return due != null ? due : List.of();
+    }
+
+    void run(FraudReanalysis reanalysis) {
+        UUID policyId = reanalysis.getPolicyRequestId();
+        int attempt = reanalysis.getAttempts();
+        try {
+            String outcome = reanalyze(policyId);
+            transactionTemplate.executeWithoutResult(status -> reanalyses.deleteById(reanalysis.getId()));
+            count(outcome);
+            log.info("Fraud re-analysis for policy {} finished: {}", policyId, outcome);
+        } catch (Exception e) {
+            transactionTemplate.executeWithoutResult(status -> reanalyses.findById(reanalysis.getId())
+                    .ifPresent(row -> row.setLastError(truncate(e.getMessage()))));
+            if (attempt < properties.getReanalysisMaxAttempts()) {
+                log.warn("Fraud re-analysis attempt {} for policy {} failed: {}", attempt, policyId, e.getMessage());
+                count("retry");
+            } else {
+                log.error("Giving up fraud re-analysis for policy {} after {} attempts", policyId, attempt, e);
+                count("failed");
+            }
+        }
+    }
+
+    /**
+     * @return {@code upgraded} when a new classification was stored, {@code skipped} when the
+     *         policy no longer needs it
+     */
+    String reanalyze(UUID policyId) {
+        PolicyRequest current = transactionTemplate.execute(status ->
+                repository.findWorkflowById(policyId).filter(FraudReanalysisScheduler::isDegraded).orElse(null));
+        if (current == null) {
+            return "skipped";
+        }
+
+        RiskAnalysis fresh = fraudAnalysisService.analyzeFraud(current);
+        return policyRequestService.applyFraudReanalysis(policyId, fresh) ? "upgraded" : "skipped";
+    }
+
+    public static boolean isDegraded(PolicyRequest request) {
+        RiskAnalysis analysis = request.getRiskAnalysis();
+        return analysis != null
+                && analysis.getClassification() == CustomerRiskType.NO_INFORMATION
+                && analysis.getOccurrences().stream().anyMatch(o -> DEADLINE_EXCEEDED.equals(o.getType()));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private void count(String outcome) {
+        Counter.builder("insurance.fraud.reanalysis.total")
+                .description("Fraud re-analyses of degraded NO_INFORMATION classifications")
+                .tag("service", "policy-service")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
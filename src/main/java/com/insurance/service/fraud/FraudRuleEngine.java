@@ -0,0 +1,49 @@
+package com.insurance.service.fraud;
+
+import com.insurance.infrastructure.config.ReloadableConfigFile;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the active {@link FraudDecisionTable}. The table starts from the application configuration
+ * and, when {@code fraud.rules.file} is set, is recompiled whenever that file changes. A file that
+ * fails validation is logged and ignored, so the previous table stays in effect.
+ */
+@Component
+@Slf4j
+public class FraudRuleEngine {
+
+    private final ReloadableConfigFile file;
+    private volatile FraudDecisionTable table;
+
+    public FraudRuleEngine(FraudRulesProperties properties) {
+        this.file = new ReloadableConfigFile(properties.getFile(), "fraud.rules");
+        this.table = FraudDecisionTable.compile(properties);
+    }
+
+    public FraudDecisionTable currentTable() {
+        return table;
+    }
+
+    /**
+     * Compiles the given rules and swaps them in atomically.
+     */
+    public FraudDecisionTable reload(FraudRulesProperties rules) {
+        FraudDecisionTable compiled = FraudDecisionTable.compile(rules);
+        table = compiled;
+        return compiled;
+    }
+
+    @Scheduled(fixedDelayString = "${fraud.rules.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        try {
+            if (file.reloadIfChanged(FraudRulesProperties::new, this::reload)) {
+                log.info("Fraud rules reloaded from {}", file.getPath());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to reload fraud rules from {}; keeping current rules", file.getPath(), e);
+        }
+    }
+}
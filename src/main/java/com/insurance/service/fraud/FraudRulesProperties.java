@@ -0,0 +1,71 @@
+package com.insurance.service.fraud;
+
+import com.insurance.domain.enums.InsuranceCategory;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Risk classification rules used by the fraud analysis
+ */
+@Component
+@ConfigurationProperties(prefix = "fraud.rules")
+@Data
+public class FraudRulesProperties {
+
+    /**
+     * Insured amount ranges per category
+     */
+    private Map<InsuranceCategory, CategoryRule> categories = defaultCategories();
+
+    /**
+     * Insured amount above which an EXTREME_VALUE occurrence is raised, whatever the category
+     */
+    private BigDecimal extremeValueAbove = new BigDecimal("1000000.00");
+
+    /**
+     * Description of the HIGH_VALUE occurrence; {category} is replaced with the policy category
+     */
+    private String highValueDescription = "High insured amount detected for category {category}";
+
+    /**
+     * External file (.properties format, same fraud.rules.* keys) reloaded without a restart
+     */
+    private String file;
+
+    /**
+     * How often the external file is checked for changes
+     */
+    private long reloadIntervalMs = 30000;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryRule {
+
+        /**
+         * Start (inclusive) of the PREFERRED range
+         */
+        private BigDecimal preferredFrom;
+
+        /**
+         * Amounts above this limit are HIGH_RISK; also the end (inclusive) of the PREFERRED range
+         */
+        private BigDecimal highRiskAbove;
+    }
+
+    private static Map<InsuranceCategory, CategoryRule> defaultCategories() {
+        Map<InsuranceCategory, CategoryRule> categories = new EnumMap<>(InsuranceCategory.class);
+        categories.put(InsuranceCategory.LIFE, new CategoryRule(new BigDecimal("200000.00"), new BigDecimal("500000.00")));
+        categories.put(InsuranceCategory.AUTO, new CategoryRule(new BigDecimal("150000.00"), new BigDecimal("300000.00")));
+        categories.put(InsuranceCategory.RESIDENTIAL, new CategoryRule(new BigDecimal("200000.00"), new BigDecimal("400000.00")));
+        categories.put(InsuranceCategory.TRAVEL, new CategoryRule(new BigDecimal("100000.00"), new BigDecimal("200000.00")));
+        categories.put(InsuranceCategory.HEALTH, new CategoryRule(new BigDecimal("100000.00"), new BigDecimal("200000.00")));
+        return categories;
+    }
+}
@@ -4,8 +4,9 @@ import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.RiskAnalysis;
 import com.insurance.domain.RiskOccurrence;
 import com.insurance.domain.enums.CustomerRiskType;
-import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.service.FraudAnalysisService;
+import com.insurance.service.fraud.FraudDecisionTable;
+import com.insurance.service.fraud.FraudRuleEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FraudAnalysisServiceImpl implements FraudAnalysisService {
 
+    private final FraudRuleEngine ruleEngine;
+
     @Override
     @Transactional
     public RiskAnalysis analyzeFraud(PolicyRequest request) {
@@ -28,10 +31,12 @@ public class FraudAnalysisServiceImpl implements FraudAnalysisService {
             RiskAnalysis riskAnalysis = new RiskAnalysis();
             riskAnalysis.setAnalyzedAt(LocalDateTime.now());
             
-            CustomerRiskType classification = determineRiskClassification(request);
+            // One rules snapshot per analysis, even if a reload happens halfway through
+            FraudDecisionTable rules = ruleEngine.currentTable();
+            CustomerRiskType classification = determineRiskClassification(rules, request);
             riskAnalysis.setClassification(classification);
             
-            List<RiskOccurrence> occurrences = generateOccurrences(request, classification);
+            List<RiskOccurrence> occurrences = generateOccurrences(rules, request, classification);
             riskAnalysis.setOccurrences(occurrences);
 
             return riskAnalysis;
@@ -61,58 +66,32 @@ public class FraudAnalysisServiceImpl implements FraudAnalysisService {
         }
     }
 
-    private CustomerRiskType determineRiskClassification(PolicyRequest request) {
-        BigDecimal amount = request.getInsuredAmount();
-        InsuranceCategory category = request.getCategory();
-        
-        if (isHighRiskAmount(amount, category)) {
-            return CustomerRiskType.HIGH_RISK;
-        } else if (isPreferredAmount(amount, category)) {
-            return CustomerRiskType.PREFERRED;
-        } else {
-            return CustomerRiskType.REGULAR;
-        }
+    private CustomerRiskType determineRiskClassification(FraudDecisionTable rules, PolicyRequest request) {
+        return rules.classify(request.getCategory(), request.getInsuredAmount());
     }
 
-    private boolean isHighRiskAmount(BigDecimal amount, InsuranceCategory category) {
-        return switch (category) {
-            case LIFE -> amount.compareTo(new BigDecimal("500000.00")) > 0;
-            case AUTO -> amount.compareTo(new BigDecimal("300000.00")) > 0;
-            case RESIDENTIAL -> amount.compareTo(new BigDecimal("400000.00")) > 0;
-            case TRAVEL, HEALTH -> amount.compareTo(new BigDecimal("200000.00")) > 0;
-        };
-    }
+    private List<RiskOccurrence> generateOccurrences(FraudDecisionTable rules, PolicyRequest request,
+                                                     CustomerRiskType classification) {
+        List<RiskOccurrence> occurrences = new ArrayList<>(2);
 
-    private boolean isPreferredAmount(BigDecimal amount, InsuranceCategory category) {
-        return switch (category) {
-            case LIFE -> amount.compareTo(new BigDecimal("200000.00")) >= 0 && amount.compareTo(new BigDecimal("500000.00")) <= 0;
-            case AUTO -> amount.compareTo(new BigDecimal("150000.00")) >= 0 && amount.compareTo(new BigDecimal("300000.00")) <= 0;
-            case RESIDENTIAL -> amount.compareTo(new BigDecimal("200000.00")) >= 0 && amount.compareTo(new BigDecimal("400000.00")) <= 0;
-            case TRAVEL, HEALTH -> amount.compareTo(new BigDecimal("100000.00")) >= 0 && amount.compareTo(new BigDecimal("200000.00")) <= 0;
-        };
-    }
-    
-    private List<RiskOccurrence> generateOccurrences(PolicyRequest request, CustomerRiskType classification) {
-        List<RiskOccurrence> occurrences = new ArrayList<>();
-        
         if (classification == CustomerRiskType.HIGH_RISK) {
-            RiskOccurrence occurrence = new RiskOccurrence();
-            occurrence.setType("HIGH_VALUE");
-            occurrence.setDescription("High insured amount detected for category " + request.getCategory());
-            occurrence.setCreatedAt(LocalDateTime.now());
-            occurrence.setUpdatedAt(LocalDateTime.now());
-            occurrences.add(occurrence);
+            occurrences.add(occurrence("HIGH_VALUE", rules.highValueDescription(request.getCategory())));
         }
-        
-        if (request.getInsuredAmount().compareTo(new BigDecimal("1000000.00")) > 0) {
-            RiskOccurrence occurrence = new RiskOccurrence();
-            occurrence.setType("EXTREME_VALUE");
-            occurrence.setDescription("Extremely high insured amount detected");
-            occurrence.setCreatedAt(LocalDateTime.now());
-            occurrence.setUpdatedAt(LocalDateTime.now());
-            occurrences.add(occurrence);
+
+        if (rules.isExtremeValue(request.getInsuredAmount())) {
+            occurrences.add(occurrence("EXTREME_VALUE", "Extremely high insured amount detected"));
         }
-        
+
         return occurrences;
     }
-}
\ No newline at end of file
+
+    private RiskOccurrence occurrence(String type, String description) {
+        LocalDateTime now = LocalDateTime.now();
+        RiskOccurrence occurrence = new RiskOccurrence();
+        occurrence.setType(type);
+        occurrence.setDescription(description);
+        occurrence.setCreatedAt(now);
+        occurrence.setUpdatedAt(now);
+        return occurrence;
+    }
+}
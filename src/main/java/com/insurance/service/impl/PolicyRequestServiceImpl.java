@@ -3,38 +3,88 @@ package com.insurance.service.impl;
 import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.RiskAnalysis;
 import com.insurance.domain.RiskOccurrence;
+import com.insurance.domain.StatusHistory;
 import com.insurance.domain.enums.CustomerRiskType;
 import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PolicyStatus;
 import com.insurance.dto.FraudAnalysisResponseDTO;
+import com.insurance.dto.PolicyBatchResponseDTO;
 import com.insurance.dto.PolicyCancelResponseDTO;
+import com.insurance.dto.PolicyProcessingBatchResponseDTO;
+import com.insurance.dto.PolicyProcessingResponseDTO;
+import com.insurance.dto.PolicyTransitionsDTO;
+import com.insurance.dto.PolicyRequestCursor;
+import com.insurance.dto.PolicyRequestSnapshot;
+import com.insurance.dto.PolicyStatusEventDTO;
 import com.insurance.dto.PolicyValidationResponseDTO;
 import com.insurance.event.*;
 import com.insurance.exception.BusinessException;
+import com.insurance.infrastructure.cache.PolicyRequestCache;
+import com.insurance.infrastructure.config.PolicyBatchProperties;
 import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
 import com.insurance.infrastructure.messaging.service.EventPublisher;
+import com.insurance.infrastructure.persistence.routing.ReadAfterWriteTracker;
+import com.insurance.infrastructure.streaming.PolicyEventHub;
+import com.insurance.mapper.PolicyRequestMapper;
 import com.insurance.repository.PolicyRequestRepository;
+import com.insurance.repository.StatusHistoryRepository;
 import com.insurance.service.*;
+import com.insurance.service.concurrency.OptimisticRetryExecutor;
+import com.insurance.service.fraud.FraudAnalysisProperties;
+import com.insurance.service.fraud.FraudReanalysis;
+import com.insurance.service.fraud.FraudReanalysisRepository;
+import com.insurance.service.fraud.FraudReanalysisScheduler;
+import com.insurance.service.limits.CoverageLimitMatrix;
+import com.insurance.service.limits.CoverageLimitProvider;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PolicyRequestServiceImpl implements PolicyRequestService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Set<String> DEGRADABLE_FRAUD_ERRORS =
+            Set.of("FRAUD_API_TIMEOUT", "FRAUD_API_CIRCUIT_OPEN", "FRAUD_API_BULKHEAD_FULL");
+
     private final PolicyRequestRepository repository;
+    private final StatusHistoryRepository statusHistoryRepository;
     private final FraudAnalysisService fraudAnalysisService;
     private final PaymentService paymentService;
     private final SubscriptionService subscriptionService;
     private final EventPublisher eventPublisher;
     private final PolicyStatusService policyStatusService;
+    private final PolicyBatchProperties batchProperties;
+    private final FraudAnalysisProperties fraudAnalysisProperties;
+    private final FraudReanalysisRepository fraudReanalysisRepository;
+    private final CoverageLimitProvider coverageLimitProvider;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final ReadAfterWriteTracker readAfterWrite;
+    private final PolicyRequestCache policyRequestCache;
+    private final PolicyEventHub eventHub;
+    private final PolicyRequestMapper mapper;
 
     @Override
     @Transactional
@@ -55,29 +105,181 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
     }
 
     @Override
+    @Transactional
+    public PolicyBatchResponseDTO createPolicyRequests(List<PolicyRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one policy request");
+        }
+
+        if (requests.size() > batchProperties.getMaxSize()) {
+            throw new IllegalArgumentException(String.format(
+                "Batch size %d exceeds the maximum of %d", requests.size(), batchProperties.getMaxSize()));
+        }
+
+        List<PolicyBatchResponseDTO.ItemResultDTO> results = new ArrayList<>(requests.size());
+        List<PolicyRequest> accepted = new ArrayList<>(requests.size());
+
+        for (int index = 0; index < requests.size(); index++) {
+            PolicyRequest request = requests.get(index);
+            try {
+                validatePolicyRequestInput(request);
+                request.setStatus(PolicyStatus.RECEIVED);
+                accepted.add(request);
+                results.add(null);
+            } catch (IllegalArgumentException e) {
+                results.add(PolicyBatchResponseDTO.ItemResultDTO.failure(index, e.getMessage()));
+            }
+        }
+
+        repository.persistInBatches(accepted, batchProperties.getChunkSize());
+
+        eventPublisher.publishAll(
+            RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
+            RabbitMQConfig.POLICY_CREATED_KEY,
+            accepted.stream().map(PolicyRequestCreatedEvent::new).toList()
+        );
+
+        int next = 0;
+        for (int index = 0; index < results.size(); index++) {
+            if (results.get(index) == null) {
+                PolicyRequest created = accepted.get(next++);
+                results.set(index, PolicyBatchResponseDTO.ItemResultDTO.success(
+                    index, created.getId(), created.getStatus()));
+            }
+        }
+
+        return PolicyBatchResponseDTO.of(results);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public PolicyRequest findById(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("Policy ID cannot be null");
         }
-        
-        return repository.findById(id)
+
+        readAfterWrite.routeToPrimaryIfRecentlyWritten(id);
+        return repository.findDetailById(id)
                 .orElseThrow(() -> {
                     return new EntityNotFoundException("Policy request not found with id: " + id);
                 });
     }
 
     @Override
-    public List<PolicyRequest> findByCustomerId(UUID customerId) {
+    @Transactional(readOnly = true)
+    public PolicyRequestSnapshot findSnapshot(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Policy ID cannot be null");
+        }
+
+        readAfterWrite.routeToPrimaryIfRecentlyWritten(id);
+        return policyRequestCache.get(id, key -> {
+            PolicyRequest found = repository.findDetailById(key)
+                    .orElseThrow(() -> new EntityNotFoundException("Policy request not found with id: " + key));
+            return PolicyRequestSnapshot.of(found, mapper.toDTO(found));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findVersion(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Policy ID cannot be null");
+        }
+
+        // Entries are evicted on every local write and on the status events of other instances, so
+        // the cached version is current up to the event delivery delay
+        PolicyRequestSnapshot cached = policyRequestCache.getIfPresent(id);
+        if (cached != null && cached.version() != null) {
+            return cached.version();
+        }
+
+        readAfterWrite.routeToPrimaryIfRecentlyWritten(id);
+        return repository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Policy request not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PolicyRequest> findByCustomerId(UUID customerId, LocalDate since) {
         if (customerId == null) {
             throw new IllegalArgumentException("Customer ID cannot be null");
         }
-        
-        List<PolicyRequest> requests = repository.findByCustomerId(customerId);
+
+        readAfterWrite.routeToPrimaryIfRecentlyWritten(customerId);
+        List<PolicyRequest> requests = repository.findByCustomerId(customerId, createdFrom(since));
+        return initializeHistory(requests);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PolicyRequest> findPageByCustomerId(UUID customerId, LocalDate since, PolicyRequestCursor after, int size) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Customer ID cannot be null");
+        }
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        readAfterWrite.routeToPrimaryIfRecentlyWritten(customerId);
+        Limit limit = Limit.of(size + 1);
+        LocalDateTime from = createdFrom(since);
+        List<PolicyRequest> rows = after == null
+                ? repository.findFirstPageByCustomerId(customerId, from, limit)
+                : repository.findPageByCustomerIdAfter(customerId, from, after.getCreatedAt(), after.getId(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<PolicyRequest> content = initializeHistory(hasNext ? rows.subList(0, size) : rows);
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    // Without open-in-view the controller maps the policies outside the transaction; the history is
+    // loaded here, in @BatchSize batches
+    private static List<PolicyRequest> initializeHistory(List<PolicyRequest> requests) {
+        requests.forEach(request -> Hibernate.initialize(request.getStatusHistory()));
         return requests;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<StatusHistory> findStatusHistory(UUID id, int page, int size) {
+        if (id == null) {
+            throw new IllegalArgumentException("Policy ID cannot be null");
+        }
+
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        readAfterWrite.routeToPrimaryIfRecentlyWritten(id);
+        Slice<StatusHistory> history = statusHistoryRepository
+                .findByPolicyRequestIdOrderByChangedAtDescIdDesc(id, PageRequest.of(page, size));
+
+        // Newly created policies have no history yet; only then is the existence query worth running
+        if (!history.hasContent() && page == 0 && !repository.existsById(id)) {
+            throw new EntityNotFoundException("Policy request not found with id: " + id);
+        }
+
+        return history;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByCustomerId(UUID customerId, LocalDate since, Consumer<PolicyRequest> consumer) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Customer ID cannot be null");
+        }
+
+        readAfterWrite.routeToPrimaryIfRecentlyWritten(customerId);
+        repository.forEachByCustomerId(customerId, createdFrom(since), consumer);
+    }
+
+    @Override
     public PolicyRequest updateStatus(UUID id, PolicyStatus newStatus) {
         if (id == null) {
             throw new IllegalArgumentException("Policy ID cannot be null");
@@ -87,27 +289,28 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             throw new IllegalArgumentException("New status cannot be null");
         }
         
-        PolicyRequest request = findById(id);
-
-        PolicyStatus previousStatus = request.getStatus();
-        policyStatusService.updatePolicyStatus(request, newStatus);
-        request = repository.save(request);
-
-        publishStatusChangeEvent(request, previousStatus, newStatus);
+        return retryExecutor.execute("update-status", () -> transition(findForWorkflow(id), newStatus));
+    }
 
-        return request;
+    @Override
+    @Transactional(readOnly = true)
+    public PolicyTransitionsDTO getAllowedTransitions(UUID id) {
+        PolicyRequestSnapshot request = findSnapshot(id);
+        return PolicyTransitionsDTO.of(request.id(), request.status());
     }
 
     @Override
-    @Transactional
     public PolicyValidationResponseDTO validatePolicyRequest(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("Policy ID cannot be null");
         }
         
-        try {
-            PolicyRequest request = findById(id);
+        return retryExecutor.execute("validate", () -> runValidation(findForWorkflow(id)));
+    }
 
+    private PolicyValidationResponseDTO runValidation(PolicyRequest request) {
+        UUID id = request.getId();
+        try {
             if (request.getRiskAnalysis() == null) {
                 String message = "Cannot validate policy without risk analysis";
                 throw new BusinessException(message, "MISSING_RISK_ANALYSIS");
@@ -123,21 +326,20 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             }
 
             CustomerRiskType riskType = request.getRiskAnalysis().getClassification();
-            boolean isValid = validateInsuranceAmount(request.getCategory(),
-                                                    request.getInsuredAmount(),
-                                                    riskType);
+            CoverageLimitMatrix limits = coverageLimitProvider.current();
+            boolean isValid = limits.isWithinLimit(riskType, request.getCategory(), request.getInsuredAmount());
 
             if (isValid) {
                 PolicyStatus newStatus = PolicyStatus.VALIDATED;
-                updateStatus(id, newStatus);
+                transition(request, newStatus);
                 return PolicyValidationResponseDTO.success(id, newStatus);
             } else {
                 PolicyStatus newStatus = PolicyStatus.REJECTED;
-                updateStatus(id, newStatus);
+                transition(request, newStatus);
 
-                String reason = buildValidationFailureReason(request.getCategory(),
-                                                           request.getInsuredAmount(),
-                                                           riskType);
+                String reason = buildValidationFailureReason(limits, request.getCategory(),
+                                                             request.getInsuredAmount(),
+                                                             riskType);
                 return PolicyValidationResponseDTO.failure(id, reason);
             }
 
@@ -149,14 +351,37 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
     }
 
     @Override
-    @Transactional
     public FraudAnalysisResponseDTO processFraudAnalysis(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("Policy ID cannot be null");
         }
         
-        PolicyRequest request = findById(id);
-        
+        FraudCheck fraud = checkFraud(id);
+        return retryExecutor.execute("fraud-analysis", () -> runFraudAnalysis(findForWorkflow(id), fraud));
+    }
+
+    /**
+     * Consults the fraud provider before the workflow transaction opens, so that a connection and the
+     * row's lock are not held for the length of a remote call. Returns {@code null} when the request is
+     * not waiting for an analysis; the transactional step re-checks against fresh state either way.
+     */
+    private FraudCheck checkFraud(UUID id) {
+        PolicyRequest request = retryExecutor.execute("fraud-analysis", () -> findForWorkflow(id));
+        if (request.getStatus() != PolicyStatus.RECEIVED || request.getRiskAnalysis() != null) {
+            return null;
+        }
+        return checkFraud(request);
+    }
+
+    private FraudCheck checkFraud(PolicyRequest request) {
+        try {
+            return new FraudCheck(analyzeFraudWithinDeadline(request), null);
+        } catch (Exception e) {
+            return new FraudCheck(null, e);
+        }
+    }
+
+    private FraudAnalysisResponseDTO runFraudAnalysis(PolicyRequest request, FraudCheck fraud) {
         if (request.getRiskAnalysis() != null) {
             throw new BusinessException("Policy already has risk analysis", "DUPLICATE_RISK_ANALYSIS");
         }
@@ -165,9 +390,19 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             throw new BusinessException("Cannot process fraud analysis in current status", "INVALID_STATUS_FOR_ANALYSIS");
         }
 
+        // No check only if the request changed between the two loads; the provider is then called here
+        FraudCheck check = fraud != null ? fraud : checkFraud(request);
         try {
-            RiskAnalysis riskAnalysis = fraudAnalysisService.analyzeFraud(request);
+            if (check.failure() != null) {
+                throw check.failure();
+            }
+            RiskAnalysis riskAnalysis = copyOf(check.analysis());
             request.setRiskAnalysis(riskAnalysis);
+            if (FraudReanalysisScheduler.isDegraded(request)) {
+                // Same transaction: rolled back with the analysis, and survives a restart once committed
+                fraudReanalysisRepository.save(FraudReanalysis.of(request.getId(), LocalDateTime.now()
+                        .plus(Duration.ofMillis(fraudAnalysisProperties.getReanalysisDelayMs()))));
+            }
             repository.save(request);
 
             FraudAnalysisResponseDTO response = new FraudAnalysisResponseDTO();
@@ -197,14 +432,60 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
     }
 
     @Override
-    @Transactional
+    public boolean applyFraudReanalysis(UUID id, RiskAnalysis analysis) {
+        if (id == null) {
+            throw new IllegalArgumentException("Policy ID cannot be null");
+        }
+
+        return retryExecutor.execute("fraud-reanalysis", () -> runFraudReanalysis(findForWorkflow(id), analysis));
+    }
+
+    /**
+     * A policy validated (or already paid) under NO_INFORMATION passed that classification's limits; with
+     * the new classification the limits are checked again and the policy is rejected if the insured amount
+     * no longer fits. Policies still RECEIVED are validated with the new classification; final ones stay as
+     * they are.
+     */
+    private boolean runFraudReanalysis(PolicyRequest request, RiskAnalysis fresh) {
+        if (!FraudReanalysisScheduler.isDegraded(request)) {
+            return false;
+        }
+
+        RiskAnalysis analysis = request.getRiskAnalysis();
+        CustomerRiskType previous = analysis.getClassification();
+        analysis.setClassification(fresh.getClassification());
+        analysis.setAnalyzedAt(fresh.getAnalyzedAt());
+        analysis.getOccurrences().clear();
+        // Fresh copies per attempt: instances from a rolled-back attempt don't go back into the context
+        for (RiskOccurrence occurrence : fresh.getOccurrences()) {
+            RiskOccurrence copy = new RiskOccurrence();
+            copy.setType(occurrence.getType());
+            copy.setDescription(occurrence.getDescription());
+            analysis.getOccurrences().add(copy);
+        }
+
+        PolicyStatus status = request.getStatus();
+        boolean validated = status == PolicyStatus.VALIDATED || status == PolicyStatus.PENDING;
+        if (validated && fresh.getClassification() != previous
+                && !coverageLimitProvider.current().isWithinLimit(fresh.getClassification(),
+                        request.getCategory(), request.getInsuredAmount())) {
+            transition(request, PolicyStatus.REJECTED);
+        } else {
+            repository.save(request);
+        }
+        return true;
+    }
+
+    @Override
     public void processPayment(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("Policy ID cannot be null");
         }
         
-        PolicyRequest request = findById(id);
-        
+        retryExecutor.run("payment", () -> runPayment(findForWorkflow(id)));
+    }
+
+    private void runPayment(PolicyRequest request) {
         if (request.getStatus() != PolicyStatus.VALIDATED) {
             String message = String.format("Cannot process payment for policy in status: %s", request.getStatus());
             throw new BusinessException(message, "INVALID_STATUS_FOR_PAYMENT");
@@ -214,53 +495,60 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             boolean paymentSuccessful = paymentService.processPayment(request);
             
             if (paymentSuccessful) {
-                updateStatus(id, PolicyStatus.PENDING);
+                transition(request, PolicyStatus.PENDING);
             } else {
-                updateStatus(id, PolicyStatus.REJECTED);
+                transition(request, PolicyStatus.REJECTED);
                 throw new BusinessException("Payment processing failed", "PAYMENT_FAILED");
             }
             
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
-            updateStatus(id, PolicyStatus.REJECTED);
+            transition(request, PolicyStatus.REJECTED);
             throw new BusinessException("Error during payment processing", "PAYMENT_ERROR", e);
         }
     }
 
     @Override
-    @Transactional
     public void processSubscription(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("Policy ID cannot be null");
         }
         
-        PolicyRequest request = findById(id);
-        
+        retryExecutor.run("subscription", () -> runSubscription(findForWorkflow(id)));
+    }
+
+    private void runSubscription(PolicyRequest request) {
         if (request.getStatus() != PolicyStatus.PENDING) {
             String message = String.format("Cannot process subscription for policy in status: %s", request.getStatus());
             throw new BusinessException(message, "INVALID_STATUS_FOR_SUBSCRIPTION");
         }
 
+        // SubscriptionService marks APPROVED for its own event; the transition itself (history,
+        // metrics) belongs to the state machine
+        PolicyStatus previousStatus = request.getStatus();
         try {
             subscriptionService.processSubscription(request);
-            updateStatus(id, PolicyStatus.APPROVED);
+            request.setStatus(previousStatus);
+            transition(request, PolicyStatus.APPROVED);
 
         } catch (Exception e) {
-            updateStatus(id, PolicyStatus.REJECTED);
+            request.setStatus(previousStatus);
+            transition(request, PolicyStatus.REJECTED);
             throw new BusinessException("Error during subscription processing", "SUBSCRIPTION_ERROR", e);
         }
     }
 
     @Override
-    @Transactional
     public PolicyCancelResponseDTO cancelPolicyRequest(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("Policy ID cannot be null");
         }
-        
-        PolicyRequest request = findById(id);
-        
+
+        return retryExecutor.execute("cancel", () -> runCancellation(findForWorkflow(id)));
+    }
+
+    private PolicyCancelResponseDTO runCancellation(PolicyRequest request) {
         if (request.getStatus() == PolicyStatus.CANCELLED) {
             throw new BusinessException("Policy is already cancelled", "ALREADY_CANCELLED");
         }
@@ -270,16 +558,190 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
         }
 
         try {
-            PolicyStatus previousStatus = request.getStatus();
-            updateStatus(id, PolicyStatus.CANCELLED);
+            transition(request, PolicyStatus.CANCELLED);
             
-            return PolicyCancelResponseDTO.success(id);
+            return PolicyCancelResponseDTO.success(request.getId());
             
         } catch (Exception e) {
             throw new BusinessException("Error during policy cancellation", "CANCELLATION_ERROR", e);
         }
     }
 
+    @Override
+    public PolicyProcessingResponseDTO processPolicyRequest(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Policy ID cannot be null");
+        }
+
+        FraudCheck fraud = checkFraud(id);
+        return retryExecutor.execute("process", () -> runPipeline(findForWorkflow(id), fraud));
+    }
+
+    /**
+     * Each policy is processed in a transaction of its own (retried on a version conflict), so that
+     * one failure doesn't roll back the others.
+     */
+    @Override
+    public PolicyProcessingBatchResponseDTO processPolicyRequests(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one policy ID");
+        }
+
+        if (ids.size() > batchProperties.getMaxSize()) {
+            throw new IllegalArgumentException(String.format(
+                "Batch size %d exceeds the maximum of %d", ids.size(), batchProperties.getMaxSize()));
+        }
+
+        List<PolicyProcessingResponseDTO> results = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            if (id == null) {
+                results.add(PolicyProcessingResponseDTO.error(null, "INVALID_ID", "Policy ID cannot be null"));
+                continue;
+            }
+
+            try {
+                FraudCheck fraud = checkFraud(id);
+                results.add(retryExecutor.execute("process", () -> runPipeline(findForWorkflow(id), fraud)));
+            } catch (EntityNotFoundException e) {
+                results.add(PolicyProcessingResponseDTO.notFound(id, e.getMessage()));
+            } catch (RuntimeException e) {
+                results.add(PolicyProcessingResponseDTO.error(id, "PROCESSING_ERROR", e.getMessage()));
+            }
+        }
+
+        return PolicyProcessingBatchResponseDTO.of(results);
+    }
+
+    /**
+     * Runs the remaining RECEIVED → APPROVED steps on the already loaded aggregate, stopping at the
+     * first rejection. Policies in a final status are returned as they are.
+     */
+    private PolicyProcessingResponseDTO runPipeline(PolicyRequest request, FraudCheck fraud) {
+        PolicyProcessingResponseDTO.Step step = null;
+        try {
+            if (request.getStatus() == PolicyStatus.RECEIVED && request.getRiskAnalysis() == null) {
+                step = PolicyProcessingResponseDTO.Step.FRAUD_ANALYSIS;
+                runFraudAnalysis(request, fraud);
+            }
+
+            if (request.getStatus() == PolicyStatus.RECEIVED) {
+                step = PolicyProcessingResponseDTO.Step.VALIDATION;
+                PolicyValidationResponseDTO validation = runValidation(request);
+                if (!validation.isValidated()) {
+                    return PolicyProcessingResponseDTO.stopped(request, historyOf(request), step,
+                                                               "VALIDATION_REJECTED", validation.getReason());
+                }
+            }
+
+            if (request.getStatus() == PolicyStatus.VALIDATED) {
+                step = PolicyProcessingResponseDTO.Step.PAYMENT;
+                runPayment(request);
+            }
+
+            if (request.getStatus() == PolicyStatus.PENDING) {
+                step = PolicyProcessingResponseDTO.Step.SUBSCRIPTION;
+                runSubscription(request);
+            }
+
+            return PolicyProcessingResponseDTO.completed(request, historyOf(request));
+
+        } catch (BusinessException e) {
+            return PolicyProcessingResponseDTO.stopped(request, historyOf(request), step,
+                                                       e.getErrorCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * With degraded mode enabled, the analysis has a latency budget. If the provider misses the
+     * deadline or is unavailable (circuit open, bulkhead full), the policy proceeds with a
+     * NO_INFORMATION classification and a re-analysis is scheduled, instead of being rejected.
+     */
+    private RiskAnalysis analyzeFraudWithinDeadline(PolicyRequest request) throws Exception {
+        if (!fraudAnalysisProperties.isDegradedModeEnabled()) {
+            return fraudAnalysisService.analyzeFraud(request);
+        }
+
+        long deadlineMs = fraudAnalysisProperties.getDeadlineMs();
+        CompletableFuture<RiskAnalysis> analysis = fraudAnalysisService.analyzeFraudAsync(request);
+        try {
+            return analysis.get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            analysis.cancel(false);
+            return degradedRiskAnalysis("Fraud analysis exceeded the " + deadlineMs + " ms budget");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException cause && DEGRADABLE_FRAUD_ERRORS.contains(cause.getErrorCode())) {
+                return degradedRiskAnalysis(cause.getMessage());
+            }
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private RiskAnalysis degradedRiskAnalysis(String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        RiskOccurrence occurrence = new RiskOccurrence();
+        occurrence.setType(FraudReanalysisScheduler.DEADLINE_EXCEEDED);
+        occurrence.setDescription(reason);
+        occurrence.setCreatedAt(now);
+        occurrence.setUpdatedAt(now);
+
+        RiskAnalysis analysis = new RiskAnalysis();
+        analysis.setClassification(CustomerRiskType.NO_INFORMATION);
+        analysis.setAnalyzedAt(now);
+        analysis.setOccurrences(new ArrayList<>(List.of(occurrence)));
+        return analysis;
+    }
+
+    // Runs inside the retried transaction, so every attempt persists instances of its own
+    private static RiskAnalysis copyOf(RiskAnalysis analysis) {
+        RiskAnalysis copy = new RiskAnalysis();
+        copy.setClassification(analysis.getClassification());
+        copy.setAnalyzedAt(analysis.getAnalyzedAt());
+        List<RiskOccurrence> occurrences = new ArrayList<>(analysis.getOccurrences().size());
+        for (RiskOccurrence occurrence : analysis.getOccurrences()) {
+            RiskOccurrence occurrenceCopy = new RiskOccurrence();
+            occurrenceCopy.setType(occurrence.getType());
+            occurrenceCopy.setDescription(occurrence.getDescription());
+            occurrenceCopy.setCreatedAt(occurrence.getCreatedAt());
+            occurrenceCopy.setUpdatedAt(occurrence.getUpdatedAt());
+            occurrences.add(occurrenceCopy);
+        }
+        copy.setOccurrences(occurrences);
+        return copy;
+    }
+
+    /** Outcome of the fraud provider call: either an analysis or the error it failed with. */
+    private record FraudCheck(RiskAnalysis analysis, Exception failure) {
+    }
+
+    /**
+     * Applies the transition to the aggregate the workflow step already loaded: no second query,
+     * a single save (flushed on commit) and a single published event.
+     */
+    private PolicyRequest transition(PolicyRequest request, PolicyStatus newStatus) {
+        PolicyStatus previousStatus = request.getStatus();
+        policyStatusService.updatePolicyStatus(request, newStatus);
+        PolicyRequest saved = repository.save(request);
+
+        publishStatusChangeEvent(saved, previousStatus, newStatus);
+
+        return saved;
+    }
+
+    // The query flushes the history rows still pending in this transaction
+    private List<StatusHistory> historyOf(PolicyRequest request) {
+        return statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtAscIdAsc(request.getId());
+    }
+
+    // Only an explicit since prunes partitions; without it every request of the customer is read
+    private static LocalDateTime createdFrom(LocalDate since) {
+        return since != null ? since.atStartOfDay() : PolicyRequestRepository.EARLIEST_CREATED_AT;
+    }
+
+    private PolicyRequest findForWorkflow(UUID id) {
+        return repository.findWorkflowById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Policy request not found with id: " + id));
+    }
+
     private void validatePolicyRequestInput(PolicyRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Policy request cannot be null");
@@ -334,9 +796,9 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             case VALIDATED -> RabbitMQConfig.POLICY_VALIDATED_KEY;
             case REJECTED -> RabbitMQConfig.POLICY_REJECTED_KEY;
             case APPROVED -> RabbitMQConfig.POLICY_APPROVED_KEY;
-            case CANCELLED -> "policy.cancelled";
+            case CANCELLED -> RabbitMQConfig.POLICY_CANCELLED_KEY;
             case PENDING -> RabbitMQConfig.PAYMENT_PROCESSED_KEY;
-            default -> "policy.status.changed";
+            default -> RabbitMQConfig.POLICY_STATUS_CHANGED_KEY;
         };
 
         eventPublisher.publish(
@@ -344,6 +806,7 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             routingKey,
             event
         );
+        eventHub.publishAfterCommit(PolicyStatusEventDTO.of(event));
     }
 
     private FraudAnalysisResponseDTO.RiskOccurrenceDTO mapToOccurrenceDTO(RiskOccurrence occurrence) {
@@ -357,75 +820,10 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
         return dto;
     }
 
-    private boolean validateInsuranceAmount(InsuranceCategory category, BigDecimal amount, CustomerRiskType riskType) {
-        return switch (riskType) {
-            case REGULAR -> validateRegularCustomer(category, amount);
-            case HIGH_RISK -> validateHighRiskCustomer(category, amount);
-            case PREFERRED -> validatePreferredCustomer(category, amount);
-            case NO_INFORMATION -> validateNoInformationCustomer(category, amount);
-        };
-    }
-
-    private boolean validateRegularCustomer(InsuranceCategory category, BigDecimal amount) {
-        return switch (category) {
-            case LIFE, RESIDENTIAL -> amount.compareTo(new BigDecimal("500000.00")) <= 0;
-            case AUTO -> amount.compareTo(new BigDecimal("350000.00")) <= 0;
-            case TRAVEL, HEALTH -> amount.compareTo(new BigDecimal("255000.00")) <= 0;
-        };
-    }
-
-    private boolean validateHighRiskCustomer(InsuranceCategory category, BigDecimal amount) {
-        return switch (category) {
-            case AUTO -> amount.compareTo(new BigDecimal("250000.00")) <= 0;
-            case RESIDENTIAL -> amount.compareTo(new BigDecimal("150000.00")) <= 0;
-            case LIFE, TRAVEL, HEALTH -> amount.compareTo(new BigDecimal("125000.00")) <= 0;
-        };
-    }
-
-    private boolean validatePreferredCustomer(InsuranceCategory category, BigDecimal amount) {
-        return switch (category) {
-            case LIFE -> amount.compareTo(new BigDecimal("800000.00")) <= 0;
-            case AUTO, RESIDENTIAL -> amount.compareTo(new BigDecimal("450000.00")) <= 0;
-            case TRAVEL, HEALTH -> amount.compareTo(new BigDecimal("375000.00")) <= 0;
-        };
-    }
-
-    private boolean validateNoInformationCustomer(InsuranceCategory category, BigDecimal amount) {
-        return switch (category) {
-            case LIFE, RESIDENTIAL -> amount.compareTo(new BigDecimal("200000.00")) <= 0;
-            case AUTO -> amount.compareTo(new BigDecimal("75000.00")) <= 0;
-            case TRAVEL, HEALTH -> amount.compareTo(new BigDecimal("55000.00")) <= 0;
-        };
-    }
-
-    private String buildValidationFailureReason(InsuranceCategory category, BigDecimal amount, CustomerRiskType riskType) {
-        BigDecimal maxAmount = getMaxAmountForCategoryAndRiskType(category, riskType);
+    private String buildValidationFailureReason(CoverageLimitMatrix limits, InsuranceCategory category,
+                                                BigDecimal amount, CustomerRiskType riskType) {
+        BigDecimal maxAmount = limits.maxAmount(riskType, category);
         return String.format("Valor do seguro R$ %s excede o limite de R$ %s para categoria %s e tipo de cliente %s",
                            amount, maxAmount, category.name(), riskType.name());
     }
-
-    private BigDecimal getMaxAmountForCategoryAndRiskType(InsuranceCategory category, CustomerRiskType riskType) {
-        return switch (riskType) {
-            case REGULAR -> switch (category) {
-                case LIFE, RESIDENTIAL -> new BigDecimal("500000.00");
-                case AUTO -> new BigDecimal("350000.00");
-                case TRAVEL, HEALTH -> new BigDecimal("255000.00");
-            };
-            case HIGH_RISK -> switch (category) {
-                case AUTO -> new BigDecimal("250000.00");
-                case RESIDENTIAL -> new BigDecimal("150000.00");
-                case LIFE, TRAVEL, HEALTH -> new BigDecimal("125000.00");
-            };
-            case PREFERRED -> switch (category) {
-                case LIFE -> new BigDecimal("800000.00");
-                case AUTO, RESIDENTIAL -> new BigDecimal("450000.00");
-                case TRAVEL, HEALTH -> new BigDecimal("375000.00");
-            };
-            case NO_INFORMATION -> switch (category) {
-                case LIFE, RESIDENTIAL -> new BigDecimal("200000.00");
-                case AUTO -> new BigDecimal("75000.00");
-                case TRAVEL, HEALTH -> new BigDecimal("55000.00");
-            };
-        };
-    }
 } 
\ No newline at end of file
@@ -4,19 +4,63 @@ import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.StatusHistory;
 import com.insurance.domain.enums.PolicyStatus;
 import com.insurance.exception.BusinessException;
+import com.insurance.repository.StatusHistoryRepository;
 import com.insurance.service.PolicyStatusService;
 import com.insurance.service.StatusHistoryValidationService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class PolicyStatusServiceImpl implements PolicyStatusService {
 
+    private static final PolicyStatus[] STATUSES = PolicyStatus.values();
+
     private final StatusHistoryValidationService statusHistoryValidationService;
+    private final StatusHistoryRepository statusHistoryRepository;
+
+    // One counter and one timer per allowed edge, indexed by from * N + to
+    private final Counter[] transitionCounters = new Counter[STATUSES.length * STATUSES.length];
+    private final Timer[] dwellTimers = new Timer[STATUSES.length * STATUSES.length];
+    private final Counter[] rejectedCounters = new Counter[STATUSES.length];
+
+    public PolicyStatusServiceImpl(StatusHistoryValidationService statusHistoryValidationService,
+                                   StatusHistoryRepository statusHistoryRepository,
+                                   MeterRegistry meterRegistry) {
+        this.statusHistoryValidationService = statusHistoryValidationService;
+        this.statusHistoryRepository = statusHistoryRepository;
+
+        for (PolicyStatus from : STATUSES) {
+            for (PolicyStatus to : from.allowedNextStates()) {
+                int edge = edge(from, to);
+                transitionCounters[edge] = Counter.builder("insurance.policy.transition.total")
+                        .description("Policy status transitions per edge")
+                        .tag("service", "policy-service")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(meterRegistry);
+                dwellTimers[edge] = Timer.builder("insurance.policy.transition.dwell")
+                        .description("Time spent in the previous status before the transition")
+                        .tag("service", "policy-service")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(meterRegistry);
+            }
+            rejectedCounters[from.ordinal()] = Counter.builder("insurance.policy.transition.rejected.total")
+                    .description("Policy status transitions refused by the state machine")
+                    .tag("service", "policy-service")
+                    .tag("from", from.name())
+                    .register(meterRegistry);
+        }
+    }
 
     @Override
     public boolean canTransitionTo(PolicyStatus currentStatus, PolicyStatus newStatus) {
@@ -24,21 +68,16 @@ public class PolicyStatusServiceImpl implements PolicyStatusService {
             return newStatus == PolicyStatus.RECEIVED;
         }
 
-        return switch (currentStatus) {
-            case RECEIVED -> newStatus == PolicyStatus.VALIDATED ||
-                           newStatus == PolicyStatus.REJECTED ||
-                           newStatus == PolicyStatus.CANCELLED;
-            case VALIDATED -> newStatus == PolicyStatus.PENDING ||
-                            newStatus == PolicyStatus.REJECTED ||
-                            newStatus == PolicyStatus.CANCELLED;
-            case PENDING -> newStatus == PolicyStatus.APPROVED ||
-                          newStatus == PolicyStatus.REJECTED ||
-                          newStatus == PolicyStatus.CANCELLED;
-            case APPROVED -> false;
-            case REJECTED, CANCELLED -> false;
-        };
+        return currentStatus.canTransitionTo(newStatus);
     }
 
+    /**
+     * The transition is validated once against the {@link PolicyStatus} table; the history row is built
+     * directly, without repeating the checks of {@link StatusHistoryValidationService}, and inserted
+     * without initializing {@code policyRequest.getStatusHistory()}. If the collection is already loaded,
+     * the saved row goes on top of it (ordered by {@code changedAt DESC}). Transition metrics are only
+     * recorded on commit, so that an attempt rolled back by a version conflict is not counted.
+     */
     @Override
     public void updatePolicyStatus(PolicyRequest policyRequest, PolicyStatus newStatus) {
         if (policyRequest == null) {
@@ -52,18 +91,42 @@ public class PolicyStatusServiceImpl implements PolicyStatusService {
         PolicyStatus currentStatus = policyRequest.getStatus();
         
         if (!canTransitionTo(currentStatus, newStatus)) {
+            // Counted now rather than on commit like accepted transitions: the exception below rolls
+            // the transaction back, so an afterCommit hook would drop every rejection
+            if (currentStatus != null) {
+                rejectedCounters[currentStatus.ordinal()].increment();
+            }
             throw new BusinessException(
                     currentStatus != null ? currentStatus.toString() : "null", 
                     newStatus.toString());
         }
 
-        StatusHistory history = createStatusHistory(policyRequest.getId(), currentStatus, newStatus);
-        policyRequest.getStatusHistory().add(history);
+        // Same preconditions createStatusHistory would apply
+        if (policyRequest.getId() == null) {
+            throw new IllegalArgumentException("policyRequestId cannot be null");
+        }
+        if (currentStatus == null) {
+            throw new IllegalArgumentException("previousStatus cannot be null");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        StatusHistory history = new StatusHistory();
+        history.setPolicyRequestId(policyRequest.getId());
+        history.setPreviousStatus(currentStatus);
+        history.setNewStatus(newStatus);
+        history.setChangedAt(now);
+
+        recordTransition(policyRequest, currentStatus, newStatus, now);
+        statusHistoryRepository.save(history);
+        if (Hibernate.isInitialized(policyRequest.getStatusHistory())) {
+            policyRequest.getStatusHistory().add(0, history);
+        }
         
         policyRequest.setStatus(newStatus);
+        policyRequest.setStatusChangedAt(now);
 
-        if (isFinalStatus(newStatus)) {
-            policyRequest.setFinishedAt(LocalDateTime.now());
+        if (newStatus.isFinal()) {
+            policyRequest.setFinishedAt(now);
         }
     }
 
@@ -73,9 +136,33 @@ public class PolicyStatusServiceImpl implements PolicyStatusService {
                 policyRequestId, previousStatus, newStatus, null);
     }
 
-    private boolean isFinalStatus(PolicyStatus status) {
-        return status == PolicyStatus.APPROVED ||
-               status == PolicyStatus.REJECTED ||
-               status == PolicyStatus.CANCELLED;
+    private void recordTransition(PolicyRequest policyRequest, PolicyStatus from, PolicyStatus to, LocalDateTime now) {
+        int edge = edge(from, to);
+        LocalDateTime enteredAt = policyRequest.getStatusChangedAt() != null
+                ? policyRequest.getStatusChangedAt()
+                : policyRequest.getCreatedAt();
+        Duration dwell = enteredAt != null && !enteredAt.isAfter(now) ? Duration.between(enteredAt, now) : null;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordEdge(edge, dwell);
+                }
+            });
+        } else {
+            recordEdge(edge, dwell);
+        }
+    }
+
+    private void recordEdge(int edge, Duration dwell) {
+        transitionCounters[edge].increment();
+        if (dwell != null) {
+            dwellTimers[edge].record(dwell);
+        }
+    }
+
+    private static int edge(PolicyStatus from, PolicyStatus to) {
+        return from.ordinal() * STATUSES.length + to.ordinal();
     }
-}
\ No newline at end of file
+}
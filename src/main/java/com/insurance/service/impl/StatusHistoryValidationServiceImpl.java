@@ -140,18 +140,6 @@ public class StatusHistoryValidationServiceImpl implements StatusHistoryValidati
     }
 
     private boolean isValidStatusTransition(PolicyStatus from, PolicyStatus to) {
-        return switch (from) {
-            case RECEIVED -> to == PolicyStatus.VALIDATED ||
-                           to == PolicyStatus.REJECTED ||
-                           to == PolicyStatus.CANCELLED;
-            case VALIDATED -> to == PolicyStatus.PENDING ||
-                            to == PolicyStatus.REJECTED ||
-                            to == PolicyStatus.CANCELLED;
-            case PENDING -> to == PolicyStatus.APPROVED ||
-                          to == PolicyStatus.REJECTED ||
-                          to == PolicyStatus.CANCELLED;
-            case APPROVED -> false;
-            case REJECTED, CANCELLED -> false;
-        };
+        return from.canTransitionTo(to);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.insurance.service.limits;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable (risk type x category) matrix of maximum insured amounts, compiled from
+ * {@link CoverageLimitProperties}. Limits are kept as long cents in a flat array indexed by
+ * ordinals; the same cell is also cached as a {@link BigDecimal} so amounts coming from the entity
+ * can be compared without creating any object.
+ */
+public final class CoverageLimitMatrix {
+
+    private static final CustomerRiskType[] RISK_TYPES = CustomerRiskType.values();
+    private static final InsuranceCategory[] CATEGORIES = InsuranceCategory.values();
+
+    private final long[] limitCents;
+    private final BigDecimal[] limits;
+
+    private CoverageLimitMatrix(long[] limitCents, BigDecimal[] limits) {
+        this.limitCents = limitCents;
+        this.limits = limits;
+    }
+
+    /**
+     * Validates and compiles the limits. Every (risk type, category) pair must be present,
+     * positive and have at most two decimal places.
+     */
+    public static CoverageLimitMatrix compile(CoverageLimitProperties properties) {
+        long[] limitCents = new long[RISK_TYPES.length * CATEGORIES.length];
+        BigDecimal[] limits = new BigDecimal[limitCents.length];
+
+        for (CustomerRiskType riskType : RISK_TYPES) {
+            Map<InsuranceCategory, BigDecimal> row = properties.getMaxInsuredAmount().get(riskType);
+            for (InsuranceCategory category : CATEGORIES) {
+                BigDecimal limit = row == null ? null : row.get(category);
+                if (limit == null) {
+                    throw new IllegalArgumentException("Missing coverage limit for " + riskType + "/" + category);
+                }
+                if (limit.signum() <= 0 || limit.stripTrailingZeros().scale() > 2) {
+                    throw new IllegalArgumentException("Invalid coverage limit for " + riskType + "/" + category
+                            + ": must be positive with at most two decimal places");
+                }
+
+                int index = index(riskType, category);
+                limitCents[index] = limit.movePointRight(2).longValueExact();
+                limits[index] = BigDecimal.valueOf(limitCents[index], 2);
+            }
+        }
+        return new CoverageLimitMatrix(limitCents, limits);
+    }
+
+    public boolean isWithinLimit(CustomerRiskType riskType, InsuranceCategory category, BigDecimal amount) {
+        return amount.compareTo(limits[index(riskType, category)]) <= 0;
+    }
+
+    public boolean isWithinLimit(CustomerRiskType riskType, InsuranceCategory category, long amountCents) {
+        return amountCents <= limitCents[index(riskType, category)];
+    }
+
+    public BigDecimal maxAmount(CustomerRiskType riskType, InsuranceCategory category) {
+        return limits[index(riskType, category)];
+    }
+
+    public long maxAmountCents(CustomerRiskType riskType, InsuranceCategory category) {
+        return limitCents[index(riskType, category)];
+    }
+
+    /**
+     * Copy of the matrix for display; not meant for the validation path.
+     */
+    public Map<CustomerRiskType, Map<InsuranceCategory, BigDecimal>> toMap() {
+        Map<CustomerRiskType, Map<InsuranceCategory, BigDecimal>> map = new EnumMap<>(CustomerRiskType.class);
+        for (CustomerRiskType riskType : RISK_TYPES) {
+            Map<InsuranceCategory, BigDecimal> row = new EnumMap<>(InsuranceCategory.class);
+            for (InsuranceCategory category : CATEGORIES) {
+                row.put(category, maxAmount(riskType, category));
+            }
+            map.put(riskType, row);
+        }
+        return map;
+    }
+
+    private static int index(CustomerRiskType riskType, InsuranceCategory category) {
+        return riskType.ordinal() * CATEGORIES.length + category.ordinal();
+    }
+}
@@ -0,0 +1,54 @@
+package com.insurance.service.limits;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Insured amount limits per customer risk type and category used when validating a policy
+ */
+@Component
+@ConfigurationProperties(prefix = "policy.limits")
+@Data
+public class CoverageLimitProperties {
+
+    /**
+     * Maximum insured amount (inclusive) per customer risk type and category, with at most two decimal places
+     */
+    private Map<CustomerRiskType, Map<InsuranceCategory, BigDecimal>> maxInsuredAmount = defaultLimits();
+
+    /**
+     * External file (.properties format, same policy.limits.* keys) reloaded without a restart
+     */
+    private String file;
+
+    /**
+     * How often the external file is checked for changes
+     */
+    private long reloadIntervalMs = 30000;
+
+    private static Map<CustomerRiskType, Map<InsuranceCategory, BigDecimal>> defaultLimits() {
+        Map<CustomerRiskType, Map<InsuranceCategory, BigDecimal>> limits = new EnumMap<>(CustomerRiskType.class);
+        limits.put(CustomerRiskType.REGULAR, row("500000.00", "350000.00", "500000.00", "255000.00", "255000.00"));
+        limits.put(CustomerRiskType.HIGH_RISK, row("125000.00", "250000.00", "150000.00", "125000.00", "125000.00"));
+        limits.put(CustomerRiskType.PREFERRED, row("800000.00", "450000.00", "450000.00", "375000.00", "375000.00"));
+        limits.put(CustomerRiskType.NO_INFORMATION, row("200000.00", "75000.00", "200000.00", "55000.00", "55000.00"));
+        return limits;
+    }
+
+    private static Map<InsuranceCategory, BigDecimal> row(String life, String auto, String residential,
+                                                          String travel, String health) {
+        Map<InsuranceCategory, BigDecimal> row = new EnumMap<>(InsuranceCategory.class);
+        row.put(InsuranceCategory.LIFE, new BigDecimal(life));
+        row.put(InsuranceCategory.AUTO, new BigDecimal(auto));
+        row.put(InsuranceCategory.RESIDENTIAL, new BigDecimal(residential));
+        row.put(InsuranceCategory.TRAVEL, new BigDecimal(travel));
+        row.put(InsuranceCategory.HEALTH, new BigDecimal(health));
+        return row;
+    }
+}
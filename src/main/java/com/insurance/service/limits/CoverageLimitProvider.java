@@ -0,0 +1,70 @@
+package com.insurance.service.limits;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.infrastructure.config.ReloadableConfigFile;
+import java.io.IOException;
+import java.util.EnumMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the active {@link CoverageLimitMatrix}. Starts from the application configuration and,
+ * when {@code policy.limits.file} is set, recompiles the matrix whenever that file changes. An
+ * invalid file is logged and the current limits stay in effect.
+ */
+@Component
+@Slf4j
+public class CoverageLimitProvider {
+
+    private final ReloadableConfigFile file;
+    private volatile CoverageLimitMatrix matrix;
+
+    public CoverageLimitProvider(CoverageLimitProperties properties) {
+        this.file = new ReloadableConfigFile(properties.getFile(), "policy.limits");
+        this.matrix = CoverageLimitMatrix.compile(properties);
+    }
+
+    public CoverageLimitMatrix current() {
+        return matrix;
+    }
+
+    /**
+     * Compiles the given limits and swaps them in atomically.
+     */
+    public CoverageLimitMatrix reload(CoverageLimitProperties limits) {
+        CoverageLimitMatrix compiled = CoverageLimitMatrix.compile(limits);
+        matrix = compiled;
+        return compiled;
+    }
+
+    @Scheduled(fixedDelayString = "${policy.limits.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        try {
+            if (file.reloadIfChanged(CoverageLimitProvider::emptyLimits, overrides -> reload(withDefaults(overrides)))) {
+                log.info("Coverage limits reloaded from {}", file.getPath());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to reload coverage limits from {}; keeping current limits", file.getPath(), e);
+        }
+    }
+
+    private static CoverageLimitProperties emptyLimits() {
+        CoverageLimitProperties limits = new CoverageLimitProperties();
+        limits.setMaxInsuredAmount(new EnumMap<>(CustomerRiskType.class));
+        return limits;
+    }
+
+    /**
+     * The binder replaces nested maps instead of merging them, so the file is bound on its own and
+     * laid cell by cell over the defaults; the file only needs the cells it changes.
+     */
+    private static CoverageLimitProperties withDefaults(CoverageLimitProperties overrides) {
+        CoverageLimitProperties limits = new CoverageLimitProperties();
+        overrides.getMaxInsuredAmount().forEach((riskType, row) -> limits.getMaxInsuredAmount()
+                .computeIfAbsent(riskType, key -> new EnumMap<>(InsuranceCategory.class))
+                .putAll(row));
+        return limits;
+    }
+}
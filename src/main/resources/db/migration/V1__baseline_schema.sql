@@ -0,0 +1,139 @@
+-- Baseline schema, equivalent to what ddl-auto=update used to generate from the entities.
+-- Idempotent (IF NOT EXISTS) so that databases already created by Hibernate can be adopted by
+-- Flyway with baseline-version=0 without recreating tables.
+
+CREATE TABLE IF NOT EXISTS customer (
+    id          uuid         NOT NULL,
+    name        varchar(255),
+    cpf         varchar(255),
+    email       varchar(255),
+    phone       varchar(255),
+    address     varchar(255),
+    birth_date  date,
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6) NOT NULL,
+    created_by  varchar(255),
+    updated_by  varchar(255),
+    CONSTRAINT pk_customer PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS insurance_policies (
+    id               uuid          NOT NULL,
+    policy_number    varchar(255)  NOT NULL,
+    customer_id      uuid,
+    type             varchar(255)  NOT NULL CHECK (type IN ('AUTO','LIFE','RESIDENTIAL','TRAVEL','HEALTH')),
+    status           varchar(255)  NOT NULL CHECK (status IN ('RECEIVED','VALIDATED','PENDING','APPROVED','REJECTED','CANCELLED')),
+    coverage_amount  numeric(38,2) NOT NULL,
+    premium          numeric(38,2) NOT NULL,
+    start_date       date          NOT NULL,
+    end_date         date          NOT NULL,
+    created_at       timestamp(6)  NOT NULL,
+    updated_at       timestamp(6)  NOT NULL,
+    created_by       varchar(255),
+    updated_by       varchar(255),
+    CONSTRAINT pk_insurance_policies PRIMARY KEY (id),
+    CONSTRAINT uk_insurance_policies_policy_number UNIQUE (policy_number),
+    CONSTRAINT fk_insurance_policies_customer FOREIGN KEY (customer_id) REFERENCES customer
+);
+
+CREATE TABLE IF NOT EXISTS claims (
+    id                    uuid          NOT NULL,
+    claim_number          varchar(255)  NOT NULL,
+    policy_id             uuid          NOT NULL,
+    status                varchar(255)  NOT NULL CHECK (status IN ('SUBMITTED','UNDER_REVIEW','APPROVED','REJECTED','PAID')),
+    claim_amount          numeric(38,2) NOT NULL,
+    incident_date         date          NOT NULL,
+    description           varchar(255)  NOT NULL,
+    adjustor_notes        varchar(255),
+    supporting_documents  varchar(255),
+    created_at            timestamp(6)  NOT NULL,
+    updated_at            timestamp(6)  NOT NULL,
+    created_by            varchar(255),
+    updated_by            varchar(255),
+    CONSTRAINT pk_claims PRIMARY KEY (id),
+    CONSTRAINT uk_claims_claim_number UNIQUE (claim_number),
+    CONSTRAINT fk_claims_policy FOREIGN KEY (policy_id) REFERENCES insurance_policies
+);
+
+CREATE TABLE IF NOT EXISTS risk_analysis (
+    id              uuid         NOT NULL,
+    classification  varchar(255) NOT NULL CHECK (classification IN ('REGULAR','HIGH_RISK','PREFERRED','NO_INFORMATION')),
+    analyzed_at     timestamp(6) NOT NULL,
+    created_at      timestamp(6) NOT NULL,
+    updated_at      timestamp(6) NOT NULL,
+    created_by      varchar(255),
+    updated_by      varchar(255),
+    CONSTRAINT pk_risk_analysis PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS risk_occurrences (
+    id                uuid         NOT NULL,
+    risk_analysis_id  uuid,
+    type              varchar(255) NOT NULL,
+    description       varchar(255) NOT NULL,
+    created_at        timestamp(6) NOT NULL,
+    updated_at        timestamp(6) NOT NULL,
+    created_by        varchar(255),
+    updated_by        varchar(255),
+    CONSTRAINT pk_risk_occurrences PRIMARY KEY (id),
+    CONSTRAINT fk_risk_occurrences_risk_analysis FOREIGN KEY (risk_analysis_id) REFERENCES risk_analysis
+);
+
+CREATE TABLE IF NOT EXISTS policy_requests (
+    id                            uuid          NOT NULL,
+    customer_id                   uuid          NOT NULL,
+    product_id                    uuid          NOT NULL,
+    category                      varchar(255)  NOT NULL CHECK (category IN ('AUTO','LIFE','RESIDENTIAL','TRAVEL','HEALTH')),
+    sales_channel                 varchar(255)  NOT NULL CHECK (sales_channel IN ('BROKER','WEBSITE','MOBILE','CALL_CENTER','BANK')),
+    payment_method                varchar(255)  NOT NULL CHECK (payment_method IN ('CREDIT_CARD','DEBIT_CARD','BANK_TRANSFER','BOLETO','PIX')),
+    status                        varchar(255)  NOT NULL CHECK (status IN ('RECEIVED','VALIDATED','PENDING','APPROVED','REJECTED','CANCELLED')),
+    total_monthly_premium_amount  numeric(38,2) NOT NULL,
+    insured_amount                numeric(38,2) NOT NULL,
+    risk_analysis_id              uuid,
+    finished_at                   timestamp(6),
+    created_at                    timestamp(6)  NOT NULL,
+    updated_at                    timestamp(6)  NOT NULL,
+    created_by                    varchar(255),
+    updated_by                    varchar(255),
+    CONSTRAINT pk_policy_requests PRIMARY KEY (id),
+    CONSTRAINT uk_policy_requests_risk_analysis UNIQUE (risk_analysis_id),
+    CONSTRAINT fk_policy_requests_risk_analysis FOREIGN KEY (risk_analysis_id) REFERENCES risk_analysis
+);
+
+-- Columns added after the schema was already being generated by Hibernate.
+ALTER TABLE policy_requests ADD COLUMN IF NOT EXISTS status_changed_at timestamp(6);
+ALTER TABLE policy_requests ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS status_history (
+    id                 uuid         NOT NULL,
+    policy_request_id  uuid         NOT NULL,
+    previous_status    varchar(255) NOT NULL CHECK (previous_status IN ('RECEIVED','VALIDATED','PENDING','APPROVED','REJECTED','CANCELLED')),
+    new_status         varchar(255) NOT NULL CHECK (new_status IN ('RECEIVED','VALIDATED','PENDING','APPROVED','REJECTED','CANCELLED')),
+    reason             varchar(255),
+    changed_at         timestamp(6) NOT NULL,
+    created_at         timestamp(6) NOT NULL,
+    updated_at         timestamp(6) NOT NULL,
+    created_by         varchar(255),
+    updated_by         varchar(255),
+    CONSTRAINT pk_status_history PRIMARY KEY (id),
+    CONSTRAINT fk_status_history_policy_request FOREIGN KEY (policy_request_id) REFERENCES policy_requests
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id                uuid          NOT NULL,
+    exchange          varchar(255)  NOT NULL,
+    routing_key       varchar(255)  NOT NULL,
+    event_type        varchar(255)  NOT NULL,
+    type_id           varchar(255),
+    content_type      varchar(255),
+    content_encoding  varchar(255),
+    payload           varchar(4000) NOT NULL,
+    attempts          integer       NOT NULL,
+    last_attempt_at   timestamp(6),
+    last_error        varchar(1000),
+    created_at        timestamp(6)  NOT NULL,
+    updated_at        timestamp(6)  NOT NULL,
+    created_by        varchar(255),
+    updated_by        varchar(255),
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
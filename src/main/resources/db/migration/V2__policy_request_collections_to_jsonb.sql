@@ -0,0 +1,39 @@
+-- Moves coverages and assistances from the auxiliary tables (policy_request_coverages,
+-- policy_request_assistances) into jsonb columns on policy_requests.
+-- On new databases the auxiliary tables don't exist and only the columns are created.
+
+ALTER TABLE policy_requests ADD COLUMN IF NOT EXISTS coverages jsonb;
+ALTER TABLE policy_requests ADD COLUMN IF NOT EXISTS assistances jsonb;
+
+DO $$
+BEGIN
+    IF to_regclass('policy_request_coverages') IS NOT NULL THEN
+        UPDATE policy_requests p
+           SET coverages = c.doc
+          FROM (SELECT policy_request_id, jsonb_object_agg(coverage_name, coverage_amount) AS doc
+                  FROM policy_request_coverages
+                 GROUP BY policy_request_id) c
+         WHERE c.policy_request_id = p.id
+           AND p.coverages IS NULL;
+    END IF;
+
+    IF to_regclass('policy_request_assistances') IS NOT NULL THEN
+        UPDATE policy_requests p
+           SET assistances = a.doc
+          FROM (SELECT policy_request_id, jsonb_agg(assistance_name) AS doc
+                  FROM policy_request_assistances
+                 GROUP BY policy_request_id) a
+         WHERE a.policy_request_id = p.id
+           AND p.assistances IS NULL;
+    END IF;
+END
+$$;
+
+UPDATE policy_requests SET coverages = '{}'::jsonb WHERE coverages IS NULL;
+UPDATE policy_requests SET assistances = '[]'::jsonb WHERE assistances IS NULL;
+
+-- GIN (jsonb_ops) serves lookups by coverage name: coverages ? 'Collision'
+-- and coverages @> '{"Collision": 30000}'.
+CREATE INDEX IF NOT EXISTS idx_policy_requests_coverages ON policy_requests USING gin (coverages);
+
+-- The old tables stay until this is validated in production; a later migration drops them.
@@ -0,0 +1,31 @@
+-- Indexes derived from the repository queries. On populated tables, create them beforehand with
+-- CREATE INDEX CONCURRENTLY outside the deploy window; IF NOT EXISTS then makes this migration a no-op.
+
+-- PolicyRequestRepository.findByCustomerId, findFirstPageByCustomerId, findPageByCustomerIdAfter
+-- and PolicyRequestScrollRepository.forEachByCustomerId: customer filter ordered by
+-- (created_at, id); the composite index serves the filter, the ordering and the keyset predicate.
+CREATE INDEX IF NOT EXISTS idx_policy_requests_customer_created
+    ON policy_requests (customer_id, created_at, id);
+
+-- In-flight policies by status and time in status (dwell monitoring and reprocessing).
+-- Partial: finished policies, the vast majority, are left out of the index.
+CREATE INDEX IF NOT EXISTS idx_policy_requests_in_flight
+    ON policy_requests (status, status_changed_at)
+    WHERE status IN ('RECEIVED', 'VALIDATED', 'PENDING');
+
+-- StatusHistoryRepository: paged history (changed_at DESC, id DESC) and chronological reads
+-- (backward scan of the same index); also covers the batch fetch of PolicyRequest.statusHistory.
+CREATE INDEX IF NOT EXISTS idx_status_history_policy_changed
+    ON status_history (policy_request_id, changed_at DESC, id DESC);
+
+-- Batch fetch of RiskAnalysis.occurrences.
+CREATE INDEX IF NOT EXISTS idx_risk_occurrences_risk_analysis
+    ON risk_occurrences (risk_analysis_id);
+
+-- Foreign keys without an index of their own (PostgreSQL doesn't index the referencing side).
+-- The outbox relay (ordered by id) is already served by the primary key.
+CREATE INDEX IF NOT EXISTS idx_insurance_policies_customer
+    ON insurance_policies (customer_id);
+
+CREATE INDEX IF NOT EXISTS idx_claims_policy
+    ON claims (policy_id);
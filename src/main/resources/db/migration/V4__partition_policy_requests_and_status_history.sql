@@ -0,0 +1,131 @@
+-- Monthly partitioning of policy_requests (by created_at) and status_history (by changed_at).
+--
+-- The existing tables become the "legacy" partition (from MINVALUE to the start of next month),
+-- without copying rows; the following months get partitions of their own, created ahead by the
+-- maintenance job. ATTACH validates the range with a table scan; on large databases, creating an
+-- equivalent CHECK (created_at < bound) beforehand keeps that scan out of the deploy window.
+--
+-- The primary key of a partitioned table must contain the partition key, so it becomes
+-- (id, created_at) / (id, changed_at). As a result status_history can no longer have an FK to
+-- policy_requests(id): integrity is left to the application, which only writes history for loaded
+-- policies and deletes both together when archiving. Partitioning does not use the id because rows
+-- from before UUID v7 have random ids, unrelated to time.
+
+-- Creates the monthly partitions from the current month up to months_ahead months ahead, for both
+-- tables. Months already covered (the legacy partition included) are skipped. Called by the
+-- maintenance job on every cycle; returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ensure_policy_partitions(months_ahead integer) RETURNS integer
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start timestamp;
+    parent      text;
+    partition   text;
+    created     integer := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        month_start := date_trunc('month', localtimestamp) + make_interval(months => i);
+        FOREACH parent IN ARRAY ARRAY['policy_requests', 'status_history'] LOOP
+            partition := parent || '_' || to_char(month_start, 'YYYY_MM');
+            CONTINUE WHEN to_regclass(partition) IS NOT NULL;
+            BEGIN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               partition, parent, month_start, month_start + interval '1 month');
+                created := created + 1;
+            EXCEPTION WHEN invalid_object_definition THEN
+                -- range already covered by another partition (legacy)
+                NULL;
+            END;
+        END LOOP;
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+ALTER TABLE policy_requests RENAME TO policy_requests_legacy;
+ALTER TABLE status_history RENAME TO status_history_legacy;
+
+-- Replaces the primary keys of the old tables with the composite ones. First drops the FKs that
+-- point to policy_requests (history and the collection tables replaced in V2).
+DO $$
+DECLARE
+    c record;
+BEGIN
+    FOR c IN SELECT conrelid::regclass AS tbl, conname FROM pg_constraint
+              WHERE confrelid = 'policy_requests_legacy'::regclass AND contype = 'f' LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', c.tbl, c.conname);
+    END LOOP;
+    FOR c IN SELECT conname FROM pg_constraint
+              WHERE conrelid = 'status_history_legacy'::regclass AND contype = 'p' LOOP
+        EXECUTE format('ALTER TABLE status_history_legacy DROP CONSTRAINT %I', c.conname);
+    END LOOP;
+    FOR c IN SELECT conname FROM pg_constraint
+              WHERE conrelid = 'policy_requests_legacy'::regclass AND contype = 'p' LOOP
+        EXECUTE format('ALTER TABLE policy_requests_legacy DROP CONSTRAINT %I', c.conname);
+    END LOOP;
+END
+$$;
+
+ALTER TABLE policy_requests_legacy ADD CONSTRAINT pk_policy_requests PRIMARY KEY (id, created_at);
+ALTER TABLE status_history_legacy ADD CONSTRAINT pk_status_history PRIMARY KEY (id, changed_at);
+
+-- Index names are global to the schema: those of the old tables get the _legacy suffix so that the
+-- partitioned tables can reuse the original names.
+DO $$
+DECLARE
+    idx record;
+BEGIN
+    FOR idx IN SELECT indexname FROM pg_indexes
+                WHERE schemaname = current_schema()
+                  AND tablename IN ('policy_requests_legacy', 'status_history_legacy') LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.indexname, left(idx.indexname, 55) || '_legacy');
+    END LOOP;
+END
+$$;
+
+CREATE TABLE policy_requests (LIKE policy_requests_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (created_at);
+ALTER TABLE policy_requests ADD CONSTRAINT pk_policy_requests PRIMARY KEY (id, created_at);
+ALTER TABLE policy_requests ADD CONSTRAINT fk_policy_requests_risk_analysis
+    FOREIGN KEY (risk_analysis_id) REFERENCES risk_analysis;
+
+CREATE TABLE status_history (LIKE status_history_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (changed_at);
+ALTER TABLE status_history ADD CONSTRAINT pk_status_history PRIMARY KEY (id, changed_at);
+
+-- Indexes from V2/V3, now defined on the partitioned table and inherited by every partition.
+CREATE INDEX idx_policy_requests_customer_created ON policy_requests (customer_id, created_at, id);
+CREATE INDEX idx_policy_requests_in_flight ON policy_requests (status, status_changed_at)
+    WHERE status IN ('RECEIVED', 'VALIDATED', 'PENDING');
+CREATE INDEX idx_policy_requests_coverages ON policy_requests USING gin (coverages);
+CREATE INDEX idx_status_history_policy_changed ON status_history (policy_request_id, changed_at DESC, id DESC);
+
+-- Archival job selection: finished policies, oldest first.
+CREATE INDEX idx_policy_requests_finished ON policy_requests (finished_at) WHERE finished_at IS NOT NULL;
+
+DO $$
+DECLARE
+    legacy_bound timestamp := date_trunc('month', localtimestamp) + interval '1 month';
+BEGIN
+    EXECUTE format('ALTER TABLE policy_requests ATTACH PARTITION policy_requests_legacy '
+                   'FOR VALUES FROM (MINVALUE) TO (%L)', legacy_bound);
+    EXECUTE format('ALTER TABLE status_history ATTACH PARTITION status_history_legacy '
+                   'FOR VALUES FROM (MINVALUE) TO (%L)', legacy_bound);
+END
+$$;
+
+-- Safety net in case the maintenance job stalls: without it, inserts outside the existing
+-- partitions fail. It should stay empty; rows here block the creation of their month.
+CREATE TABLE policy_requests_default PARTITION OF policy_requests DEFAULT;
+CREATE TABLE status_history_default PARTITION OF status_history DEFAULT;
+
+SELECT ensure_policy_partitions(3);
+
+-- Archival target (see PolicyArchiveRepository). Same column order as the live tables: new
+-- columns must be added here as well.
+CREATE TABLE policy_requests_archive (LIKE policy_requests INCLUDING DEFAULTS);
+ALTER TABLE policy_requests_archive ADD CONSTRAINT pk_policy_requests_archive PRIMARY KEY (id);
+CREATE INDEX idx_policy_requests_archive_customer ON policy_requests_archive (customer_id, created_at);
+
+CREATE TABLE status_history_archive (LIKE status_history INCLUDING DEFAULTS);
+ALTER TABLE status_history_archive ADD CONSTRAINT pk_status_history_archive PRIMARY KEY (id);
+CREATE INDEX idx_status_history_archive_policy ON status_history_archive (policy_request_id, changed_at);
@@ -0,0 +1,15 @@
+-- Responses of requests with an Idempotency-Key, shared between instances when
+-- policy.idempotency.persistent=true. A row with a null status_code: request still in progress.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key  varchar(255)  NOT NULL,
+    fingerprint      varchar(255)  NOT NULL,
+    status_code      integer,
+    body             text,
+    created_at       timestamp(6)  NOT NULL,
+    expires_at       timestamp(6)  NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+-- Periodic purge of expired keys (IdempotencyService.purgeExpired).
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires
+    ON idempotency_keys (expires_at);
@@ -0,0 +1,132 @@
+-- Revision of the partition maintenance and archival introduced in V4.
+--
+-- ensure_policy_partitions now tolerates the failures that used to stall the job:
+--   * duplicate_table: another instance created the same partition between to_regclass and CREATE;
+--   * check_violation: the DEFAULT partition already received rows for the month (job stalled for
+--     too long). The rows are moved to a new table, then attached as the month's partition; if
+--     that fails, the month is skipped with a WARNING and the next run tries again.
+-- A transaction-level advisory lock serializes concurrent runs from several instances.
+--
+-- Archival no longer deletes row by row (DELETE ... RETURNING): whole monthly partitions, with
+-- every policy finished before the cutoff, are detached from the live tables and then copied to
+-- the *_archive tables and dropped (see PolicyArchiveRepository). The copies use explicit column
+-- lists, so the column order of the *_archive tables no longer matters.
+
+CREATE OR REPLACE FUNCTION move_default_rows_to_partition(parent text, partition text,
+                                                          range_start timestamp, range_end timestamp)
+RETURNS boolean
+LANGUAGE plpgsql AS $$
+DECLARE
+    default_partition text := parent || '_default';
+    key_column        text := CASE parent WHEN 'policy_requests' THEN 'created_at' ELSE 'changed_at' END;
+    columns           text;
+    moved             bigint;
+BEGIN
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO columns
+      FROM pg_attribute
+     WHERE attrelid = parent::regclass AND attnum > 0 AND NOT attisdropped;
+
+    -- Blocks writes to DEFAULT until the ATTACH, so no row for the month arrives halfway through
+    EXECUTE format('LOCK TABLE %I IN SHARE ROW EXCLUSIVE MODE', default_partition);
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition, parent);
+    EXECUTE format('WITH moved AS (DELETE FROM %1$I WHERE %2$I >= %3$L AND %2$I < %4$L RETURNING %5$s) '
+                   'INSERT INTO %6$I (%5$s) SELECT %5$s FROM moved',
+                   default_partition, key_column, range_start, range_end, columns, partition);
+    GET DIAGNOSTICS moved = ROW_COUNT;
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent, partition, range_start, range_end);
+
+    RAISE WARNING 'Moved % rows from % into new partition %', moved, default_partition, partition;
+    RETURN true;
+EXCEPTION WHEN OTHERS THEN
+    RAISE WARNING 'Skipped partition %: rows in % could not be moved (%)', partition, default_partition, SQLERRM;
+    RETURN false;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION ensure_policy_partitions(months_ahead integer) RETURNS integer
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start timestamp;
+    month_end   timestamp;
+    parent      text;
+    partition   text;
+    created     integer := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_policy_partitions'));
+
+    FOR i IN 0..months_ahead LOOP
+        month_start := date_trunc('month', localtimestamp) + make_interval(months => i);
+        month_end := month_start + interval '1 month';
+        FOREACH parent IN ARRAY ARRAY['policy_requests', 'status_history'] LOOP
+            partition := parent || '_' || to_char(month_start, 'YYYY_MM');
+            CONTINUE WHEN to_regclass(partition) IS NOT NULL;
+            BEGIN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               partition, parent, month_start, month_end);
+                created := created + 1;
+            EXCEPTION
+                WHEN invalid_object_definition THEN
+                    -- range already covered by another partition (legacy)
+                    NULL;
+                WHEN duplicate_table THEN
+                    -- created by another instance between to_regclass and CREATE
+                    NULL;
+                WHEN check_violation THEN
+                    IF move_default_rows_to_partition(parent, partition, month_start, month_end) THEN
+                        created := created + 1;
+                    END IF;
+            END;
+        END LOOP;
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+-- Detaches, oldest first, the policy_requests partitions that end before the cutoff and whose
+-- policies all finished before it, together with the status_history partition of the same period.
+-- Stops at the first partition that still holds a live policy: a period's history only refers to
+-- policies created up to its end, so going in order guarantees that no policy left in the live
+-- tables loses history. DETACH needs an exclusive lock on the parent tables; with a short
+-- lock_timeout, a cycle that cannot get the lock gives up and tries on the next one instead of
+-- queueing the application's queries behind it. Returns the detached suffixes (legacy or YYYY_MM).
+CREATE OR REPLACE FUNCTION detach_archivable_policy_partitions(cutoff timestamp, max_partitions integer,
+                                                               lock_timeout_ms integer)
+RETURNS SETOF text
+LANGUAGE plpgsql AS $$
+DECLARE
+    p        record;
+    history  text;
+    busy     boolean;
+    detached integer := 0;
+BEGIN
+    PERFORM set_config('lock_timeout', lock_timeout_ms || 'ms', true);
+
+    FOR p IN
+        SELECT relname, suffix, upper_bound
+          FROM (SELECT c.relname,
+                       substring(c.relname from length('policy_requests_') + 1) AS suffix,
+                       substring(pg_get_expr(c.relpartbound, c.oid) from 'TO \(''([^'']+)''\)')::timestamp AS upper_bound
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = 'policy_requests'::regclass) partitions
+         WHERE upper_bound IS NOT NULL
+         ORDER BY upper_bound
+    LOOP
+        EXIT WHEN detached >= max_partitions OR p.upper_bound > cutoff;
+
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE finished_at IS NULL OR finished_at >= %L)',
+                       p.relname, cutoff) INTO busy;
+        EXIT WHEN busy;
+
+        EXECUTE format('ALTER TABLE policy_requests DETACH PARTITION %I', p.relname);
+        history := 'status_history_' || p.suffix;
+        IF EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(history)) THEN
+            EXECUTE format('ALTER TABLE status_history DETACH PARTITION %I', history);
+        END IF;
+
+        detached := detached + 1;
+        RETURN NEXT p.suffix;
+    END LOOP;
+END
+$$;
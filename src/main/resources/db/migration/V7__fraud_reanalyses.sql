@@ -0,0 +1,22 @@
+-- Pending fraud re-analyses (degraded mode). The row is written in the same transaction as the
+-- NO_INFORMATION classification given on a missed deadline, so it survives restarts and is seen by
+-- every instance; FraudReanalysisScheduler deletes it when the re-analysis completes. Rows whose
+-- attempts reached the limit (fraud.analysis.reanalysis-max-attempts) stay as a record of the ones
+-- given up on.
+CREATE TABLE IF NOT EXISTS fraud_reanalyses (
+    id                 uuid          NOT NULL,
+    policy_request_id  uuid          NOT NULL,
+    attempts           integer       NOT NULL,
+    next_attempt_at    timestamp(6)  NOT NULL,
+    last_error         varchar(1000),
+    created_at         timestamp(6)  NOT NULL,
+    updated_at         timestamp(6)  NOT NULL,
+    created_by         varchar(255),
+    updated_by         varchar(255),
+    CONSTRAINT pk_fraud_reanalyses PRIMARY KEY (id),
+    CONSTRAINT uk_fraud_reanalyses_policy_request UNIQUE (policy_request_id)
+);
+
+-- Due re-analysis lookup on every scheduler cycle.
+CREATE INDEX IF NOT EXISTS idx_fraud_reanalyses_next_attempt
+    ON fraud_reanalyses (next_attempt_at);
@@ -0,0 +1,16 @@
+-- Status and lease of outbox events. OutboxRelay no longer holds the row locks while it waits for
+-- the publisher confirms: a cycle claims its batch in a short transaction, pushing
+-- next_attempt_at forward (the lease), publishes outside any transaction and, in a second
+-- transaction, deletes the confirmed events and puts the others back in the queue. If the instance
+-- dies halfway, another one picks the rows up once the lease runs out. An event that runs out of
+-- policy.events.outbox.max-attempts moves to FAILED and is no longer resent automatically.
+ALTER TABLE outbox_events
+    ADD COLUMN IF NOT EXISTS status varchar(16) NOT NULL DEFAULT 'PENDING',
+    ADD COLUMN IF NOT EXISTS next_attempt_at timestamp(6) NOT NULL DEFAULT localtimestamp;
+
+-- Events the previous relay had already stopped resending (10 = default max-attempts).
+UPDATE outbox_events SET status = 'FAILED' WHERE attempts >= 10;
+
+-- Next batch lookup on every relay cycle; only pending rows are indexed.
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON outbox_events (next_attempt_at, id) WHERE status = 'PENDING';
@@ -0,0 +1,64 @@
+-- Archival no longer stops at the first partition that still holds a live policy request.
+--
+-- detach_archivable_policy_partitions skips busy partitions instead of ending the run, and never
+-- detaches the legacy partition: it spans the whole table from before partitioning, so copying it
+-- in one piece is not a bounded step. Finished requests of the legacy partition, and of monthly
+-- partitions that still hold live requests, are moved row by row in batches of a fixed size by
+-- PolicyArchiveRepository.archiveFinishedRows.
+--
+-- With partitions skipped, a history partition can hold rows of requests that stay live. It is only
+-- detached together with its policy partition when none of its rows belongs to a request in another
+-- live partition; otherwise it stays attached, and the history of the archived requests is moved by
+-- policy_request_id when the detached policy partition is archived. Past history partitions receive
+-- no new rows (changed_at is the time of the change), so the check cannot go stale before the DETACH.
+
+CREATE OR REPLACE FUNCTION detach_archivable_policy_partitions(cutoff timestamp, max_partitions integer,
+                                                               lock_timeout_ms integer)
+RETURNS SETOF text
+LANGUAGE plpgsql AS $$
+DECLARE
+    p        record;
+    history  text;
+    busy     boolean;
+    shared   boolean;
+    detached integer := 0;
+BEGIN
+    PERFORM set_config('lock_timeout', lock_timeout_ms || 'ms', true);
+
+    FOR p IN
+        SELECT relname, suffix, upper_bound
+          FROM (SELECT c.relname,
+                       substring(c.relname from length('policy_requests_') + 1) AS suffix,
+                       substring(pg_get_expr(c.relpartbound, c.oid) from 'TO \(''([^'']+)''\)')::timestamp AS upper_bound
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = 'policy_requests'::regclass) partitions
+         WHERE upper_bound IS NOT NULL
+         ORDER BY upper_bound
+    LOOP
+        EXIT WHEN detached >= max_partitions OR p.upper_bound > cutoff;
+        CONTINUE WHEN p.suffix = 'legacy';
+
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE finished_at IS NULL OR finished_at >= %L)',
+                       p.relname, cutoff) INTO busy;
+        CONTINUE WHEN busy;
+
+        history := 'status_history_' || p.suffix;
+        shared := false;
+        IF EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(history)) THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I h JOIN policy_requests r ON r.id = h.policy_request_id '
+                           'WHERE r.tableoid <> %L::regclass)', history, p.relname) INTO shared;
+        ELSE
+            history := NULL;
+        END IF;
+
+        EXECUTE format('ALTER TABLE policy_requests DETACH PARTITION %I', p.relname);
+        IF history IS NOT NULL AND NOT shared THEN
+            EXECUTE format('ALTER TABLE status_history DETACH PARTITION %I', history);
+        END IF;
+
+        detached := detached + 1;
+        RETURN NEXT p.suffix;
+    END LOOP;
+END
+$$;
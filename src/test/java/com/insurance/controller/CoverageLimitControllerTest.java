@@ -0,0 +1,37 @@
+package com.insurance.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.insurance.exception.ExceptionHandler;
+import com.insurance.service.limits.CoverageLimitProperties;
+import com.insurance.service.limits.CoverageLimitProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class CoverageLimitControllerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CoverageLimitController controller =
+                new CoverageLimitController(new CoverageLimitProvider(new CoverageLimitProperties()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testGetCoverageLimits() throws Exception {
+        mockMvc.perform(get("/api/v1/policy/limits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maxInsuredAmount.REGULAR.AUTO").value(350000.00))
+                .andExpect(jsonPath("$.maxInsuredAmount.HIGH_RISK.RESIDENTIAL").value(150000.00))
+                .andExpect(jsonPath("$.maxInsuredAmount.PREFERRED.LIFE").value(800000.00))
+                .andExpect(jsonPath("$.maxInsuredAmount.NO_INFORMATION.TRAVEL").value(55000.00));
+    }
+}
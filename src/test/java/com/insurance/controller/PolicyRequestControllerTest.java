@@ -2,18 +2,40 @@ package com.insurance.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.StatusHistory;
 import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PaymentMethod;
 import com.insurance.domain.enums.PolicyStatus;
 import com.insurance.domain.enums.SalesChannel;
 import com.insurance.dto.FraudAnalysisResponseDTO;
+import com.insurance.dto.PolicyBatchResponseDTO;
+import com.insurance.dto.PolicyProcessingBatchResponseDTO;
+import com.insurance.dto.PolicyProcessingResponseDTO;
+import com.insurance.dto.PolicyRequestCursor;
 import com.insurance.dto.PolicyCancelResponseDTO;
 import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.dto.PolicyRequestSnapshot;
+import com.insurance.dto.PolicyTransitionsDTO;
 import com.insurance.dto.PolicyValidationResponseDTO;
 import com.insurance.exception.ExceptionHandler;
+import com.insurance.infrastructure.cache.PolicyRequestCache;
+import com.insurance.infrastructure.cache.PolicyRequestCacheProperties;
+import com.insurance.infrastructure.cache.PolicyResponseCache;
+import com.insurance.infrastructure.cache.PolicyResponseCacheProperties;
+import com.insurance.infrastructure.config.PolicyBatchProperties;
+import com.insurance.infrastructure.idempotency.IdempotencyKeyRepository;
+import com.insurance.infrastructure.idempotency.IdempotencyProperties;
+import com.insurance.infrastructure.idempotency.IdempotencyService;
+import com.insurance.infrastructure.persistence.routing.ReadAfterWriteTracker;
+import com.insurance.infrastructure.streaming.PolicyEventHub;
 import com.insurance.mapper.PolicyRequestMapper;
 import com.insurance.service.PolicyRequestService;
+import com.insurance.service.concurrency.SingleFlight;
+import com.insurance.service.concurrency.SingleFlightProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,18 +43,27 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -52,6 +83,37 @@ class PolicyRequestControllerTest {
     @Mock
     private PolicyRequestMapper mapper;
 
+    @Mock
+    private PolicyEventHub eventHub;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SingleFlightProperties(), new SimpleMeterRegistry());
+
+    private final PolicyRequestCacheProperties policyCacheProperties = new PolicyRequestCacheProperties();
+
+    @Spy
+    private PolicyRequestCache policyCache = new PolicyRequestCache(policyCacheProperties, new SimpleMeterRegistry());
+
+    @Mock
+    private ReadAfterWriteTracker readAfterWrite;
+
+    @Spy
+    private PolicyBatchProperties batchProperties = new PolicyBatchProperties();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private IdempotencyService idempotency = new IdempotencyService(new IdempotencyProperties(), new ObjectMapper(),
+            new DefaultListableBeanFactory().getBeanProvider(IdempotencyKeyRepository.class),
+            new TransactionTemplate(), new SimpleMeterRegistry());
+
+    private final PolicyResponseCacheProperties responseCacheProperties = new PolicyResponseCacheProperties();
+
+    @Spy
+    private PolicyResponseCache responseCache = new PolicyResponseCache(
+            responseCacheProperties, new SimpleMeterRegistry());
+
     @InjectMocks
     private PolicyRequestController controller;
 
@@ -112,6 +174,42 @@ class PolicyRequestControllerTest {
         verify(mapper).toDTO(any(PolicyRequest.class));
     }
 
+    @Test
+    void testCreatePolicyRequestRetryWithSameIdempotencyKeyIsReplayed() throws Exception {
+        when(mapper.toEntity(any(PolicyRequestDTO.class))).thenReturn(policyRequest);
+        when(service.createPolicyRequest(any(PolicyRequest.class))).thenReturn(policyRequest);
+        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+        String body = objectMapper.writeValueAsString(requestDTO);
+
+        mockMvc.perform(post("/api/v1/policy").header("Idempotency-Key", "create-1")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/policy").header("Idempotency-Key", "create-1")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.customerId").value(customerId.toString()));
+
+        verify(service, times(1)).createPolicyRequest(any(PolicyRequest.class));
+    }
+
+    @Test
+    void testCreatePolicyRequestIdempotencyKeyReusedWithDifferentBody() throws Exception {
+        when(mapper.toEntity(any(PolicyRequestDTO.class))).thenReturn(policyRequest);
+        when(service.createPolicyRequest(any(PolicyRequest.class))).thenReturn(policyRequest);
+        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+
+        mockMvc.perform(post("/api/v1/policy").header("Idempotency-Key", "create-2")
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isCreated());
+        requestDTO.setInsuredAmount(new BigDecimal("60000.00"));
+        mockMvc.perform(post("/api/v1/policy").header("Idempotency-Key", "create-2")
+                .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(service, times(1)).createPolicyRequest(any(PolicyRequest.class));
+    }
+
     @Test
     void testCreatePolicyRequestReturnBadRequest() throws Exception {
         requestDTO.setCustomerId(null); // Tornando o DTO inválido
@@ -147,39 +245,284 @@ class PolicyRequestControllerTest {
         verify(service, never()).createPolicyRequest(any(PolicyRequest.class));
     }
 
+    // ========== BATCH CREATE TESTS ==========
+
+    @Test
+    void testCreatePolicyRequestsJsonArrayCreatedStatus() throws Exception {
+        PolicyBatchResponseDTO response = PolicyBatchResponseDTO.of(List.of(
+                PolicyBatchResponseDTO.ItemResultDTO.success(0, policyId, PolicyStatus.RECEIVED),
+                PolicyBatchResponseDTO.ItemResultDTO.success(1, UUID.randomUUID(), PolicyStatus.RECEIVED)));
+
+        when(mapper.toEntity(any(PolicyRequestDTO.class))).thenReturn(policyRequest);
+        when(service.createPolicyRequests(anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/policy/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(requestDTO, requestDTO))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.items[0].policyId").value(policyId.toString()));
+
+        verify(mapper, times(2)).toEntity(any(PolicyRequestDTO.class));
+        verify(service).createPolicyRequests(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    void testCreatePolicyRequestsJsonArrayReportsInvalidItemsWithoutCreatingThem() throws Exception {
+        PolicyRequestDTO invalid = new PolicyRequestDTO();
+        invalid.setCustomerId(customerId);
+        when(mapper.toEntity(any(PolicyRequestDTO.class))).thenReturn(policyRequest);
+        when(service.createPolicyRequests(anyList())).thenReturn(PolicyBatchResponseDTO.of(List.of(
+                PolicyBatchResponseDTO.ItemResultDTO.success(0, policyId, PolicyStatus.RECEIVED))));
+
+        mockMvc.perform(post("/api/v1/policy/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + objectMapper.writeValueAsString(requestDTO) + ", null, "
+                        + objectMapper.writeValueAsString(invalid) + "]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[0].policyId").value(policyId.toString()))
+                .andExpect(jsonPath("$.items[1].index").value(1))
+                .andExpect(jsonPath("$.items[1].error").value("item must not be null"))
+                .andExpect(jsonPath("$.items[2].index").value(2))
+                .andExpect(jsonPath("$.items[2].error").value(containsString("productId: Product ID is required")));
+
+        verify(mapper, times(1)).toEntity(any(PolicyRequestDTO.class));
+        verify(service).createPolicyRequests(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    void testCreatePolicyRequestsJsonArrayRejectsBatchOverMaxSize() throws Exception {
+        batchProperties.setMaxSize(1);
+
+        mockMvc.perform(post("/api/v1/policy/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(requestDTO, requestDTO))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch exceeds the maximum of 1 items"));
+
+        verify(mapper, never()).toEntity(any(PolicyRequestDTO.class));
+        verify(service, never()).createPolicyRequests(anyList());
+    }
+
+    @Test
+    void testCreatePolicyRequestsNdjsonPartialFailure() throws Exception {
+        PolicyBatchResponseDTO response = PolicyBatchResponseDTO.of(List.of(
+                PolicyBatchResponseDTO.ItemResultDTO.success(0, policyId, PolicyStatus.RECEIVED),
+                PolicyBatchResponseDTO.ItemResultDTO.failure(1, "Product ID is required")));
+
+        when(mapper.toEntity(any(PolicyRequestDTO.class))).thenReturn(policyRequest);
+        when(service.createPolicyRequests(anyList())).thenReturn(response);
+
+        String ndjson = objectMapper.writeValueAsString(requestDTO) + "\n"
+                + objectMapper.writeValueAsString(requestDTO) + "\n";
+
+        mockMvc.perform(post("/api/v1/policy/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].created").value(false))
+                .andExpect(jsonPath("$.items[1].error").value("Product ID is required"));
+
+        verify(service).createPolicyRequests(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    void testCreatePolicyRequestsNdjsonReportsInvalidItemsWithoutCreatingThem() throws Exception {
+        PolicyRequestDTO invalid = new PolicyRequestDTO();
+        invalid.setCustomerId(customerId);
+        when(mapper.toEntity(any(PolicyRequestDTO.class))).thenReturn(policyRequest);
+        when(service.createPolicyRequests(anyList())).thenReturn(PolicyBatchResponseDTO.of(List.of(
+                PolicyBatchResponseDTO.ItemResultDTO.success(0, policyId, PolicyStatus.RECEIVED))));
+
+        String ndjson = objectMapper.writeValueAsString(invalid) + "\n"
+                + objectMapper.writeValueAsString(requestDTO) + "\n";
+
+        mockMvc.perform(post("/api/v1/policy/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[0].index").value(0))
+                .andExpect(jsonPath("$.items[0].created").value(false))
+                .andExpect(jsonPath("$.items[0].error").value(containsString("productId: Product ID is required")))
+                .andExpect(jsonPath("$.items[1].index").value(1))
+                .andExpect(jsonPath("$.items[1].policyId").value(policyId.toString()));
+
+        verify(mapper, times(1)).toEntity(any(PolicyRequestDTO.class));
+        verify(service).createPolicyRequests(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    void testCreatePolicyRequestsNdjsonStopsReadingPastMaxSize() throws Exception {
+        batchProperties.setMaxSize(1);
+        String ndjson = objectMapper.writeValueAsString(requestDTO) + "\n"
+                + objectMapper.writeValueAsString(requestDTO) + "\n";
+
+        mockMvc.perform(post("/api/v1/policy/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch exceeds the maximum of 1 items"));
+
+        verify(service, never()).createPolicyRequests(anyList());
+    }
+
+    @Test
+    void testCreatePolicyRequestsNdjsonInvalidLine() throws Exception {
+        String ndjson = objectMapper.writeValueAsString(requestDTO) + "\n{ invalid json }\n";
+
+        mockMvc.perform(post("/api/v1/policy/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid NDJSON payload at item 1"));
+
+        verify(service, never()).createPolicyRequests(anyList());
+    }
+
     // ========== GET POLICY TESTS ==========
 
     @Test
     void testGetPolicyRequest() throws Exception {
-        when(service.findById(policyId)).thenReturn(policyRequest);
-        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
+
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerId").value(customerId.toString()));
+
+        verify(service).findSnapshot(policyId);
+    }
+
+    @Test
+    void testGetFinalPolicyRequestServedFromResponseCache() throws Exception {
+        policyRequest.setStatus(PolicyStatus.APPROVED);
+        policyRequest.setVersion(3L);
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
 
         mockMvc.perform(get("/api/v1/policy/{id}", policyId))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andExpect(jsonPath("$.customerId").value(customerId.toString()));
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId).header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified());
+
+        verify(service, times(1)).findSnapshot(policyId);
+    }
+
+    @Test
+    void testGetFinalPolicyRequestGzippedOnlyWhenAccepted() throws Exception {
+        responseCacheProperties.setGzip(true);
+        policyRequest.setStatus(PolicyStatus.APPROVED);
+        policyRequest.setVersion(3L);
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
+
+        for (String accepted : List.of("gzip", "deflate, GZIP;q=0.5", "*", "br;q=1.0, *;q=0.1")) {
+            mockMvc.perform(get("/api/v1/policy/{id}", policyId).header("Accept-Encoding", accepted))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("ETag", "\"3-gzip\""));
+        }
+        for (String refused : List.of("identity", "gzip;q=0", "gzip; q=0.000, *", "*;q=0", "gzip;q=high")) {
+            mockMvc.perform(get("/api/v1/policy/{id}", policyId).header("Accept-Encoding", refused))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(header().string("ETag", "\"3\""))
+                    .andExpect(jsonPath("$.customerId").value(customerId.toString()));
+        }
+    }
+
+    @Test
+    void testGetPolicyRequestNotModifiedWithoutLoadingAggregate() throws Exception {
+        when(service.findVersion(policyId)).thenReturn(2L);
+
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId).header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""));
+
+        verify(service, never()).findSnapshot(any(UUID.class));
+    }
+
+    @Test
+    void testGetPolicyRequestWithStaleETagReturnsCurrentVersion() throws Exception {
+        policyRequest.setVersion(3L);
+        when(service.findVersion(policyId)).thenReturn(3L);
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
+
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId).header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.customerId").value(customerId.toString()));
+    }
+
+    @Test
+    void testGetNonFinalPolicyRequestIsNotCached() throws Exception {
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
+
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId)).andExpect(status().isOk());
+
+        verify(service, times(2)).findSnapshot(policyId);
+    }
 
-        verify(service).findById(policyId);
+    @Test
+    void testGetPolicyRequestLeavesCoalescingToPolicyCacheWhenEnabled() throws Exception {
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
+
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId)).andExpect(status().isOk());
+
+        verify(singleFlight, never()).execute(any(), any(), any());
+    }
+
+    @Test
+    void testGetPolicyRequestCoalescedWhenPolicyCacheDisabled() throws Exception {
+        policyCacheProperties.setEnabled(false);
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
+
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId)).andExpect(status().isOk());
+
+        verify(singleFlight).execute(eq("get-policy"), eq(policyId), any());
+    }
+
+    @Test
+    void testGetRecentlyWrittenPolicyRequestDoesNotJoinLoadInFlight() throws Exception {
+        policyCacheProperties.setEnabled(false);
+        when(readAfterWrite.isRecentlyWritten(policyId)).thenReturn(true);
+        when(service.findSnapshot(policyId)).thenReturn(PolicyRequestSnapshot.of(policyRequest, requestDTO));
+
+        mockMvc.perform(get("/api/v1/policy/{id}", policyId)).andExpect(status().isOk());
+
+        verify(singleFlight, never()).execute(any(), any(), any());
+        verify(service).findSnapshot(policyId);
     }
 
     @Test
     void testGetPolicyRequestNotFound() throws Exception {
-        when(service.findById(policyId)).thenThrow(new EntityNotFoundException("Policy not found"));
+        when(service.findSnapshot(policyId)).thenThrow(new EntityNotFoundException("Policy not found"));
 
         mockMvc.perform(get("/api/v1/policy/{id}", policyId))
                 .andExpect(status().isNotFound());
 
-        verify(service).findById(policyId);
-        verify(mapper, never()).toDTO(any(PolicyRequest.class));
+        verify(service).findSnapshot(policyId);
     }
 
     @Test
     void testGetPolicyRequestInternalError() throws Exception {
-        when(service.findById(policyId)).thenThrow(new RuntimeException("Database error"));
+        when(service.findSnapshot(policyId)).thenThrow(new RuntimeException("Database error"));
 
         mockMvc.perform(get("/api/v1/policy/{id}", policyId))
                 .andExpect(status().isInternalServerError());
 
-        verify(service).findById(policyId);
+        verify(service).findSnapshot(policyId);
     }
 
     @Test
@@ -187,7 +530,7 @@ class PolicyRequestControllerTest {
         mockMvc.perform(get("/api/v1/policy/{id}", "invalid-uuid"))
                 .andExpect(status().isBadRequest());
 
-        verify(service, never()).findById(any(UUID.class));
+        verify(service, never()).findSnapshot(any(UUID.class));
     }
 
     // ========== GET BY CUSTOMER TESTS ==========
@@ -195,7 +538,7 @@ class PolicyRequestControllerTest {
     @Test
     void testGetPolicyRequestsByCustomerList() throws Exception {
         List<PolicyRequest> policyRequests = Arrays.asList(policyRequest);
-        when(service.findByCustomerId(customerId)).thenReturn(policyRequests);
+        when(service.findByCustomerId(customerId, null)).thenReturn(policyRequests);
         when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
 
         mockMvc.perform(get("/api/v1/policy/customer/{customerId}", customerId))
@@ -203,29 +546,29 @@ class PolicyRequestControllerTest {
                 .andExpect(jsonPath("$[0].customerId").value(customerId.toString()))
                 .andExpect(jsonPath("$.length()").value(1));
 
-        verify(service).findByCustomerId(customerId);
+        verify(service).findByCustomerId(customerId, null);
     }
 
     @Test
     void testGetPolicyRequestsByCustomerEmptyList() throws Exception {
-        when(service.findByCustomerId(customerId)).thenReturn(Collections.emptyList());
+        when(service.findByCustomerId(customerId, null)).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/api/v1/policy/customer/{customerId}", customerId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(service).findByCustomerId(customerId);
+        verify(service).findByCustomerId(customerId, null);
     }
 
     @Test
     void testGetPolicyRequestsByCustomerException() throws Exception {
-        when(service.findByCustomerId(customerId)).thenThrow(new RuntimeException("Database error"));
+        when(service.findByCustomerId(customerId, null)).thenThrow(new RuntimeException("Database error"));
 
         mockMvc.perform(get("/api/v1/policy/customer/{customerId}", customerId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0)); // Returns empty list on error
 
-        verify(service).findByCustomerId(customerId);
+        verify(service).findByCustomerId(customerId, null);
     }
 
     @Test
@@ -236,17 +579,191 @@ class PolicyRequestControllerTest {
         policy2.setStatus(PolicyStatus.VALIDATED);
 
         List<PolicyRequest> policyRequests = Arrays.asList(policyRequest, policy2);
-        when(service.findByCustomerId(customerId)).thenReturn(policyRequests);
+        when(service.findByCustomerId(customerId, null)).thenReturn(policyRequests);
         when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
 
         mockMvc.perform(get("/api/v1/policy/customer/{customerId}", customerId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(2));
 
-        verify(service).findByCustomerId(customerId);
+        verify(service).findByCustomerId(customerId, null);
         verify(mapper, times(2)).toDTO(any(PolicyRequest.class));
     }
 
+    @Test
+    void testGetPolicyRequestsByCustomerSince() throws Exception {
+        when(service.findByCustomerId(customerId, LocalDate.of(2024, 3, 1))).thenReturn(List.of(policyRequest));
+        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+
+        mockMvc.perform(get("/api/v1/policy/customer/{customerId}", customerId).param("since", "2024-03-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        verify(service).findByCustomerId(customerId, LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    void testGetPolicyRequestsPageByCustomerWithNextCursor() throws Exception {
+        when(service.findPageByCustomerId(eq(customerId), isNull(), isNull(), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(policyRequest), PageRequest.ofSize(1), true));
+        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+
+        String expectedCursor = PolicyRequestCursor.of(policyRequest).encode();
+
+        mockMvc.perform(get("/api/v1/policy/customer/{customerId}/page", customerId)
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(expectedCursor));
+    }
+
+    @Test
+    void testGetPolicyRequestsPageByCustomerWithCursor() throws Exception {
+        PolicyRequestCursor cursor = PolicyRequestCursor.of(policyRequest);
+        when(service.findPageByCustomerId(eq(customerId), isNull(), eq(cursor), eq(50)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(50), false));
+
+        mockMvc.perform(get("/api/v1/policy/customer/{customerId}/page", customerId)
+                .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetPolicyRequestsPageByCustomerWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/policy/customer/{customerId}/page", customerId)
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).findPageByCustomerId(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testStreamPolicyRequestsByCustomerNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<PolicyRequest> consumer = invocation.getArgument(2);
+            consumer.accept(policyRequest);
+            consumer.accept(policyRequest);
+            return null;
+        }).when(service).streamByCustomerId(eq(customerId), isNull(), any());
+        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/policy/customer/{customerId}", customerId)
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String line = objectMapper.writeValueAsString(requestDTO);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(line + "\n" + line + "\n"));
+
+        verify(service, never()).findByCustomerId(any(), any());
+    }
+
+    // ========== STATUS HISTORY TESTS ==========
+
+    @Test
+    void testGetStatusHistoryPage() throws Exception {
+        StatusHistory entry = new StatusHistory();
+        entry.setPolicyRequestId(policyId);
+        entry.setPreviousStatus(PolicyStatus.RECEIVED);
+        entry.setNewStatus(PolicyStatus.VALIDATED);
+        entry.setChangedAt(LocalDateTime.now());
+        when(service.findStatusHistory(policyId, 1, 1))
+                .thenReturn(new SliceImpl<>(List.of(entry), PageRequest.of(1, 1), true));
+        when(mapper.toStatusHistoryDto(entry)).thenCallRealMethod();
+
+        mockMvc.perform(get("/api/v1/policy/{id}/history", policyId)
+                .param("page", "1")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.items[0].status").value("VALIDATED"))
+                .andExpect(jsonPath("$.items[0].previousStatus").value("RECEIVED"));
+    }
+
+    @Test
+    void testGetStatusHistoryUsesDefaultPage() throws Exception {
+        when(service.findStatusHistory(policyId, 0, 50))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 50), false));
+
+        mockMvc.perform(get("/api/v1/policy/{id}/history", policyId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testGetStatusHistoryNotFound() throws Exception {
+        when(service.findStatusHistory(policyId, 0, 50))
+                .thenThrow(new EntityNotFoundException("Policy request not found with id: " + policyId));
+
+        mockMvc.perform(get("/api/v1/policy/{id}/history", policyId))
+                .andExpect(status().isNotFound());
+    }
+
+    // ========== EVENT STREAM TESTS ==========
+
+    @Test
+    void testStreamPolicyEvents() throws Exception {
+        when(eventHub.subscribeToPolicy(policyId)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/policy/{id}/events", policyId))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(service).findVersion(policyId);
+    }
+
+    @Test
+    void testStreamPolicyEventsNotFound() throws Exception {
+        when(service.findVersion(policyId)).thenThrow(new EntityNotFoundException("Policy not found"));
+
+        mockMvc.perform(get("/api/v1/policy/{id}/events", policyId))
+                .andExpect(status().isNotFound());
+
+        verify(eventHub, never()).subscribeToPolicy(any(UUID.class));
+    }
+
+    @Test
+    void testStreamCustomerEventsAtCapacity() throws Exception {
+        when(eventHub.subscribeToCustomer(customerId)).thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/policy/customer/{customerId}/events", customerId))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    // ========== TRANSITIONS TESTS ==========
+
+    @Test
+    void testGetAllowedTransitions() throws Exception {
+        when(service.getAllowedTransitions(policyId))
+                .thenReturn(PolicyTransitionsDTO.of(policyId, PolicyStatus.PENDING));
+
+        mockMvc.perform(get("/api/v1/policy/{id}/transitions", policyId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.finalStatus").value(false))
+                .andExpect(jsonPath("$.allowedNextStates.length()").value(3))
+                .andExpect(jsonPath("$.allowedNextStates[0]").value("APPROVED"));
+    }
+
+    @Test
+    void testGetAllowedTransitionsNotFound() throws Exception {
+        when(service.getAllowedTransitions(policyId))
+                .thenThrow(new EntityNotFoundException("Policy request not found with id: " + policyId));
+
+        mockMvc.perform(get("/api/v1/policy/{id}/transitions", policyId))
+                .andExpect(status().isNotFound());
+    }
+
     // ========== VALIDATION TESTS ==========
 
     @Test
@@ -341,6 +858,29 @@ class PolicyRequestControllerTest {
         verify(service).processPayment(policyId);
     }
 
+    @Test
+    void testProcessPaymentRetryWithSameIdempotencyKeyIsReplayed() throws Exception {
+        mockMvc.perform(post("/api/v1/policy/{id}/payment", policyId).header("Idempotency-Key", "pay-1"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/policy/{id}/payment", policyId).header("Idempotency-Key", "pay-1"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+
+        verify(service, times(1)).processPayment(policyId);
+    }
+
+    @Test
+    void testProcessPaymentFailureDoesNotConsumeIdempotencyKey() throws Exception {
+        doThrow(new IllegalStateException("Policy not validated")).doNothing().when(service).processPayment(policyId);
+
+        mockMvc.perform(post("/api/v1/policy/{id}/payment", policyId).header("Idempotency-Key", "pay-2"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/policy/{id}/payment", policyId).header("Idempotency-Key", "pay-2"))
+                .andExpect(status().isNoContent());
+
+        verify(service, times(2)).processPayment(policyId);
+    }
+
     @Test
     void testProcessPaymentBadRequest() throws Exception {
         doThrow(new IllegalStateException("Policy not validated")).when(service).processPayment(policyId);
@@ -403,6 +943,51 @@ class PolicyRequestControllerTest {
         verify(service).processSubscription(policyId);
     }
 
+    // ========== END-TO-END PROCESSING TESTS ==========
+
+    @Test
+    void testProcessPolicyRequest() throws Exception {
+        policyRequest.setStatus(PolicyStatus.APPROVED);
+        when(service.processPolicyRequest(policyId)).thenReturn(PolicyProcessingResponseDTO.completed(policyRequest, List.of()));
+
+        mockMvc.perform(post("/api/v1/policy/{id}/process", policyId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(true))
+                .andExpect(jsonPath("$.status").value("APPROVED"))
+                .andExpect(jsonPath("$.statusHistory").isArray())
+                .andExpect(jsonPath("$.stoppedAt").doesNotExist());
+    }
+
+    @Test
+    void testProcessPolicyRequestStopped() throws Exception {
+        policyRequest.setStatus(PolicyStatus.REJECTED);
+        when(service.processPolicyRequest(policyId)).thenReturn(PolicyProcessingResponseDTO.stopped(
+                policyRequest, List.of(), PolicyProcessingResponseDTO.Step.PAYMENT, "PAYMENT_FAILED", "Payment processing failed"));
+
+        mockMvc.perform(post("/api/v1/policy/{id}/process", policyId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(false))
+                .andExpect(jsonPath("$.stoppedAt").value("PAYMENT"))
+                .andExpect(jsonPath("$.errorCode").value("PAYMENT_FAILED"));
+    }
+
+    @Test
+    void testProcessPolicyRequestsBatch() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        policyRequest.setStatus(PolicyStatus.APPROVED);
+        when(service.processPolicyRequests(List.of(policyId, missingId))).thenReturn(PolicyProcessingBatchResponseDTO.of(List.of(
+                PolicyProcessingResponseDTO.completed(policyRequest, List.of()),
+                PolicyProcessingResponseDTO.notFound(missingId, "Policy request not found"))));
+
+        mockMvc.perform(post("/api/v1/policy/batch/process")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(policyId, missingId))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.approved").value(1))
+                .andExpect(jsonPath("$.items[1].errorCode").value("NOT_FOUND"));
+    }
+
     // ========== CANCELLATION TESTS ==========
 
     @Test
@@ -478,7 +1063,7 @@ class PolicyRequestControllerTest {
         String nullUuid = "00000000-0000-0000-0000-000000000000";
         
         // Mock service calls for null UUID scenarios
-        when(service.findById(UUID.fromString(nullUuid))).thenThrow(new EntityNotFoundException("Policy not found"));
+        when(service.findSnapshot(UUID.fromString(nullUuid))).thenThrow(new EntityNotFoundException("Policy not found"));
         when(service.processFraudAnalysis(UUID.fromString(nullUuid))).thenThrow(new EntityNotFoundException("Policy not found"));
         doThrow(new EntityNotFoundException("Policy not found")).when(service).processPayment(UUID.fromString(nullUuid));
         doThrow(new EntityNotFoundException("Policy not found")).when(service).processSubscription(UUID.fromString(nullUuid));
@@ -1,9 +1,13 @@
 package com.insurance.domain.enums;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.EnumSet;
+
 import org.junit.jupiter.api.Test;
 
 class PolicyStatusTest {
@@ -75,4 +79,38 @@ class PolicyStatusTest {
         assertEquals(4, PolicyStatus.REJECTED.ordinal());
         assertEquals(5, PolicyStatus.CANCELLED.ordinal());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testCanTransitionToFollowsWorkflow() {
+        assertTrue(PolicyStatus.RECEIVED.canTransitionTo(PolicyStatus.VALIDATED));
+        assertTrue(PolicyStatus.VALIDATED.canTransitionTo(PolicyStatus.PENDING));
+        assertTrue(PolicyStatus.PENDING.canTransitionTo(PolicyStatus.APPROVED));
+        assertTrue(PolicyStatus.PENDING.canTransitionTo(PolicyStatus.CANCELLED));
+
+        assertFalse(PolicyStatus.RECEIVED.canTransitionTo(PolicyStatus.APPROVED));
+        assertFalse(PolicyStatus.VALIDATED.canTransitionTo(PolicyStatus.RECEIVED));
+        assertFalse(PolicyStatus.APPROVED.canTransitionTo(PolicyStatus.CANCELLED));
+        assertFalse(PolicyStatus.RECEIVED.canTransitionTo(null));
+    }
+
+    @Test
+    void testAllowedNextStates() {
+        assertEquals(EnumSet.of(PolicyStatus.VALIDATED, PolicyStatus.REJECTED, PolicyStatus.CANCELLED),
+                PolicyStatus.RECEIVED.allowedNextStates());
+        assertEquals(EnumSet.of(PolicyStatus.APPROVED, PolicyStatus.REJECTED, PolicyStatus.CANCELLED),
+                PolicyStatus.PENDING.allowedNextStates());
+        assertTrue(PolicyStatus.REJECTED.allowedNextStates().isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> PolicyStatus.RECEIVED.allowedNextStates().add(PolicyStatus.APPROVED));
+    }
+
+    @Test
+    void testIsFinal() {
+        assertFalse(PolicyStatus.RECEIVED.isFinal());
+        assertFalse(PolicyStatus.VALIDATED.isFinal());
+        assertFalse(PolicyStatus.PENDING.isFinal());
+        assertTrue(PolicyStatus.APPROVED.isFinal());
+        assertTrue(PolicyStatus.REJECTED.isFinal());
+        assertTrue(PolicyStatus.CANCELLED.isFinal());
+    }
+}
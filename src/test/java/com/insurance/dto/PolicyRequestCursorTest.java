@@ -0,0 +1,47 @@
+package com.insurance.dto;
+
+import com.insurance.domain.PolicyRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyRequestCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        PolicyRequestCursor cursor = new PolicyRequestCursor(
+                LocalDateTime.of(2024, 6, 8, 14, 30, 15, 123456789), UUID.randomUUID());
+
+        PolicyRequestCursor decoded = PolicyRequestCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void testEncodedCursorIsUrlSafe() {
+        String encoded = new PolicyRequestCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testOfPolicyRequest() {
+        PolicyRequest request = new PolicyRequest();
+        request.setId(UUID.randomUUID());
+        request.setCreatedAt(LocalDateTime.now());
+
+        PolicyRequestCursor cursor = PolicyRequestCursor.of(request);
+
+        assertEquals(request.getId(), cursor.getId());
+        assertEquals(request.getCreatedAt(), cursor.getCreatedAt());
+    }
+
+    @Test
+    void testDecodeInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> PolicyRequestCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PolicyRequestCursor.decode("%%%"));
+    }
+}
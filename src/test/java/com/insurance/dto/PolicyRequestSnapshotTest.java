@@ -0,0 +1,52 @@
+package com.insurance.dto;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.PolicyStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyRequestSnapshotTest {
+
+    @Test
+    void testOfPolicyRequest() {
+        PolicyRequest request = new PolicyRequest();
+        request.setId(UUID.randomUUID());
+        request.setVersion(4L);
+        request.setStatus(PolicyStatus.PENDING);
+
+        PolicyRequestSnapshot snapshot = PolicyRequestSnapshot.of(request, new PolicyRequestDTO());
+
+        assertEquals(request.getId(), snapshot.id());
+        assertEquals(4L, snapshot.version());
+        assertEquals(PolicyStatus.PENDING, snapshot.status());
+    }
+
+    @Test
+    void testChangesToSourceOrReturnedDtoDoNotLeakIntoSnapshot() {
+        PolicyRequestDTO source = new PolicyRequestDTO();
+        source.setCoverages(new HashMap<>());
+        source.getCoverages().put("Collision", new BigDecimal("30000.00"));
+        StatusHistoryDTO entry = new StatusHistoryDTO();
+        entry.setStatus(PolicyStatus.RECEIVED);
+        source.setHistory(new ArrayList<>(List.of(entry)));
+
+        PolicyRequestSnapshot snapshot = new PolicyRequestSnapshot(UUID.randomUUID(), 1L, PolicyStatus.RECEIVED, source);
+        source.getCoverages().clear();
+        entry.setStatus(PolicyStatus.CANCELLED);
+        PolicyRequestDTO handedOut = snapshot.dto();
+        handedOut.getHistory().clear();
+
+        PolicyRequestDTO dto = snapshot.dto();
+        assertNotSame(handedOut, dto);
+        assertEquals(1, dto.getCoverages().size());
+        assertEquals(1, dto.getHistory().size());
+        assertEquals(PolicyStatus.RECEIVED, dto.getHistory().get(0).getStatus());
+    }
+}
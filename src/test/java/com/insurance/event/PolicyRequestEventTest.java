@@ -45,6 +45,14 @@ class PolicyRequestEventTest {
         assertTrue(timestamp.isAfter(LocalDateTime.now().minusSeconds(1)));
     }
 
+    @Test
+    void testEachEventGetsItsOwnId() {
+        PolicyRequestEvent sameTransition = new TestPolicyRequestEvent(policyRequestId, customerId, status);
+
+        assertNotNull(event.getEventId());
+        assertNotEquals(event.getEventId(), sameTransition.getEventId());
+    }
+
     @Test
     void testEventType() {
         assertEquals("TestPolicyRequestEvent", event.getEventType());
@@ -15,6 +15,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -199,6 +200,20 @@ class ExceptionHandlerTest {
 
     // ========== DATABASE EXCEPTIONS ==========
 
+    @Test
+    void testHandleOptimisticLockingFailure() {
+        ObjectOptimisticLockingFailureException exception =
+                new ObjectOptimisticLockingFailureException("PolicyRequest", "id");
+
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleOptimisticLockingFailure(exception, webRequest);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Concurrent Modification", response.getBody().getError());
+        assertEquals("CONCURRENT_MODIFICATION", response.getBody().getErrorCode());
+        assertEquals("/api/v1/policy", response.getBody().getPath());
+    }
+
     @Test
     void testHandleDataIntegrityViolation_UniqueConstraint() {
         // Given
@@ -0,0 +1,122 @@
+package com.insurance.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.dto.PolicyRequestSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PolicyRequestCacheTest {
+
+    private final PolicyRequestCacheProperties properties = new PolicyRequestCacheProperties();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyRequestCache cache;
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaximumSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PolicyRequestCache(properties, meterRegistry);
+        id = UUID.randomUUID();
+    }
+
+    @Test
+    void testRepeatedLookupsAreServedFromCache() {
+        PolicyRequestSnapshot first = cache.get(id, this::load);
+        PolicyRequestSnapshot second = cache.get(id, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void testMissingPolicyIsNotCached() {
+        Function<UUID, PolicyRequestSnapshot> notFound = key -> {
+            loads.incrementAndGet();
+            throw new EntityNotFoundException("Policy request not found with id: " + key);
+        };
+
+        assertThrows(EntityNotFoundException.class, () -> cache.get(id, notFound));
+        assertThrows(EntityNotFoundException.class, () -> cache.get(id, notFound));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testWriteEvictsAgainAfterCommit() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(
+                new DriverManagerDataSource("jdbc:h2:mem:cache_" + UUID.randomUUID(), "sa", "")));
+        cache.get(id, this::load);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            cache.evictOnWrite(id);
+            // a concurrent read before the commit fills the cache again with the old version
+            cache.get(id, this::load);
+        });
+        cache.get(id, this::load);
+
+        assertEquals(3, loads.get());
+        assertEquals(1.0, invalidations("write"));
+    }
+
+    @Test
+    void testEventEvictsCachedPolicy() {
+        cache.get(id, this::load);
+
+        cache.evictOnEvent(id);
+        cache.get(id, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, invalidations("event"));
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        for (int i = 0; i < 10; i++) {
+            cache.get(UUID.randomUUID(), this::load);
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        properties.setEnabled(false);
+
+        cache.get(id, this::load);
+        cache.get(id, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private PolicyRequestSnapshot load(UUID key) {
+        loads.incrementAndGet();
+        PolicyRequestDTO dto = new PolicyRequestDTO();
+        dto.setId(key);
+        return new PolicyRequestSnapshot(key, 0L, null, dto);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", PolicyRequestCache.CACHE_NAME)
+                .tag("result", result).functionCounter().count();
+    }
+
+    private double invalidations(String source) {
+        return meterRegistry.get("insurance.policy.cache.invalidations.total").tag("source", source)
+                .counter().count();
+    }
+}
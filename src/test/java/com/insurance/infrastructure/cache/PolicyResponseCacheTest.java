@@ -0,0 +1,56 @@
+package com.insurance.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.insurance.infrastructure.cache.PolicyResponseCache.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class PolicyResponseCacheTest {
+
+    private final PolicyResponseCacheProperties properties = new PolicyResponseCacheProperties();
+    private final byte[] json = "{\"status\":\"APPROVED\"}".getBytes(StandardCharsets.UTF_8);
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    void testStoredResponseIsReturnedAsIs() {
+        PolicyResponseCache cache = new PolicyResponseCache(properties, new SimpleMeterRegistry());
+
+        CachedResponse stored = cache.put(id, "\"4\"", json);
+
+        assertSame(stored, cache.get(id));
+        assertSame(json, cache.get(id).json());
+        assertNull(cache.get(id).gzip());
+    }
+
+    @Test
+    void testGzipVariantHasItsOwnEtag() throws IOException {
+        properties.setGzip(true);
+        PolicyResponseCache cache = new PolicyResponseCache(properties, new SimpleMeterRegistry());
+
+        CachedResponse stored = cache.put(id, "\"4\"", json);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(stored.gzip()))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+        assertEquals("\"4-gzip\"", stored.gzipEtag());
+    }
+
+    @Test
+    void testDisabledCacheStoresNothing() {
+        properties.setEnabled(false);
+        PolicyResponseCache cache = new PolicyResponseCache(properties, new SimpleMeterRegistry());
+
+        cache.put(id, "\"4\"", json);
+
+        assertNull(cache.get(id));
+    }
+}
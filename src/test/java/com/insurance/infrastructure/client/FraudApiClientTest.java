@@ -0,0 +1,177 @@
+package com.insurance.infrastructure.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.exception.BusinessException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FraudApiClientTest {
+
+    private static final String PATH = "/api/fraud-analysis";
+
+    private static final String REGULAR_RESPONSE = """
+            {
+              "orderId": "550e8400-e29b-41d4-a716-446655440000",
+              "customerId": "550e8400-e29b-41d4-a716-446655440001",
+              "analyzedAt": "2024-06-08T14:30:00Z",
+              "classification": "REGULAR",
+              "occurrences": [
+                {
+                  "id": "d4e5f6a7-b8c9-0123-defa-456789012345",
+                  "productId": 78900069,
+                  "type": "FRAUD",
+                  "description": "Atividade suspeita detectada no histórico",
+                  "createdAt": "2024-05-25T08:30:00Z",
+                  "updatedAt": "2024-05-30T12:15:00Z"
+                }
+              ]
+            }
+            """;
+
+    private WireMockServer server;
+    private FraudApiProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private FraudApiClient client;
+    private PolicyRequest policyRequest;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+
+        properties = new FraudApiProperties();
+        properties.setUrl(server.baseUrl() + PATH);
+        properties.setTimeoutMs(5000);
+        properties.setMaxConcurrentCalls(2);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(2);
+        properties.getCircuitBreaker().setSlidingWindowSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        client = newClient();
+
+        policyRequest = new PolicyRequest();
+        policyRequest.setId(UUID.randomUUID());
+        policyRequest.setCustomerId(UUID.randomUUID());
+        policyRequest.setCategory(InsuranceCategory.AUTO);
+        policyRequest.setInsuredAmount(new BigDecimal("100000.00"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop();
+    }
+
+    @Test
+    void testAnalyzeFraudMapsResponse() {
+        server.stubFor(post(urlEqualTo(PATH)).willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(REGULAR_RESPONSE)));
+
+        RiskAnalysis analysis = client.analyzeFraud(policyRequest);
+
+        assertEquals(CustomerRiskType.REGULAR, analysis.getClassification());
+        assertEquals(LocalDateTime.of(2024, 6, 8, 14, 30), analysis.getAnalyzedAt());
+        assertEquals(1, analysis.getOccurrences().size());
+        assertEquals("FRAUD", analysis.getOccurrences().get(0).getType());
+        server.verify(postRequestedFor(urlEqualTo(PATH))
+                .withHeader("Content-Type", equalTo("application/json"))
+                .withRequestBody(matchingJsonPath("$.orderId", equalTo(policyRequest.getId().toString())))
+                .withRequestBody(matchingJsonPath("$.category", equalTo("AUTO"))));
+        assertEquals(1, meterRegistry.get("insurance.fraud.api.duration").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testAnalyzeFraudTimesOut() {
+        client.shutdown();
+        properties.setTimeoutMs(300);
+        client = newClient();
+        server.stubFor(post(urlEqualTo(PATH)).willReturn(aResponse()
+                .withFixedDelay(1000)
+                .withHeader("Content-Type", "application/json")
+                .withBody(REGULAR_RESPONSE)));
+
+        long start = System.nanoTime();
+        BusinessException error = assertThrows(BusinessException.class, () -> client.analyzeFraud(policyRequest));
+
+        assertEquals("FRAUD_API_TIMEOUT", error.getErrorCode());
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 900);
+    }
+
+    @Test
+    void testAnalyzeFraudFailsOnServerError() {
+        server.stubFor(post(urlEqualTo(PATH)).willReturn(aResponse().withStatus(503)));
+
+        BusinessException error = assertThrows(BusinessException.class, () -> client.analyzeFraud(policyRequest));
+
+        assertEquals("FRAUD_API_ERROR", error.getErrorCode());
+        assertTrue(error.getMessage().contains("503"));
+    }
+
+    @Test
+    void testCircuitOpensAfterRepeatedFailures() {
+        server.stubFor(post(urlEqualTo(PATH)).willReturn(aResponse().withStatus(500)));
+
+        assertThrows(BusinessException.class, () -> client.analyzeFraud(policyRequest));
+        assertThrows(BusinessException.class, () -> client.analyzeFraud(policyRequest));
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        BusinessException error = assertThrows(BusinessException.class, () -> client.analyzeFraud(policyRequest));
+
+        assertEquals("FRAUD_API_CIRCUIT_OPEN", error.getErrorCode());
+        server.verify(2, postRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void testBulkheadRejectsExcessConcurrentCalls() {
+        server.stubFor(post(urlEqualTo(PATH)).willReturn(aResponse()
+                .withFixedDelay(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(REGULAR_RESPONSE)));
+
+        CompletableFuture<RiskAnalysis> first = client.analyzeFraudAsync(policyRequest);
+        CompletableFuture<RiskAnalysis> second = client.analyzeFraudAsync(policyRequest);
+        CompletableFuture<RiskAnalysis> third = client.analyzeFraudAsync(policyRequest);
+
+        CompletionException rejected = assertThrows(CompletionException.class, third::join);
+        assertEquals("FRAUD_API_BULKHEAD_FULL", ((BusinessException) rejected.getCause()).getErrorCode());
+        assertEquals(CustomerRiskType.REGULAR, first.join().getClassification());
+        assertEquals(CustomerRiskType.REGULAR, second.join().getClassification());
+        assertEquals(CustomerRiskType.REGULAR, client.analyzeFraud(policyRequest).getClassification());
+    }
+
+    @Test
+    void testAnalyzeFraudRejectsRequestWithoutId() {
+        policyRequest.setId(null);
+
+        assertThrows(IllegalArgumentException.class, () -> client.analyzeFraud(policyRequest));
+    }
+
+    private FraudApiClient newClient() {
+        return new FraudApiClient(properties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+}
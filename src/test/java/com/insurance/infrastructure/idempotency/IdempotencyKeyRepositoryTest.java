@@ -0,0 +1,137 @@
+package com.insurance.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+// H2 has no ON CONFLICT ... DO UPDATE; the queries are checked against a mocked EntityManager.
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyRepositoryTest {
+
+    private static final LocalDateTime CLAIMED_AT = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_456_000);
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    @InjectMocks
+    private IdempotencyKeyRepository repository;
+
+    private final ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManager.createNativeQuery(sql.capture())).thenReturn(query);
+        lenient().when(query.setParameter(anyString(), any())).thenReturn(query);
+    }
+
+    @Test
+    void testClaimTakesOverOnlyExpiredRows() {
+        LocalDateTime lease = CLAIMED_AT.plusSeconds(30);
+        when(query.executeUpdate()).thenReturn(1);
+
+        assertTrue(repository.claim("key-1", "create", CLAIMED_AT, lease));
+
+        String statement = sql.getValue();
+        assertTrue(statement.contains("ON CONFLICT (idempotency_key) DO UPDATE"));
+        assertTrue(statement.contains("WHERE idempotency_keys.expires_at <= EXCLUDED.created_at"));
+        assertTrue(statement.contains("status_code = NULL"));
+        verify(query).setParameter("now", CLAIMED_AT);
+        verify(query).setParameter("expiresAt", lease);
+    }
+
+    @Test
+    void testClaimOfLiveKeyIsRefused() {
+        when(query.executeUpdate()).thenReturn(0);
+
+        assertFalse(repository.claim("key-1", "create", CLAIMED_AT, CLAIMED_AT.plusSeconds(30)));
+    }
+
+    @Test
+    void testCompleteExtendsOwnClaimToTtl() {
+        LocalDateTime expiresAt = CLAIMED_AT.plusDays(1);
+        when(query.executeUpdate()).thenReturn(1);
+
+        assertTrue(repository.complete("key-1", CLAIMED_AT, new IdempotentResponse("create", 201, null), expiresAt));
+
+        String statement = sql.getValue();
+        assertTrue(statement.contains("expires_at = :expiresAt"));
+        assertTrue(statement.contains("created_at = :claimedAt AND status_code IS NULL"));
+        verify(query).setParameter("claimedAt", CLAIMED_AT);
+        verify(query).setParameter("expiresAt", expiresAt);
+        verify(query).setParameter("statusCode", 201);
+        verify(query).setParameter("body", "");
+    }
+
+    @Test
+    void testCompleteAfterLosingTheLeaseReportsIt() {
+        when(query.executeUpdate()).thenReturn(0);
+
+        assertFalse(repository.complete("key-1", CLAIMED_AT, new IdempotentResponse("create", 201, "{}"),
+                CLAIMED_AT.plusDays(1)));
+    }
+
+    @Test
+    void testReleaseOnlyDropsOwnUnfinishedClaim() {
+        repository.release("key-1", CLAIMED_AT);
+
+        assertTrue(sql.getValue().contains("created_at = :claimedAt AND status_code IS NULL"));
+        verify(query).setParameter("claimedAt", CLAIMED_AT);
+        verify(query).executeUpdate();
+    }
+
+    @Test
+    void testFindMapsInProgressAndCompletedRows() {
+        when(query.getResultList())
+                .thenReturn(List.<Object[]>of(new Object[]{"create", null, null}))
+                .thenReturn(List.<Object[]>of(new Object[]{"create", 201, ""}))
+                .thenReturn(List.of());
+
+        IdempotentResponse inProgress = repository.find("key-1", CLAIMED_AT);
+        assertEquals(0, inProgress.getStatusCode());
+
+        IdempotentResponse completed = repository.find("key-1", CLAIMED_AT);
+        assertEquals(201, completed.getStatusCode());
+        assertNull(completed.getBody());
+
+        assertNull(repository.find("key-1", CLAIMED_AT));
+    }
+
+    @Test
+    void testMigrationDefinesColumnsUsedByRepository() throws IOException {
+        String migration;
+        try (InputStream in = getClass().getResourceAsStream("/db/migration/V5__idempotency_keys.sql")) {
+            migration = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        for (String column : List.of("idempotency_key", "fingerprint", "status_code", "body", "created_at",
+                "expires_at")) {
+            assertTrue(migration.contains(column), column);
+        }
+        assertTrue(migration.contains("PRIMARY KEY (idempotency_key)"));
+        assertTrue(migration.contains("timestamp(6)"));
+    }
+}
@@ -0,0 +1,229 @@
+package com.insurance.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.exception.BusinessException;
+import com.insurance.exception.IdempotencyConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new IdempotencyService(properties, new ObjectMapper(),
+                new DefaultListableBeanFactory().getBeanProvider(IdempotencyKeyRepository.class),
+                new TransactionTemplate(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testRetryReplaysStoredResponse() {
+        service.execute("key-1", "create", this::created);
+        ResponseEntity<?> replay = service.execute("key-1", "create", this::created);
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+        assertEquals("true", replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertArrayEquals("{\"id\":1}".getBytes(StandardCharsets.UTF_8), (byte[]) replay.getBody());
+        assertEquals(1.0, requests("replayed"));
+    }
+
+    @Test
+    void testRequestsWithoutKeyAlwaysExecute() {
+        service.execute(null, null, this::created);
+        service.execute(null, null, this::created);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void testKeyReusedForDifferentRequestIsRejected() {
+        service.execute("key-2", "payment:1", this::created);
+
+        assertThrows(BusinessException.class, () -> service.execute("key-2", "payment:2", this::created));
+    }
+
+    @Test
+    void testServerErrorIsNotStored() {
+        service.execute("key-3", "validate", () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        });
+        service.execute("key-3", "validate", this::created);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void testConcurrentDuplicateWaitsForInFlightOriginal() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> original = CompletableFuture.supplyAsync(() ->
+                service.execute("key-4", "process", () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }), executor);
+        started.await(2, TimeUnit.SECONDS);
+
+        CompletableFuture<ResponseEntity<?>> duplicate = CompletableFuture.supplyAsync(() ->
+                service.execute("key-4", "process", this::created), executor);
+        Thread.sleep(50);
+        release.countDown();
+
+        assertEquals(HttpStatus.CREATED, original.get(2, TimeUnit.SECONDS).getStatusCode());
+        assertEquals(HttpStatus.CREATED, duplicate.get(2, TimeUnit.SECONDS).getStatusCode());
+        assertEquals(1, executions.get());
+        assertEquals(1.0, requests("coalesced"));
+    }
+
+    @Test
+    void testDuplicateGivesUpAfterInFlightWait() throws Exception {
+        properties.setInFlightWaitMs(20);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> original = CompletableFuture.supplyAsync(() ->
+                service.execute("key-5", "process", () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }), executor);
+        started.await(2, TimeUnit.SECONDS);
+
+        assertThrows(IdempotencyConflictException.class, () -> service.execute("key-5", "process", this::created));
+        release.countDown();
+        original.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testPersistentClaimHoldsLeaseUntilCompletedForTtl() {
+        properties.setInFlightWaitMs(1_000);
+        properties.setClaimLeaseMultiplier(3);
+        IdempotencyKeyRepository keys = persistent();
+        when(keys.claim(eq("key-6"), eq("create"), any(), any())).thenReturn(true);
+        when(keys.complete(eq("key-6"), any(), any(), any())).thenReturn(true);
+
+        service.execute("key-6", "create", this::created);
+
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> lease = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(keys).claim(eq("key-6"), eq("create"), claimedAt.capture(), lease.capture());
+        assertEquals(Duration.ofSeconds(3), Duration.between(claimedAt.getValue(), lease.getValue()));
+
+        ArgumentCaptor<IdempotentResponse> response = ArgumentCaptor.forClass(IdempotentResponse.class);
+        ArgumentCaptor<LocalDateTime> expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(keys).complete(eq("key-6"), eq(claimedAt.getValue()), response.capture(), expiresAt.capture());
+        assertEquals(201, response.getValue().getStatusCode());
+        assertTrue(Duration.between(claimedAt.getValue(), expiresAt.getValue())
+                .compareTo(Duration.ofMillis(properties.getTtlMs())) >= 0);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testPersistentKeyCompletedOnAnotherInstanceIsReplayed() {
+        IdempotencyKeyRepository keys = persistent();
+        when(keys.claim(eq("key-7"), eq("create"), any(), any())).thenReturn(false);
+        when(keys.find(eq("key-7"), any())).thenReturn(new IdempotentResponse("create", 201, "{\"id\":1}"));
+
+        ResponseEntity<?> replay = service.execute("key-7", "create", this::created);
+
+        assertEquals(0, executions.get());
+        assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+        assertEquals(1.0, requests("replayed"));
+    }
+
+    @Test
+    void testPersistentKeyInFlightOnAnotherInstanceConflicts() {
+        IdempotencyKeyRepository keys = persistent();
+        when(keys.claim(eq("key-8"), eq("create"), any(), any())).thenReturn(false);
+        when(keys.find(eq("key-8"), any())).thenReturn(new IdempotentResponse("create", 0, null));
+
+        assertThrows(IdempotencyConflictException.class, () -> service.execute("key-8", "create", this::created));
+
+        assertEquals(0, executions.get());
+        verify(keys, never()).release(any(), any());
+    }
+
+    @Test
+    void testPersistentClaimIsReleasedWhenRequestFails() {
+        IdempotencyKeyRepository keys = persistent();
+        when(keys.claim(eq("key-9"), eq("create"), any(), any())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("key-9", "create", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(keys).claim(eq("key-9"), eq("create"), claimedAt.capture(), any());
+        verify(keys).release("key-9", claimedAt.getValue());
+        verify(keys, never()).complete(any(), any(), any(), any());
+    }
+
+    private IdempotencyKeyRepository persistent() {
+        IdempotencyKeyRepository keys = mock(IdempotencyKeyRepository.class);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("idempotencyKeyRepository", keys);
+        service = new IdempotencyService(properties, new ObjectMapper(),
+                beanFactory.getBeanProvider(IdempotencyKeyRepository.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+        return keys;
+    }
+
+    private ResponseEntity<?> created() {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 1));
+    }
+
+    private double requests(String outcome) {
+        return meterRegistry.get("insurance.policy.idempotency.requests.total").tag("outcome", outcome)
+                .counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
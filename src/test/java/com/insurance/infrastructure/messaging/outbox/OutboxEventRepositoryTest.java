@@ -0,0 +1,79 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+// H2 has no PostgreSQL locking clause (FOR NO KEY UPDATE SKIP LOCKED); its dialect renders the equivalent.
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class OutboxEventRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Test
+    void testLockNextBatchReturnsOldestPendingEvents() {
+        OutboxEvent oldest = persist("policy.created", 0, OutboxStatus.PENDING, NOW.minusSeconds(1));
+        OutboxEvent middle = persist("policy.validated", 2, OutboxStatus.PENDING, NOW.minusSeconds(1));
+        persist("policy.rejected", 10, OutboxStatus.FAILED, NOW.minusSeconds(1));
+        persist("policy.approved", 0, OutboxStatus.PENDING, NOW.minusSeconds(1));
+        entityManager.flush();
+
+        List<OutboxEvent> batch = repository.lockNextBatch(NOW, Limit.of(2));
+
+        assertEquals(List.of(oldest.getId(), middle.getId()), batch.stream().map(OutboxEvent::getId).toList());
+    }
+
+    @Test
+    void testLockNextBatchSkipsFailedEvents() {
+        persist("policy.created", 10, OutboxStatus.FAILED, NOW.minusSeconds(1));
+        OutboxEvent retryable = persist("policy.validated", 9, OutboxStatus.PENDING, NOW.minusSeconds(1));
+        entityManager.flush();
+
+        List<OutboxEvent> batch = repository.lockNextBatch(NOW, Limit.of(10));
+
+        assertEquals(1, batch.size());
+        assertEquals(retryable.getId(), batch.get(0).getId());
+    }
+
+    @Test
+    void testLockNextBatchSkipsEventsLeasedToAnotherRelay() {
+        persist("policy.created", 1, OutboxStatus.PENDING, NOW.plusSeconds(30));
+        OutboxEvent due = persist("policy.validated", 0, OutboxStatus.PENDING, NOW);
+        entityManager.flush();
+
+        List<OutboxEvent> batch = repository.lockNextBatch(NOW, Limit.of(10));
+
+        assertEquals(List.of(due.getId()), batch.stream().map(OutboxEvent::getId).toList());
+    }
+
+    private OutboxEvent persist(String routingKey, int attempts, OutboxStatus status, LocalDateTime nextAttemptAt) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = new OutboxEvent();
+        event.setExchange("policy.events.exchange");
+        event.setRoutingKey(routingKey);
+        event.setEventType("PolicyRequestCreatedEvent");
+        event.setPayload("{}");
+        event.setAttempts(attempts);
+        event.setStatus(status);
+        event.setNextAttemptAt(nextAttemptAt);
+        event.setCreatedAt(now);
+        event.setUpdatedAt(now);
+        return entityManager.persist(event);
+    }
+}
@@ -0,0 +1,49 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.event.PolicyRequestCreatedEvent;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+class OutboxEventTest {
+
+    private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+
+    @Test
+    void testRoundTripPreservesMessage() {
+        PolicyRequest request = new PolicyRequest();
+        request.setId(UUID.randomUUID());
+        request.setCustomerId(UUID.randomUUID());
+        Message original = converter.toMessage(new PolicyRequestCreatedEvent(request), new MessageProperties());
+
+        OutboxEvent outboxEvent = OutboxEvent.of("policy.events.exchange", "policy.created",
+                "PolicyRequestCreatedEvent", original);
+        outboxEvent.setId(UUID.randomUUID());
+        Message relayed = outboxEvent.toMessage();
+
+        assertEquals(new String(original.getBody()), new String(relayed.getBody()));
+        assertEquals(original.getMessageProperties().getContentType(), relayed.getMessageProperties().getContentType());
+        assertEquals(PolicyRequestCreatedEvent.class.getName(),
+                relayed.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+        assertEquals(outboxEvent.getId().toString(), relayed.getMessageProperties().getMessageId());
+    }
+
+    @Test
+    void testOfCopiesRouting() {
+        Message message = new Message("{}".getBytes(), new MessageProperties());
+
+        OutboxEvent outboxEvent = OutboxEvent.of("exchange", "routing.key", "SomeEvent", message);
+
+        assertEquals("exchange", outboxEvent.getExchange());
+        assertEquals("routing.key", outboxEvent.getRoutingKey());
+        assertEquals("SomeEvent", outboxEvent.getEventType());
+        assertEquals("{}", outboxEvent.getPayload());
+        assertEquals(0, outboxEvent.getAttempts());
+    }
+}
@@ -0,0 +1,178 @@
+package com.insurance.infrastructure.messaging.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository repository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+    private OutboxEvent first;
+    private OutboxEvent second;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setConfirmTimeoutMs(50);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(repository, rabbitTemplate, properties, transactionManager, meterRegistry);
+        first = outboxEvent("first");
+        second = outboxEvent("second");
+    }
+
+    @Test
+    void testRelayDeletesAcknowledgedEvents() {
+        when(repository.lockNextBatch(any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(first, second));
+        confirmAll(true);
+
+        int delivered = relay.relay();
+
+        assertEquals(2, delivered);
+        verify(repository).lockNextBatch(any(LocalDateTime.class), eq(Limit.of(properties.getBatchSize())));
+        verify(repository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    void testClaimCountsAttemptAndLeasesBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        first.setAttempts(2);
+        when(repository.lockNextBatch(now, Limit.of(properties.getBatchSize()))).thenReturn(List.of(first));
+
+        List<OutboxEvent> claimed = relay.claim(now);
+
+        assertEquals(List.of(first), claimed);
+        assertEquals(3, first.getAttempts());
+        assertEquals(now, first.getLastAttemptAt());
+        assertEquals(now.plusNanos(properties.getLeaseMs() * 1_000_000), first.getNextAttemptAt());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testRelayKeepsNackedEventsForRetry() {
+        when(repository.lockNextBatch(any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(first));
+        confirmAll(false);
+
+        int delivered = relay.relay();
+
+        assertEquals(0, delivered);
+        assertEquals(1, first.getAttempts());
+        assertEquals("nack: rejected", first.getLastError());
+        assertNotNull(first.getLastAttemptAt());
+        assertFalse(first.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(OutboxStatus.PENDING, first.getStatus());
+        verify(repository).saveAll(List.of(first));
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void testRelayMarksEventFailedWhenAttemptsRunOut() {
+        properties.setMaxAttempts(3);
+        first.setAttempts(2);
+        when(repository.lockNextBatch(any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(first));
+        confirmAll(false);
+
+        relay.relay();
+
+        assertEquals(3, first.getAttempts());
+        assertEquals(OutboxStatus.FAILED, first.getStatus());
+        assertEquals(1.0, meterRegistry.get("insurance.outbox.events.failed.total").counter().count());
+        verify(repository).saveAll(List.of(first));
+    }
+
+    @Test
+    void testRelayTimesOutWithoutConfirm() {
+        when(repository.lockNextBatch(any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(first));
+
+        int delivered = relay.relay();
+
+        assertEquals(0, delivered);
+        assertEquals("confirm timeout", first.getLastError());
+    }
+
+    @Test
+    void testRelayContinuesAfterSendFailure() {
+        when(repository.lockNextBatch(any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(first, second));
+        doThrow(new AmqpException("channel closed"))
+                .when(rabbitTemplate).send(eq("exchange"), eq("first"), any(Message.class), any(CorrelationData.class));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq("second"), any(Message.class), any(CorrelationData.class));
+
+        int delivered = relay.relay();
+
+        assertEquals(1, delivered);
+        assertEquals("send failed: channel closed", first.getLastError());
+        assertNull(second.getLastError());
+        verify(repository).deleteAllByIdInBatch(List.of(second.getId()));
+        verify(repository).saveAll(List.of(first));
+    }
+
+    @Test
+    void testRelayWithEmptyOutbox() {
+        when(repository.lockNextBatch(any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of());
+
+        assertEquals(0, relay.relay());
+        verify(rabbitTemplate, never()).send(any(), any(), any(Message.class), any(CorrelationData.class));
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(repository, never()).saveAll(any());
+    }
+
+    private void confirmAll(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "rejected"));
+            return null;
+        }).when(rabbitTemplate).send(any(), any(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private OutboxEvent outboxEvent(String routingKey) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(UUID.randomUUID());
+        event.setExchange("exchange");
+        event.setRoutingKey(routingKey);
+        event.setEventType("TestEvent");
+        event.setContentType("application/json");
+        event.setPayload("{}");
+        event.setNextAttemptAt(LocalDateTime.now());
+        return event;
+    }
+}
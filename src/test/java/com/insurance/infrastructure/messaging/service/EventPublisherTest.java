@@ -1,19 +1,40 @@
 package com.insurance.infrastructure.messaging.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import com.insurance.domain.enums.PolicyStatus;
 import com.insurance.event.PolicyRequestEvent;
 import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import com.insurance.infrastructure.messaging.outbox.OutboxEvent;
+import com.insurance.infrastructure.messaging.outbox.OutboxEventRepository;
+import com.insurance.infrastructure.messaging.outbox.OutboxProperties;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class EventPublisherTest {
@@ -21,6 +42,15 @@ class EventPublisherTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Spy
+    private OutboxProperties outboxProperties = new OutboxProperties();
+
+    @Mock
+    private PipelinedPublisher pipelinedPublisher;
+
     @InjectMocks
     private EventPublisher eventPublisher;
 
@@ -44,6 +74,14 @@ class EventPublisherTest {
         testRoutingKey = RabbitMQConfig.POLICY_CREATED_KEY;
     }
 
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void testPublishEvent() {
         eventPublisher.publish(testExchange, testRoutingKey, testEvent);
@@ -101,4 +139,178 @@ class EventPublisherTest {
             eq(validatedEvent)
         );
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testPublishAllUsesSingleInvocation() {
+        PolicyRequestEvent secondEvent = new TestPolicyRequestEvent(
+            UUID.randomUUID(), UUID.randomUUID(), PolicyStatus.RECEIVED);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitTemplate);
+        });
+
+        eventPublisher.publishAll(testExchange, testRoutingKey, List.of(testEvent, secondEvent));
+
+        verify(rabbitTemplate, times(1)).invoke(any());
+        verify(rabbitTemplate).convertAndSend(eq(testExchange), eq(testRoutingKey), eq(testEvent));
+        verify(rabbitTemplate).convertAndSend(eq(testExchange), eq(testRoutingKey), eq(secondEvent));
+    }
+
+    @Test
+    void testPublishAllWithEmptyList() {
+        eventPublisher.publishAll(testExchange, testRoutingKey, List.of());
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void testPublishAllFailure() {
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpException("Broker unavailable"));
+
+        assertThrows(RuntimeException.class, () ->
+            eventPublisher.publishAll(testExchange, testRoutingKey, List.of(testEvent)));
+    }
+
+    @Test
+    void testPublishWritesToOutboxInsideTransaction() {
+        outboxProperties.setEnabled(true);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new Jackson2JsonMessageConverter());
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxRepository).save(captor.capture());
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+
+        OutboxEvent outboxEvent = captor.getValue();
+        assertEquals(testExchange, outboxEvent.getExchange());
+        assertEquals(testRoutingKey, outboxEvent.getRoutingKey());
+        assertEquals("TestPolicyRequestEvent", outboxEvent.getEventType());
+        assertEquals(TestPolicyRequestEvent.class.getName(), outboxEvent.getTypeId());
+    }
+
+    @Test
+    void testPublishBypassesOutboxWithoutTransaction() {
+        outboxProperties.setEnabled(true);
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+
+        verify(rabbitTemplate).convertAndSend(eq(testExchange), eq(testRoutingKey), eq(testEvent));
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void testPublishAllWritesToOutboxInsideTransaction() {
+        outboxProperties.setEnabled(true);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new Jackson2JsonMessageConverter());
+
+        eventPublisher.publishAll(testExchange, testRoutingKey, List.of(testEvent, testEvent));
+
+        verify(outboxRepository).saveAll(anyList());
+        verify(rabbitTemplate, never()).invoke(any());
+    }
+
+    @Test
+    void testPublishInsideTransactionWaitsForCommit() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+        verifyNoInteractions(rabbitTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(rabbitTemplate).convertAndSend(eq(testExchange), eq(testRoutingKey), eq(testEvent));
+    }
+
+    @Test
+    void testPublishInsideRolledBackTransactionSendsNothing() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void testPublishQueuesOnPipelineWhenEnabled() {
+        when(pipelinedPublisher.isEnabled()).thenReturn(true);
+        when(pipelinedPublisher.submit(testExchange, testRoutingKey, testEvent))
+                .thenReturn(new CompletableFuture<>());
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+
+        verify(pipelinedPublisher).submit(testExchange, testRoutingKey, testEvent);
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+    }
+
+    @Test
+    void testPublishAllQueuesEachEventOnPipeline() {
+        when(pipelinedPublisher.isEnabled()).thenReturn(true);
+        when(pipelinedPublisher.submit(testExchange, testRoutingKey, testEvent))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        eventPublisher.publishAll(testExchange, testRoutingKey, List.of(testEvent, testEvent));
+
+        verify(pipelinedPublisher, times(2)).submit(testExchange, testRoutingKey, testEvent);
+        verify(rabbitTemplate, never()).invoke(any());
+    }
+
+    @Test
+    void testPublishThrowsWhenPipelineWindowIsFull() {
+        when(pipelinedPublisher.isEnabled()).thenReturn(true);
+        when(pipelinedPublisher.submit(testExchange, testRoutingKey, testEvent))
+                .thenThrow(new AmqpException("Publisher window full"));
+
+        assertThrows(RuntimeException.class, () ->
+                eventPublisher.publish(testExchange, testRoutingKey, testEvent));
+    }
+
+    @Test
+    void testPublishWritesUnconfirmedPipelinedEventToOutbox() {
+        outboxProperties.setEnabled(true);
+        CompletableFuture<Void> confirmed = new CompletableFuture<>();
+        when(pipelinedPublisher.isEnabled()).thenReturn(true);
+        when(pipelinedPublisher.submit(testExchange, testRoutingKey, testEvent)).thenReturn(confirmed);
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new Jackson2JsonMessageConverter());
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+        verifyNoInteractions(outboxRepository);
+
+        confirmed.completeExceptionally(new AmqpException("Event nacked by broker: rejected"));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(testExchange, captor.getValue().getExchange());
+        assertEquals(testRoutingKey, captor.getValue().getRoutingKey());
+    }
+
+    @Test
+    void testPublishWritesToOutboxWhenPipelineWindowIsFull() {
+        outboxProperties.setEnabled(true);
+        when(pipelinedPublisher.isEnabled()).thenReturn(true);
+        when(pipelinedPublisher.submit(testExchange, testRoutingKey, testEvent))
+                .thenThrow(new AmqpException("Publisher window full"));
+        when(rabbitTemplate.getMessageConverter()).thenReturn(new Jackson2JsonMessageConverter());
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+
+        verify(outboxRepository).save(any(OutboxEvent.class));
+    }
+
+    @Test
+    void testUnconfirmedPipelinedEventIsOnlyLoggedWithoutOutbox() {
+        CompletableFuture<Void> confirmed = new CompletableFuture<>();
+        when(pipelinedPublisher.isEnabled()).thenReturn(true);
+        when(pipelinedPublisher.submit(testExchange, testRoutingKey, testEvent)).thenReturn(confirmed);
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+        confirmed.completeExceptionally(new AmqpException("confirm timeout"));
+
+        verifyNoInteractions(outboxRepository);
+    }
+}
@@ -0,0 +1,181 @@
+package com.insurance.infrastructure.messaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.infrastructure.messaging.config.PublisherProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PipelinedPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    private PublisherProperties properties;
+    private SimpleMeterRegistry registry;
+    private PipelinedPublisher publisher;
+    private List<CorrelationData> correlations;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PublisherProperties();
+        properties.setMaxInFlight(2);
+        properties.setBatchSize(10);
+        properties.setEnqueueTimeoutMs(10);
+        registry = new SimpleMeterRegistry();
+        publisher = new PipelinedPublisher(rabbitTemplate, properties, registry);
+        correlations = new ArrayList<>();
+    }
+
+    @Test
+    void testAckCompletesFutureAndRecordsLatency() {
+        stubChannel();
+
+        CompletableFuture<Void> future = publisher.submit("exchange", "key", "payload");
+        assertEquals(1, publisher.drain());
+        assertFalse(future.isDone());
+        assertEquals(1, publisher.inFlight());
+
+        correlations.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+        assertEquals(0, publisher.inFlight());
+        assertEquals(1, registry.get("insurance.events.confirm.latency").tag("exchange", "exchange").timer().count());
+    }
+
+    @Test
+    void testNackFailsFutureAndCountsNack() {
+        stubChannel();
+
+        CompletableFuture<Void> future = publisher.submit("exchange", "key", "payload");
+        publisher.drain();
+        correlations.get(0).getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+
+        ExecutionException error = assertThrows(ExecutionException.class, future::get);
+        assertTrue(error.getCause().getMessage().contains("queue full"));
+        assertEquals(0, publisher.inFlight());
+        assertEquals(1.0, registry.get("insurance.events.nack.total").tag("reason", "nack").counter().count());
+    }
+
+    @Test
+    void testMessagesToSameExchangeShareOneChannel() {
+        stubChannel();
+        properties.setMaxInFlight(10);
+        publisher = new PipelinedPublisher(rabbitTemplate, properties, registry);
+
+        publisher.submit("exchange-a", "key", "1");
+        publisher.submit("exchange-b", "key", "2");
+        publisher.submit("exchange-a", "key", "3");
+        publisher.drain();
+
+        verify(rabbitTemplate, times(2)).invoke(any());
+        verify(operations, times(3)).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void testSubmitRejectsWhenWindowIsFull() {
+        publisher.submit("exchange", "key", "1");
+        publisher.submit("exchange", "key", "2");
+
+        assertThrows(AmqpException.class, () -> publisher.submit("exchange", "key", "3"));
+    }
+
+    @Test
+    void testSendFailureReleasesWindow() {
+        when(rabbitTemplate.invoke(any())).thenThrow(new AmqpException("connection refused"));
+
+        CompletableFuture<Void> future = publisher.submit("exchange", "key", "payload");
+        publisher.drain();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, publisher.inFlight());
+        assertEquals(1.0, registry.get("insurance.events.nack.total").tag("reason", "send_failed").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStopSendsEveryQueuedBatch() {
+        properties.setMaxInFlight(10);
+        properties.setBatchSize(2);
+        publisher = new PipelinedPublisher(rabbitTemplate, properties, registry);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                ((RabbitOperations.OperationsCallback<Object>) invocation.getArgument(0)).doInRabbit(operations));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(operations).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(publisher.submit("exchange", "key", "payload-" + i));
+        }
+        publisher.stop();
+
+        verify(rabbitTemplate, times(3)).invoke(any());
+        futures.forEach(future -> assertTrue(future.isDone() && !future.isCompletedExceptionally()));
+        assertEquals(0, publisher.inFlight());
+    }
+
+    @Test
+    void testStopFailsMessagesNotConfirmedInTime() {
+        stubChannel();
+        properties.setConfirmTimeoutMs(50);
+
+        CompletableFuture<Void> confirmed = publisher.submit("exchange", "key", "1");
+        CompletableFuture<Void> unconfirmed = publisher.submit("exchange", "key", "2");
+        publisher.drain();
+        correlations.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+        publisher.stop();
+
+        assertFalse(confirmed.isCompletedExceptionally());
+        assertTrue(unconfirmed.isCompletedExceptionally());
+        assertEquals(0, publisher.inFlight());
+        assertEquals(1.0, registry.find("insurance.events.nack.total").counters().stream()
+                .mapToDouble(Counter::count).sum());
+    }
+
+    @Test
+    void testIsEnabledFollowsProperty() {
+        assertFalse(publisher.isEnabled());
+        properties.setPipelined(true);
+        assertTrue(publisher.isEnabled());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubChannel() {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                ((RabbitOperations.OperationsCallback<Object>) invocation.getArgument(0)).doInRabbit(operations));
+        doAnswer(invocation -> {
+            correlations.add(invocation.getArgument(3));
+            return null;
+        }).when(operations).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+}
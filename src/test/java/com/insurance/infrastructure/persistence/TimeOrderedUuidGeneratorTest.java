@@ -0,0 +1,134 @@
+package com.insurance.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.generator.EventType;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void testVersionAndVariant() {
+        UUID uuid = TimeOrderedUuidGenerator.nextUuid();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void testTimestampPrefix() {
+        long before = System.currentTimeMillis();
+        UUID uuid = new TimeOrderedUuidGenerator().next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void testTimestampOf() {
+        UUID uuid = new TimeOrderedUuidGenerator(() -> 1_700_000_000_000L).next();
+
+        assertEquals(1_700_000_000_000L, TimeOrderedUuidGenerator.timestampOf(uuid));
+        assertEquals(-1, TimeOrderedUuidGenerator.timestampOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void testMonotonicWithinSameMillisecond() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> 1_700_000_000_000L);
+
+        UUID previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = generator.next();
+            assertTrue(current.compareTo(previous) > 0, "ids must be strictly increasing");
+            assertEquals(7, current.version());
+            previous = current;
+        }
+    }
+
+    @Test
+    void testMonotonicWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+
+        UUID first = generator.next();
+        clock.addAndGet(-5_000);
+        UUID second = generator.next();
+
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    @Test
+    void testByteOrderMatchesGenerationOrder() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        List<UUID> generated = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            generated.add(generator.next());
+        }
+
+        List<String> asText = generated.stream().map(UUID::toString).toList();
+        List<String> sorted = new ArrayList<>(asText);
+        sorted.sort(String::compareTo);
+
+        assertEquals(asText, sorted);
+    }
+
+    @Test
+    void testUniqueAndPerThreadMonotonicUnderConcurrency() throws Exception {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    UUID previous = generator.next();
+                    all.add(previous);
+                    for (int i = 1; i < perThread; i++) {
+                        UUID current = generator.next();
+                        if (current.compareTo(previous) <= 0) {
+                            return false;
+                        }
+                        all.add(current);
+                        previous = current;
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, all.size());
+    }
+
+    @Test
+    void testHibernateGeneratorContract() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+        Set<Object> ids = new HashSet<>();
+        ids.add(generator.generate(null, new Object(), null, EventType.INSERT));
+        ids.add(generator.generate(null, new Object(), null, EventType.INSERT));
+
+        assertEquals(2, ids.size());
+        assertEquals(Set.of(EventType.INSERT), generator.getEventTypes());
+    }
+}
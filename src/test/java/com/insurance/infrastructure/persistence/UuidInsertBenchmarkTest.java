@@ -0,0 +1,97 @@
+package com.insurance.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares insert throughput and primary key index size of random (v4) and time-ordered (v7) UUIDs
+ * on PostgreSQL.
+ *
+ * <p>Skipped unless {@code benchmark.url} is set. Start the database from docker-compose and run:
+ * <pre>
+ * mvn test -Dtest=UuidInsertBenchmarkTest \
+ *     -Dbenchmark.url='jdbc:postgresql://localhost:5432/insurance_db?reWriteBatchedInserts=true'
+ * </pre>
+ * {@code benchmark.user}, {@code benchmark.password}, {@code benchmark.rows} and
+ * {@code benchmark.batch-size} override the defaults. The tables are dropped and created again on
+ * each run.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.url", matches = ".+")
+class UuidInsertBenchmarkTest {
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() throws SQLException {
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+        int batchSize = Integer.getInteger("benchmark.batch-size", 1_000);
+
+        try (Connection connection = DriverManager.getConnection(System.getProperty("benchmark.url"),
+                System.getProperty("benchmark.user", "postgres"),
+                System.getProperty("benchmark.password", "postgres"))) {
+            connection.setAutoCommit(false);
+
+            Result random = run(connection, "uuid_bench_v4", rows, batchSize, UUID::randomUUID);
+            TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+            Result timeOrdered = run(connection, "uuid_bench_v7", rows, batchSize, generator::next);
+
+            System.out.printf("%-14s %12s %14s %14s%n", "generator", "rows/s", "index bytes", "table bytes");
+            print("random (v4)", random);
+            print("time (v7)", timeOrdered);
+
+            // Appending to the rightmost leaf fills index pages; random keys split them half empty
+            assertTrue(timeOrdered.indexBytes() < random.indexBytes());
+        }
+    }
+
+    private static Result run(Connection connection, String table, int rows, int batchSize,
+                              Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, payload varchar(64) NOT NULL)");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "policy-request-" + i);
+                insert.addBatch();
+                if (i % batchSize == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet sizes = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey'), "
+                     + "pg_relation_size('" + table + "')")) {
+            sizes.next();
+            return new Result(rows / seconds, sizes.getLong(1), sizes.getLong(2));
+        }
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("%-14s %12.0f %14d %14d%n",
+                name, result.rowsPerSecond(), result.indexBytes(), result.tableBytes());
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes, long tableBytes) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.insurance.infrastructure.persistence.archival;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyArchivalJobTest {
+
+    @Mock
+    private PolicyArchiveRepository repository;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final PolicyArchivalProperties properties = new PolicyArchivalProperties();
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyArchivalJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxPartitionsPerRun(2);
+        properties.setDetachLockTimeoutMs(1_000);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new PolicyArchivalJob(repository, new TransactionTemplate(transactionManager), properties, meterRegistry);
+    }
+
+    @Test
+    void testArchiveCopiesEachDetachedPartitionInItsOwnTransaction() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        when(repository.findDetachedPartitions()).thenReturn(List.of());
+        when(repository.detachArchivablePartitions(cutoff, 2, 1_000)).thenReturn(List.of("2023_12", "2024_01"));
+        when(repository.archiveDetachedPartition("2023_12")).thenReturn(200);
+        when(repository.archiveDetachedPartition("2024_01")).thenReturn(37);
+
+        assertEquals(237, job.archive(cutoff));
+
+        // find, detach, two copies and one empty row batch
+        verify(transactionManager, times(5)).commit(any());
+        assertEquals(237.0, meterRegistry.get("insurance.policy.archived.total").counter().count());
+    }
+
+    @Test
+    void testArchiveMovesRowBatchesUntilOneComesBackShort() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        properties.setRowBatchSize(100);
+        when(repository.findDetachedPartitions()).thenReturn(List.of());
+        when(repository.detachArchivablePartitions(cutoff, 2, 1_000)).thenReturn(List.of());
+        when(repository.archiveFinishedRows(cutoff, 100)).thenReturn(100, 100, 42);
+
+        assertEquals(242, job.archive(cutoff));
+
+        verify(repository, times(3)).archiveFinishedRows(cutoff, 100);
+        assertEquals(242.0, meterRegistry.get("insurance.policy.archived.total").counter().count());
+    }
+
+    @Test
+    void testArchiveStopsRowBatchesAtLimitPerRun() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        properties.setRowBatchSize(100);
+        properties.setMaxRowBatchesPerRun(3);
+        when(repository.findDetachedPartitions()).thenReturn(List.of());
+        when(repository.detachArchivablePartitions(cutoff, 2, 1_000)).thenReturn(List.of());
+        when(repository.archiveFinishedRows(cutoff, 100)).thenReturn(100);
+
+        assertEquals(300, job.archive(cutoff));
+
+        verify(repository, times(3)).archiveFinishedRows(cutoff, 100);
+    }
+
+    @Test
+    void testArchiveResumesPartitionsLeftDetachedByAnEarlierRun() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        when(repository.findDetachedPartitions()).thenReturn(List.of("2023_12"));
+        when(repository.detachArchivablePartitions(cutoff, 2, 1_000)).thenReturn(List.of());
+        when(repository.archiveDetachedPartition("2023_12")).thenReturn(12);
+
+        assertEquals(12, job.archive(cutoff));
+
+        verify(repository).archiveDetachedPartition("2023_12");
+    }
+
+    @Test
+    void testRunArchivesByMinimumAgeWithoutCreatingPartitions() {
+        properties.setMinAgeDays(30);
+        when(repository.findDetachedPartitions()).thenReturn(List.of());
+        when(repository.detachArchivablePartitions(any(LocalDateTime.class), anyInt(), anyLong())).thenReturn(List.of());
+
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+        assertEquals(0, job.run());
+        LocalDateTime after = LocalDateTime.now().minusDays(30);
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).detachArchivablePartitions(cutoff.capture(), eq(2), eq(1_000L));
+        verify(repository, never()).ensurePartitions(anyInt());
+        assertTrue(!cutoff.getValue().isBefore(before) && !cutoff.getValue().isAfter(after));
+    }
+
+    @Test
+    void testEnsurePartitionsRunsOnItsOwn() {
+        properties.setPartitionMonthsAhead(2);
+        when(repository.ensurePartitions(2)).thenReturn(2);
+
+        assertEquals(2, job.ensurePartitions());
+
+        verify(repository, never()).detachArchivablePartitions(any(), anyInt(), anyLong());
+    }
+}
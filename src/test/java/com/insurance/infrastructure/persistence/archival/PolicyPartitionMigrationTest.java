@@ -0,0 +1,231 @@
+package com.insurance.infrastructure.persistence.archival;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the Flyway migrations on PostgreSQL over a schema that already holds policy requests, the way
+ * a deployed database meets {@code V4}: the container is migrated to {@code V3} and populated, and
+ * the application context applies the remaining migrations on startup. {@code ddl-auto=validate}
+ * then checks the entities against the partitioned tables.
+ *
+ * <p>Months are taken from the database clock, like the migrations do. The tests share the schema
+ * and run in order: migration, partition maintenance, archival.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PolicyArchiveRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PolicyPartitionMigrationTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final UUID LEGACY_FINISHED = UUID.randomUUID();
+    private static final UUID LEGACY_LIVE = UUID.randomUUID();
+
+    private static LocalDateTime month;
+
+    @Autowired
+    private PolicyArchiveRepository archiveRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transaction;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void populateLegacySchema() {
+        DataSource legacy = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(legacy)
+                .locations("classpath:db/migration")
+                .target("3")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(legacy);
+        month = jdbc.queryForObject("select date_trunc('month', localtimestamp)", LocalDateTime.class);
+
+        LocalDateTime created = month.minusMonths(6);
+        insertPolicy(jdbc, LEGACY_FINISHED, created, created.plusDays(10));
+        insertHistory(jdbc, LEGACY_FINISHED, created.plusDays(1));
+        insertPolicy(jdbc, LEGACY_LIVE, created, null);
+        insertHistory(jdbc, LEGACY_LIVE, created.plusDays(1));
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @Order(1)
+    void testMigrationKeepsExistingRowsInLegacyPartition() {
+        assertTrue(isPartition("policy_requests_legacy"));
+        assertTrue(isPartition("status_history_legacy"));
+        assertTrue(jdbc.queryForObject("select pg_get_expr(relpartbound, oid) from pg_class "
+                + "where relname = 'policy_requests_legacy'", String.class).contains("MINVALUE"));
+        assertEquals(2, count("select count(*) from policy_requests_legacy"));
+        assertEquals(2, count("select count(*) from policy_requests where id in ('%s', '%s')"
+                .formatted(LEGACY_FINISHED, LEGACY_LIVE)));
+        assertEquals(2, count("select count(*) from status_history_legacy"));
+
+        for (int ahead = 1; ahead <= 3; ahead++) {
+            String suffix = suffix(month.plusMonths(ahead));
+            assertTrue(isPartition("policy_requests_" + suffix));
+            assertTrue(isPartition("status_history_" + suffix));
+        }
+        assertTrue(isPartition("policy_requests_default"));
+        assertTrue(isPartition("status_history_default"));
+        assertEquals(List.of("id", "created_at"), jdbc.queryForList("select a.attname from pg_index i "
+                + "join pg_attribute a on a.attrelid = i.indrelid and a.attnum = any(i.indkey) "
+                + "where i.indrelid = 'policy_requests'::regclass and i.indisprimary order by a.attnum",
+                String.class));
+    }
+
+    @Test
+    @Order(2)
+    void testEnsurePartitionsMovesDefaultRowsIntoNewMonth() {
+        LocalDateTime uncovered = month.plusMonths(4);
+        UUID id = UUID.randomUUID();
+        insertPolicy(jdbc, id, uncovered.plusDays(3), null);
+        assertEquals(1, count("select count(*) from policy_requests_default"));
+
+        int created = transaction.execute(status -> archiveRepository.ensurePartitions(4));
+
+        assertEquals(2, created);
+        assertEquals(0, count("select count(*) from policy_requests_default"));
+        assertEquals(1, count("select count(*) from policy_requests_%s where id = '%s'"
+                .formatted(suffix(uncovered), id)));
+        assertTrue(isPartition("policy_requests_" + suffix(uncovered)));
+        assertTrue(isPartition("status_history_" + suffix(uncovered)));
+    }
+
+    @Test
+    @Order(3)
+    void testArchivalSkipsBusyPartitionsAndMovesFinishedLegacyRows() {
+        LocalDateTime first = month.plusMonths(1);
+        LocalDateTime second = month.plusMonths(2);
+        LocalDateTime third = month.plusMonths(3);
+        LocalDateTime cutoff = month.plusMonths(4);
+
+        UUID finishedFirst = UUID.randomUUID();
+        insertPolicy(jdbc, finishedFirst, first.plusDays(1), first.plusDays(2));
+        insertHistory(jdbc, finishedFirst, first.plusDays(1));
+        UUID live = UUID.randomUUID();
+        insertPolicy(jdbc, live, second.plusDays(1), null);
+        UUID finishedThird = UUID.randomUUID();
+        insertPolicy(jdbc, finishedThird, third.plusDays(1), third.plusDays(2));
+        insertHistory(jdbc, finishedThird, third.plusDays(1));
+        // The live legacy request changes status in the third month, so that history partition is shared
+        insertHistory(jdbc, LEGACY_LIVE, third.plusDays(5));
+
+        List<String> detached = transaction.execute(status ->
+                archiveRepository.detachArchivablePartitions(cutoff, 5, 2_000));
+
+        assertEquals(List.of(suffix(first), suffix(third)), detached);
+        assertTrue(isPartition("policy_requests_legacy"));
+        assertTrue(isPartition("policy_requests_" + suffix(second)));
+        assertFalse(isPartition("status_history_" + suffix(first)));
+        assertTrue(isPartition("status_history_" + suffix(third)));
+
+        for (String suffix : detached) {
+            assertEquals(1, (int) transaction.execute(status -> archiveRepository.archiveDetachedPartition(suffix)));
+        }
+        assertEquals(1, (int) transaction.execute(status -> archiveRepository.archiveFinishedRows(cutoff, 10)));
+        assertEquals(0, (int) transaction.execute(status -> archiveRepository.archiveFinishedRows(cutoff, 10)));
+
+        assertEquals(List.of(), transaction.execute(status -> archiveRepository.findDetachedPartitions()));
+        assertEquals(3, count("select count(*) from policy_requests_archive where id in ('%s', '%s', '%s')"
+                .formatted(LEGACY_FINISHED, finishedFirst, finishedThird)));
+        assertEquals(3, count("select count(*) from status_history_archive"));
+        assertEquals(0, count("select count(*) from policy_requests where id in ('%s', '%s', '%s')"
+                .formatted(LEGACY_FINISHED, finishedFirst, finishedThird)));
+        assertEquals(2, count("select count(*) from policy_requests where id in ('%s', '%s')"
+                .formatted(LEGACY_LIVE, live)));
+        assertEquals(2, count("select count(*) from status_history where policy_request_id = '%s'"
+                .formatted(LEGACY_LIVE)));
+    }
+
+    private boolean isPartition(String table) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(
+                "select coalesce((select relispartition from pg_class where oid = to_regclass(?)), false)",
+                Boolean.class, table));
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+
+    private static String suffix(LocalDateTime month) {
+        return SUFFIX.format(month);
+    }
+
+    private static void insertPolicy(JdbcTemplate jdbc, UUID id, LocalDateTime createdAt, LocalDateTime finishedAt) {
+        jdbc.update("""
+                INSERT INTO policy_requests (id, customer_id, product_id, category, sales_channel, payment_method,
+                                             status, total_monthly_premium_amount, insured_amount, coverages,
+                                             assistances, finished_at, status_changed_at, created_at, updated_at)
+                VALUES (?, ?, ?, 'AUTO', 'MOBILE', 'PIX', ?, 150.00, 50000.00, '{}'::jsonb, '[]'::jsonb, ?, ?, ?, ?)
+                """, id, UUID.randomUUID(), UUID.randomUUID(), finishedAt != null ? "APPROVED" : "PENDING",
+                finishedAt, createdAt, createdAt, createdAt);
+    }
+
+    private static void insertHistory(JdbcTemplate jdbc, UUID policyRequestId, LocalDateTime changedAt) {
+        jdbc.update("""
+                INSERT INTO status_history (id, policy_request_id, previous_status, new_status, changed_at,
+                                            created_at, updated_at)
+                VALUES (?, ?, 'RECEIVED', 'VALIDATED', ?, ?, ?)
+                """, UUID.randomUUID(), policyRequestId, changedAt, changedAt, changedAt);
+    }
+}
@@ -0,0 +1,86 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadAfterWriteTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ReplicaRoutingProperties properties;
+    private ReadAfterWriteTracker tracker;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReplicaRoutingProperties();
+        properties.setEnabled(true);
+        properties.setReadAfterWriteWindowMs(2000);
+        tracker = new ReadAfterWriteTracker(properties, clock::get);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(
+                new DriverManagerDataSource("jdbc:h2:mem:tracker_" + UUID.randomUUID(), "sa", "")));
+    }
+
+    @Test
+    void testWriteIsTrackedUntilWindowExpires() {
+        UUID key = UUID.randomUUID();
+        tracker.recordWrite(key);
+
+        advanceMs(1999);
+        assertTrue(tracker.isRecentlyWritten(key));
+
+        advanceMs(1);
+        assertFalse(tracker.isRecentlyWritten(key));
+    }
+
+    @Test
+    void testWriteIsTrackedOnlyAfterCommit() {
+        UUID committed = UUID.randomUUID();
+        UUID rolledBack = UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            tracker.recordWrite(committed);
+            assertFalse(tracker.isRecentlyWritten(committed));
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            tracker.recordWrite(rolledBack);
+            status.setRollbackOnly();
+        });
+
+        assertTrue(tracker.isRecentlyWritten(committed));
+        assertFalse(tracker.isRecentlyWritten(rolledBack));
+    }
+
+    @Test
+    void testOverflowSendsEveryReadToPrimaryForOneWindow() {
+        properties.setMaxTrackedKeys(2);
+        tracker.recordWrite(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertTrue(tracker.isRecentlyWritten(UUID.randomUUID()));
+
+        advanceMs(2000);
+        assertFalse(tracker.isRecentlyWritten(UUID.randomUUID()));
+    }
+
+    @Test
+    void testDisabledTrackerIgnoresWrites() {
+        properties.setEnabled(false);
+        UUID key = UUID.randomUUID();
+
+        tracker.recordWrite(key);
+
+        assertFalse(tracker.isRecentlyWritten(key));
+    }
+
+    private void advanceMs(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,128 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes between two in-memory H2 databases holding different rows, so each read tells which one
+ * served it.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReplicaRoutingProperties properties;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, meterRegistry);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        properties = new ReplicaRoutingProperties();
+        properties.setEnabled(true);
+    }
+
+    @Test
+    void testReadOnlyTransactionReadsFromReplica() {
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+        assertEquals(1.0, routed("replica"));
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> servedBy()));
+        assertEquals(0.0, routed("replica"));
+    }
+
+    @Test
+    void testWorkOutsideTransactionUsesPrimary() {
+        assertEquals("primary", servedBy());
+    }
+
+    @Test
+    void testRecentlyWrittenKeyKeepsReadOnPrimary() {
+        ReadAfterWriteTracker tracker = new ReadAfterWriteTracker(properties);
+        UUID written = UUID.randomUUID();
+        readWrite.executeWithoutResult(status -> tracker.recordWrite(written));
+
+        String pinned = readOnly.execute(status -> {
+            tracker.routeToPrimaryIfRecentlyWritten(written);
+            return servedBy();
+        });
+        String other = readOnly.execute(status -> {
+            tracker.routeToPrimaryIfRecentlyWritten(UUID.randomUUID());
+            return servedBy();
+        });
+
+        assertEquals("primary", pinned);
+        assertEquals("replica", other);
+        assertFalse(ReplicaRoutingContext.isPrimaryRequired());
+    }
+
+    @Test
+    void testLaggingReplicaIsTakenOutOfRotation() {
+        properties.setLagQuery("SELECT 5000");
+        properties.setMaxLagMs(1000);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, properties, meterRegistry);
+
+        monitor.check();
+        assertFalse(routingDataSource.isReplicaAvailable());
+        assertEquals("primary", readOnly.execute(status -> servedBy()));
+
+        properties.setLagQuery("SELECT 10");
+        monitor.check();
+        assertTrue(routingDataSource.isReplicaAvailable());
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    @Test
+    void testUnmeasurableLagTakesReplicaOutOfRotation() {
+        properties.setLagQuery("SELECT missing_column FROM node");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, properties, meterRegistry);
+
+        monitor.check();
+
+        assertFalse(routingDataSource.isReplicaAvailable());
+    }
+
+    private String servedBy() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private double routed(String role) {
+        return meterRegistry.get("insurance.datasource.route.total").tag("role", role).counter().count();
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
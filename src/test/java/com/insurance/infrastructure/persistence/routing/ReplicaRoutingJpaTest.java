@@ -0,0 +1,198 @@
+package com.insurance.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.PaymentMethod;
+import com.insurance.domain.enums.PolicyStatus;
+import com.insurance.domain.enums.SalesChannel;
+import com.insurance.repository.PolicyRequestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the JPA repositories over the routed data source built by {@link ReplicaRoutingConfig}. Both
+ * pools point to the same in-memory database, so the replica always has the schema and the rows;
+ * the route counter tells which pool served each transaction.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica_routing_jpa;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "policy.datasource.replica.enabled=true",
+        "policy.datasource.replica.url=jdbc:h2:mem:replica_routing_jpa;DB_CLOSE_DELAY=-1",
+        "policy.datasource.replica.username=sa",
+        "policy.datasource.replica.password=",
+        "policy.datasource.replica.driver-class-name=org.h2.Driver",
+        "policy.datasource.replica.read-after-write-window-ms=60000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaRoutingConfig.class, ReplicaRoutingProperties.class, ReadAfterWriteTracker.class,
+        ReplicaRoutingJpaTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingJpaTest {
+
+    @Autowired
+    private PolicyRequestRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadAfterWriteTracker tracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.jpa.open-in-view}")
+    private boolean openInView;
+
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readWrite.executeWithoutResult(status -> repository.deleteAllInBatch());
+    }
+
+    @Test
+    void testApplicationKeepsOpenInViewDisabled() {
+        assertFalse(openInView);
+    }
+
+    @Test
+    void testRepositoryReadsGoToReplicaAndWritesToPrimary() {
+        double primary = routed("primary");
+        double replica = routed("replica");
+
+        PolicyRequest saved = readWrite.execute(status -> repository.save(newPolicy(UUID.randomUUID())));
+        assertEquals(primary + 1, routed("primary"));
+
+        PolicyRequest found = readOnly.execute(status -> repository.findDetailById(saved.getId()).orElseThrow());
+        assertEquals(saved.getId(), found.getId());
+        assertEquals(replica + 1, routed("replica"));
+        assertEquals(primary + 1, routed("primary"));
+    }
+
+    @Test
+    void testEntityListenerKeepsReadsOfFreshWriteOnPrimary() {
+        UUID customerId = UUID.randomUUID();
+        PolicyRequest saved = readWrite.execute(status -> repository.save(newPolicy(customerId)));
+        assertTrue(tracker.isRecentlyWritten(saved.getId()));
+        assertTrue(tracker.isRecentlyWritten(customerId));
+        double primary = routed("primary");
+        double replica = routed("replica");
+
+        readOnly.executeWithoutResult(status -> {
+            tracker.routeToPrimaryIfRecentlyWritten(customerId);
+            assertEquals(1, repository.findByCustomerId(customerId, LocalDateTime.now().minusDays(1)).size());
+        });
+        readOnly.executeWithoutResult(status -> {
+            tracker.routeToPrimaryIfRecentlyWritten(UUID.randomUUID());
+            repository.findDetailById(saved.getId()).orElseThrow();
+        });
+
+        assertEquals(primary + 1, routed("primary"));
+        assertEquals(replica + 1, routed("replica"));
+    }
+
+    /**
+     * What open-in-view does to routing: the entity manager bound for the whole request holds the
+     * connection of its first transaction, so a write that follows a read-only transaction runs on
+     * the replica connection instead of fetching one from the primary.
+     */
+    @Test
+    void testOpenEntityManagerPinsConnectionOfFirstTransaction() {
+        PolicyRequest saved = readWrite.execute(status -> repository.save(newPolicy(UUID.randomUUID())));
+        double primary = routed("primary");
+        double replica = routed("replica");
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            PolicyRequest found = readOnly.execute(status -> repository.findDetailById(saved.getId()).orElseThrow());
+            readWrite.executeWithoutResult(status -> {
+                found.setStatus(PolicyStatus.VALIDATED);
+                repository.save(found);
+            });
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        assertEquals(replica + 1, routed("replica"));
+        assertEquals(primary, routed("primary"));
+    }
+
+    private double routed(String role) {
+        return meterRegistry.get("insurance.datasource.route.total").tag("role", role).counter().count();
+    }
+
+    private static PolicyRequest newPolicy(UUID customerId) {
+        // No JPA auditing in @DataJpaTest
+        LocalDateTime now = LocalDateTime.now();
+        PolicyRequest request = new PolicyRequest();
+        request.setCustomerId(customerId);
+        request.setProductId(UUID.randomUUID());
+        request.setCategory(InsuranceCategory.AUTO);
+        request.setSalesChannel(SalesChannel.MOBILE);
+        request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        request.setStatus(PolicyStatus.RECEIVED);
+        request.setCreatedAt(now);
+        request.setUpdatedAt(now);
+        request.setTotalMonthlyPremiumAmount(BigDecimal.valueOf(150.00));
+        request.setInsuredAmount(BigDecimal.valueOf(50000.00));
+        request.setCoverages(new HashMap<>());
+        request.setAssistances(new ArrayList<>());
+        return request;
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
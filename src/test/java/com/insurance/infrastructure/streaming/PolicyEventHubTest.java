@@ -0,0 +1,111 @@
+package com.insurance.infrastructure.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.insurance.domain.enums.PolicyStatus;
+import com.insurance.dto.PolicyStatusEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.DoubleSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+
+class PolicyEventHubTest {
+
+    private final PolicyEventStreamProperties properties = new PolicyEventStreamProperties();
+    private final UUID policyId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxSubscribers(2);
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new PolicyEventHub(properties, new ThreadPoolTaskExecutorBuilder(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void testSubscriptionsAreCapped() {
+        assertNotNull(hub.subscribeToPolicy(policyId));
+        assertNotNull(hub.subscribeToCustomer(customerId));
+        assertNull(hub.subscribeToPolicy(policyId));
+        assertEquals(2, hub.subscriberCount());
+    }
+
+    @Test
+    void testEventReachesPolicyAndCustomerSubscribers() throws InterruptedException {
+        hub.subscribeToPolicy(policyId);
+        hub.subscribeToCustomer(customerId);
+
+        hub.publish(event(PolicyStatus.VALIDATED));
+
+        awaitValue(2.0, this::delivered);
+    }
+
+    @Test
+    void testRepeatedEventIsDispatchedOnce() throws InterruptedException {
+        hub.subscribeToPolicy(policyId);
+        PolicyStatusEventDTO validated = event(PolicyStatus.VALIDATED);
+
+        hub.publish(validated);
+        hub.publish(copyOf(validated));
+        hub.publish(event(PolicyStatus.PENDING));
+
+        awaitValue(2.0, this::delivered);
+        Thread.sleep(50);
+        assertEquals(2.0, delivered());
+    }
+
+    @Test
+    void testDistinctEventsWithSameStatusAreAllDispatched() throws InterruptedException {
+        hub.subscribeToPolicy(policyId);
+
+        hub.publish(event(PolicyStatus.VALIDATED));
+        hub.publish(event(PolicyStatus.VALIDATED));
+
+        awaitValue(2.0, this::delivered);
+    }
+
+    @Test
+    void testShutdownClosesSubscribers() {
+        hub.subscribeToPolicy(policyId);
+        hub.subscribeToCustomer(customerId);
+
+        hub.shutdown();
+
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    private PolicyStatusEventDTO event(PolicyStatus status) {
+        return new PolicyStatusEventDTO(UUID.randomUUID(), policyId, customerId, status, LocalDateTime.now(),
+                "PolicyStatusChangedEvent");
+    }
+
+    private PolicyStatusEventDTO copyOf(PolicyStatusEventDTO event) {
+        return new PolicyStatusEventDTO(event.getEventId(), event.getPolicyRequestId(), event.getCustomerId(),
+                event.getStatus(), event.getTimestamp(), event.getEventType());
+    }
+
+    private double delivered() {
+        return meterRegistry.get("insurance.policy.stream.delivered.total").counter().count();
+    }
+
+    private static void awaitValue(double expected, DoubleSupplier actual) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (actual.getAsDouble() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, actual.getAsDouble());
+    }
+}
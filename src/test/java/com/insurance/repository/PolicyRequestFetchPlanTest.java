@@ -0,0 +1,297 @@
+package com.insurance.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.RiskOccurrence;
+import com.insurance.domain.StatusHistory;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.PaymentMethod;
+import com.insurance.domain.enums.PolicyStatus;
+import com.insurance.domain.enums.SalesChannel;
+import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.mapper.PolicyRequestMapper;
+import com.insurance.service.impl.PolicyStatusServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Verifies that each fetch plan loads a policy request aggregate with a number of SQL statements
+ * that does not depend on the number of rows or collection elements.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PolicyRequestFetchPlanTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PolicyRequestRepository repository;
+
+    @Autowired
+    private StatusHistoryRepository statusHistoryRepository;
+
+    private final PolicyRequestMapper mapper = new PolicyRequestMapper();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void testDetailPlanLoadsAggregateInConstantStatements() {
+        UUID id = persistPolicies(UUID.randomUUID(), 1).get(0);
+        startCounting();
+
+        PolicyRequest request = repository.findById(id).orElseThrow();
+        PolicyRequestDTO dto = mapper.toDTO(request);
+
+        assertEquals(2, dto.getCoverages().size());
+        assertEquals(2, dto.getAssistances().size());
+        assertEquals(2, dto.getHistory().size());
+        assertFalse(Hibernate.isInitialized(request.getRiskAnalysis()));
+        assertEquals(1, statements());
+    }
+
+    @Test
+    void testWorkflowPlanLoadsRiskAnalysisInOneStatementWithoutHistory() {
+        UUID id = persistPolicies(UUID.randomUUID(), 1).get(0);
+        startCounting();
+
+        PolicyRequest request = repository.findWorkflowById(id).orElseThrow();
+
+        assertEquals(CustomerRiskType.REGULAR, request.getRiskAnalysis().getClassification());
+        assertFalse(Hibernate.isInitialized(request.getStatusHistory()));
+        assertEquals(1, statements());
+    }
+
+    @Test
+    void testTransitionShowsSavedHistoryInLoadedCollection() {
+        UUID id = persistPolicies(UUID.randomUUID(), 1).get(0);
+        StatusHistoryRepository audited = mock(StatusHistoryRepository.class);
+        when(audited.save(any(StatusHistory.class))).thenAnswer(invocation -> {
+            StatusHistory history = invocation.getArgument(0);
+            // No JPA auditing in @DataJpaTest
+            history.setCreatedAt(history.getChangedAt());
+            history.setUpdatedAt(history.getChangedAt());
+            return statusHistoryRepository.save(history);
+        });
+        PolicyStatusServiceImpl statusService = new PolicyStatusServiceImpl(null, audited, new SimpleMeterRegistry());
+
+        PolicyRequest request = repository.findById(id).orElseThrow();
+        statusService.updatePolicyStatus(request, PolicyStatus.REJECTED);
+        entityManager.flush();
+
+        assertEquals(PolicyStatus.REJECTED, request.getStatusHistory().get(0).getNewStatus());
+        entityManager.clear();
+        PolicyRequestDTO reloaded = mapper.toDTO(repository.findById(id).orElseThrow());
+        assertEquals(3, reloaded.getHistory().size());
+        assertEquals(PolicyStatus.REJECTED, reloaded.getHistory().get(0).getStatus());
+    }
+
+    @Test
+    void testHistoryAddedToCollectionIsNotWritten() {
+        UUID id = persistPolicies(UUID.randomUUID(), 1).get(0);
+
+        PolicyRequest request = repository.findById(id).orElseThrow();
+        request.getStatusHistory().add(history(id, PolicyStatus.PENDING, PolicyStatus.APPROVED, LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, repository.findById(id).orElseThrow().getStatusHistory().size());
+    }
+
+    @Test
+    void testSummaryPlanDoesNotGrowWithCustomerSize() {
+        UUID smallCustomer = UUID.randomUUID();
+        UUID largeCustomer = UUID.randomUUID();
+        persistPolicies(smallCustomer, 2);
+        persistPolicies(largeCustomer, 20);
+
+        startCounting();
+        List<PolicyRequestDTO> small = repository.findByCustomerId(smallCustomer, SINCE).stream().map(mapper::toDTO).toList();
+        long smallStatements = statements();
+
+        startCounting();
+        List<PolicyRequestDTO> large = repository.findByCustomerId(largeCustomer, SINCE).stream().map(mapper::toDTO).toList();
+        long largeStatements = statements();
+
+        assertEquals(2, small.size());
+        assertEquals(20, large.size());
+        assertTrue(large.stream().allMatch(dto -> dto.getHistory().size() == 2 && dto.getAssistances().size() == 2));
+        assertEquals(smallStatements, largeStatements);
+        assertTrue(largeStatements <= 2, "summary plan issued " + largeStatements + " statements");
+    }
+
+    @Test
+    void testKeysetPageDoesNotGrowWithPageSize() {
+        UUID customerId = UUID.randomUUID();
+        persistPolicies(customerId, 20);
+
+        startCounting();
+        repository.findFirstPageByCustomerId(customerId, SINCE, Limit.of(2)).forEach(mapper::toDTO);
+        long smallPage = statements();
+
+        entityManager.clear();
+        startCounting();
+        List<PolicyRequestDTO> page = repository.findFirstPageByCustomerId(customerId, SINCE, Limit.of(20)).stream()
+                .map(mapper::toDTO)
+                .toList();
+        long largePage = statements();
+
+        assertEquals(20, page.size());
+        assertEquals(smallPage, largePage);
+        assertTrue(largePage <= 4, "keyset page issued " + largePage + " statements");
+    }
+
+    @Test
+    void testStreamLoadsHistoryPerChunkInsteadOfPerRow() {
+        UUID customerId = UUID.randomUUID();
+        persistPolicies(customerId, 20);
+        startCounting();
+
+        List<PolicyRequestDTO> streamed = new ArrayList<>();
+        repository.forEachByCustomerId(customerId, SINCE, request -> streamed.add(mapper.toDTO(request)));
+
+        assertEquals(20, streamed.size());
+        assertTrue(streamed.stream().allMatch(dto -> dto.getHistory().size() == 2));
+        assertTrue(statements() <= 2, "stream issued " + statements() + " statements");
+    }
+
+    @Test
+    void testCoveragesAndAssistancesAreStoredInPolicyRow() {
+        PolicyRequest request = newPolicy(UUID.randomUUID(), LocalDateTime.now());
+        request.setRiskAnalysis(null);
+        startCounting();
+
+        entityManager.persist(request);
+        entityManager.flush();
+
+        assertEquals(1, statements());
+
+        entityManager.clear();
+        PolicyRequest loaded = repository.findWorkflowById(request.getId()).orElseThrow();
+        assertEquals(0, BigDecimal.valueOf(30000).compareTo(loaded.getCoverages().get("Collision")));
+        assertEquals(0, BigDecimal.valueOf(50000).compareTo(loaded.calculateTotalCoverageAmount()));
+        assertEquals(List.of("Roadside Assistance", "Glass Protection"), loaded.getAssistances());
+    }
+
+    @Test
+    void testHistoryPageReadsOnlyRequestedSlice() {
+        UUID id = persistPolicies(UUID.randomUUID(), 1).get(0);
+        startCounting();
+
+        Slice<StatusHistory> first = statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtDescIdDesc(id, PageRequest.of(0, 1));
+        Slice<StatusHistory> second = statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtDescIdDesc(id, PageRequest.of(1, 1));
+
+        assertEquals(1, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.getNumberOfElements());
+        assertFalse(second.hasNext());
+        assertEquals(2, statements());
+    }
+
+    private void startCounting() {
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private long statements() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<UUID> persistPolicies(UUID customerId, int count) {
+        List<UUID> ids = new ArrayList<>();
+        // Close to the id timestamp, as in the application: lookups by id are bounded by it
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < count; i++) {
+            PolicyRequest request = newPolicy(customerId, base.plusMinutes(i));
+            entityManager.persist(request);
+            entityManager.persist(history(request.getId(), PolicyStatus.RECEIVED, PolicyStatus.VALIDATED, base));
+            entityManager.persist(history(request.getId(), PolicyStatus.VALIDATED, PolicyStatus.PENDING, base));
+            ids.add(request.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    private PolicyRequest newPolicy(UUID customerId, LocalDateTime createdAt) {
+        PolicyRequest request = new PolicyRequest();
+        request.setCustomerId(customerId);
+        request.setProductId(UUID.randomUUID());
+        request.setCategory(InsuranceCategory.AUTO);
+        request.setSalesChannel(SalesChannel.MOBILE);
+        request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        request.setStatus(PolicyStatus.VALIDATED);
+        request.setCreatedAt(createdAt);
+        request.setUpdatedAt(createdAt);
+        request.setTotalMonthlyPremiumAmount(BigDecimal.valueOf(150.00));
+        request.setInsuredAmount(BigDecimal.valueOf(50000.00));
+
+        HashMap<String, BigDecimal> coverages = new HashMap<>();
+        coverages.put("Collision", BigDecimal.valueOf(30000));
+        coverages.put("Theft", BigDecimal.valueOf(20000));
+        request.setCoverages(coverages);
+        request.setAssistances(new ArrayList<>(Arrays.asList("Roadside Assistance", "Glass Protection")));
+
+        RiskAnalysis riskAnalysis = new RiskAnalysis();
+        riskAnalysis.setClassification(CustomerRiskType.REGULAR);
+        riskAnalysis.setAnalyzedAt(createdAt);
+        riskAnalysis.setCreatedAt(createdAt);
+        riskAnalysis.setUpdatedAt(createdAt);
+        RiskOccurrence occurrence = new RiskOccurrence();
+        occurrence.setType("HIGH_VALUE");
+        occurrence.setDescription("High insured amount detected");
+        riskAnalysis.getOccurrences().add(occurrence);
+        request.setRiskAnalysis(riskAnalysis);
+        return request;
+    }
+
+    private StatusHistory history(UUID policyRequestId, PolicyStatus from, PolicyStatus to, LocalDateTime at) {
+        StatusHistory history = new StatusHistory();
+        history.setPolicyRequestId(policyRequestId);
+        history.setPreviousStatus(from);
+        history.setNewStatus(to);
+        history.setChangedAt(at);
+        history.setCreatedAt(at);
+        history.setUpdatedAt(at);
+        return history;
+    }
+}
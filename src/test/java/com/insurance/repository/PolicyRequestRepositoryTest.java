@@ -3,6 +3,7 @@ package com.insurance.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.insurance.domain.PolicyRequest;
@@ -20,13 +21,21 @@ import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
-@DataJpaTest
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
 class PolicyRequestRepositoryTest {
 
+    private static final LocalDateTime SINCE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -52,6 +61,15 @@ class PolicyRequestRepositoryTest {
         assertEquals(PolicyStatus.RECEIVED, savedRequest.getStatus());
     }
 
+    @Test
+    void testSaveAssignsTimeOrderedIds() {
+        PolicyRequest first = repository.saveAndFlush(createSamplePolicyRequest(customerId));
+        PolicyRequest second = repository.saveAndFlush(createSamplePolicyRequest(customerId));
+
+        assertEquals(7, first.getId().version());
+        assertTrue(second.getId().compareTo(first.getId()) > 0);
+    }
+
     @Test
     void testFindById() {
         PolicyRequest savedRequest = entityManager.persistAndFlush(policyRequest);
@@ -74,7 +92,7 @@ class PolicyRequestRepositoryTest {
         entityManager.persist(otherCustomerRequest);
         entityManager.flush();
 
-        List<PolicyRequest> foundRequests = repository.findByCustomerId(customerId);
+        List<PolicyRequest> foundRequests = repository.findByCustomerId(customerId, SINCE);
         
         assertEquals(2, foundRequests.size());
         assertTrue(foundRequests.stream().allMatch(r -> r.getCustomerId().equals(customerId)));
@@ -115,10 +133,138 @@ class PolicyRequestRepositoryTest {
         assertEquals(PolicyStatus.VALIDATED, found.getStatus());
     }
 
+    @Test
+    void testPersistInBatches() {
+        List<PolicyRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(createSamplePolicyRequest(customerId));
+        }
+
+        repository.persistInBatches(requests, 2);
+
+        assertTrue(requests.stream().allMatch(r -> r.getId() != null));
+        assertFalse(entityManager.getEntityManager().contains(requests.get(0)));
+
+        List<PolicyRequest> found = repository.findByCustomerId(customerId, SINCE);
+        assertEquals(5, found.size());
+        assertEquals(2, found.get(0).getCoverages().size());
+        assertEquals(2, found.get(0).getAssistances().size());
+    }
+
+    @Test
+    void testKeysetPagesByCustomerId() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (int i = 0; i < 5; i++) {
+            PolicyRequest request = createSamplePolicyRequest(customerId);
+            request.setCreatedAt(base.plusMinutes(i));
+            entityManager.persist(request);
+        }
+        entityManager.persist(createSamplePolicyRequest(UUID.randomUUID()));
+        entityManager.flush();
+
+        List<PolicyRequest> firstPage = repository.findFirstPageByCustomerId(customerId, SINCE, Limit.of(2));
+        assertEquals(2, firstPage.size());
+        assertEquals(base, firstPage.get(0).getCreatedAt());
+        assertEquals(base.plusMinutes(1), firstPage.get(1).getCreatedAt());
+
+        PolicyRequest last = firstPage.get(1);
+        List<PolicyRequest> secondPage = repository.findPageByCustomerIdAfter(
+                customerId, SINCE, last.getCreatedAt(), last.getId(), Limit.of(10));
+        assertEquals(3, secondPage.size());
+        assertEquals(base.plusMinutes(2), secondPage.get(0).getCreatedAt());
+        assertTrue(secondPage.stream().allMatch(r -> r.getCustomerId().equals(customerId)));
+    }
+
+    @Test
+    void testKeysetPageBreaksTiesById() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (int i = 0; i < 3; i++) {
+            PolicyRequest request = createSamplePolicyRequest(customerId);
+            request.setCreatedAt(createdAt);
+            entityManager.persist(request);
+        }
+        entityManager.flush();
+
+        List<PolicyRequest> all = repository.findFirstPageByCustomerId(customerId, SINCE, Limit.of(3));
+        List<PolicyRequest> afterFirst = repository.findPageByCustomerIdAfter(
+                customerId, SINCE, createdAt, all.get(0).getId(), Limit.of(3));
+
+        assertEquals(2, afterFirst.size());
+        assertEquals(all.get(1).getId(), afterFirst.get(0).getId());
+        assertEquals(all.get(2).getId(), afterFirst.get(1).getId());
+    }
+
+    @Test
+    void testForEachByCustomerIdDetachesEntities() {
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(createSamplePolicyRequest(customerId));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PolicyRequest> visited = new ArrayList<>();
+        repository.forEachByCustomerId(customerId, SINCE, request -> {
+            assertEquals(2, request.getCoverages().size());
+            visited.add(request);
+        });
+
+        assertEquals(3, visited.size());
+        assertTrue(visited.stream().noneMatch(r -> entityManager.getEntityManager().contains(r)));
+    }
+
+    @Test
+    void testVersionIncrementsOnUpdateAndRejectsStaleWrites() {
+        PolicyRequest saved = repository.saveAndFlush(policyRequest);
+        UUID id = saved.getId();
+        assertEquals(0L, saved.getVersion());
+        entityManager.clear();
+
+        PolicyRequest stale = repository.findById(id).orElseThrow();
+        entityManager.detach(stale);
+
+        PolicyRequest current = repository.findById(id).orElseThrow();
+        current.setStatus(PolicyStatus.VALIDATED);
+        repository.saveAndFlush(current);
+        assertEquals(1L, current.getVersion());
+
+        stale.setStatus(PolicyStatus.CANCELLED);
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.saveAndFlush(stale));
+    }
+
+    @Test
+    void testFindByCustomerIdSkipsPoliciesCreatedBeforeWindow() {
+        PolicyRequest old = createSamplePolicyRequest(customerId);
+        old.setCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0));
+        entityManager.persist(old);
+        entityManager.persist(createSamplePolicyRequest(customerId));
+        entityManager.flush();
+
+        assertEquals(2, repository.findByCustomerId(customerId, SINCE).size());
+        assertEquals(1, repository.findByCustomerId(customerId, LocalDateTime.of(2021, 1, 1, 0, 0)).size());
+    }
+
+    @Test
+    void testLookupsByIdAreBoundedByIdTimestamp() {
+        PolicyRequest saved = entityManager.persistAndFlush(policyRequest);
+        entityManager.clear();
+
+        assertTrue(repository.findDetailById(saved.getId()).isPresent());
+        assertTrue(repository.findWorkflowById(saved.getId()).isPresent());
+        assertEquals(Optional.of(0L), repository.findVersionById(saved.getId()));
+
+        entityManager.getEntityManager().createNativeQuery("update policy_requests set created_at = :createdAt where id = :id")
+                .setParameter("createdAt", LocalDateTime.of(2020, 1, 1, 0, 0))
+                .setParameter("id", saved.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        assertFalse(repository.findWorkflowById(saved.getId()).isPresent());
+    }
+
     @Test
     void testFindByCustomerIdWithNoResults() {
         UUID nonExistentCustomerId = UUID.randomUUID();
-        List<PolicyRequest> foundRequests = repository.findByCustomerId(nonExistentCustomerId);
+        List<PolicyRequest> foundRequests = repository.findByCustomerId(nonExistentCustomerId, SINCE);
         
         assertTrue(foundRequests.isEmpty());
     }
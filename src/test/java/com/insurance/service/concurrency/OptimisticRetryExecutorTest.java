@@ -0,0 +1,105 @@
+package com.insurance.service.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OptimisticRetryExecutorTest {
+
+    private PlatformTransactionManager transactionManager;
+    private OptimisticRetryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        properties = new OptimisticRetryProperties();
+        properties.setBackoffMs(1);
+        properties.setMaxBackoffMs(2);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new OptimisticRetryExecutor(new TransactionTemplate(transactionManager), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void testRetriesConflictInNewTransaction() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute("payment", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("PolicyRequest", "id");
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+        assertEquals(2.0, conflicts("payment"));
+        assertNull(meterRegistry.find("insurance.policy.optimistic.retry.exhausted.total").counter());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> executor.run("cancel", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("PolicyRequest", "id");
+        }));
+
+        assertEquals(properties.getMaxAttempts(), attempts.get());
+        assertEquals(properties.getMaxAttempts(), conflicts("cancel"));
+        assertEquals(1.0, meterRegistry.get("insurance.policy.optimistic.retry.exhausted.total")
+                .tag("operation", "cancel").counter().count());
+    }
+
+    @Test
+    void testDoesNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> executor.run("validate", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, attempts.get());
+        assertNull(meterRegistry.find("insurance.policy.optimistic.conflict.total").counter());
+    }
+
+    @Test
+    void testJoinsOuterTransactionWithoutRetrying() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> executor.run("process", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("PolicyRequest", "id");
+        }));
+
+        assertEquals(1, attempts.get());
+        verifyNoInteractions(transactionManager);
+    }
+
+    private double conflicts(String operation) {
+        return meterRegistry.get("insurance.policy.optimistic.conflict.total")
+                .tag("operation", operation).counter().count();
+    }
+}
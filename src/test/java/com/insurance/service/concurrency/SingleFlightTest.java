@@ -0,0 +1,138 @@
+package com.insurance.service.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightProperties properties = new SingleFlightProperties();
+    private final SingleFlight singleFlight = new SingleFlight(properties, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallsShareOneExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+        Supplier<Object> slowLoad = () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        };
+
+        CompletableFuture<Object> leader = call("policy-1", slowLoad);
+        started.await(2, TimeUnit.SECONDS);
+        CompletableFuture<Object> first = call("policy-1", slowLoad);
+        CompletableFuture<Object> second = call("policy-1", slowLoad);
+        awaitCoalesced(2.0);
+        release.countDown();
+
+        assertSame(result, leader.get(2, TimeUnit.SECONDS));
+        assertSame(result, first.get(2, TimeUnit.SECONDS));
+        assertSame(result, second.get(2, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(1.0, calls("executed"));
+    }
+
+    @Test
+    void testFailureIsSharedWithWaitingCallers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Object> failingLoad = () -> {
+            started.countDown();
+            await(release);
+            throw new EntityNotFoundException("Policy request not found");
+        };
+
+        CompletableFuture<Object> leader = call("policy-2", failingLoad);
+        started.await(2, TimeUnit.SECONDS);
+        CompletableFuture<Object> follower = call("policy-2", failingLoad);
+        awaitCoalesced(1.0);
+        release.countDown();
+
+        assertEquals(EntityNotFoundException.class,
+                assertThrows(ExecutionException.class, () -> leader.get(2, TimeUnit.SECONDS)).getCause().getClass());
+        assertEquals(EntityNotFoundException.class,
+                assertThrows(ExecutionException.class, () -> follower.get(2, TimeUnit.SECONDS)).getCause().getClass());
+    }
+
+    @Test
+    void testCallerStopsWaitingAfterMaxWaitAndLoadsItself() throws Exception {
+        properties.setMaxWaitMs(20);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> leader = call("policy-4", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "slow";
+        });
+        started.await(2, TimeUnit.SECONDS);
+
+        Object own = singleFlight.execute("get-policy", "policy-4", () -> {
+            loads.incrementAndGet();
+            return "own";
+        });
+        release.countDown();
+
+        assertEquals("own", own);
+        assertEquals("slow", leader.get(2, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+        assertEquals(1.0, calls("timed-out"));
+    }
+
+    @Test
+    void testSequentialCallsExecuteAgain() {
+        singleFlight.execute("get-policy", "policy-3", loads::incrementAndGet);
+        singleFlight.execute("get-policy", "policy-3", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(0.0, calls("coalesced"));
+    }
+
+    private CompletableFuture<Object> call(String key, Supplier<Object> work) {
+        return CompletableFuture.supplyAsync(() -> singleFlight.execute("get-policy", key, work), executor);
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.find("insurance.policy.singleflight.calls.total").tag("outcome", outcome)
+                .counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    private void awaitCoalesced(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (calls("coalesced") < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
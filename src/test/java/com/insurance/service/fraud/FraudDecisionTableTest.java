@@ -0,0 +1,85 @@
+package com.insurance.service.fraud;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class FraudDecisionTableTest {
+
+    private final FraudDecisionTable table = FraudDecisionTable.compile(new FraudRulesProperties());
+
+    @Test
+    void testDefaultBoundariesPerCategory() {
+        assertEquals(CustomerRiskType.REGULAR, table.classify(InsuranceCategory.LIFE, new BigDecimal("199999.99")));
+        assertEquals(CustomerRiskType.PREFERRED, table.classify(InsuranceCategory.LIFE, new BigDecimal("200000.00")));
+        assertEquals(CustomerRiskType.PREFERRED, table.classify(InsuranceCategory.LIFE, new BigDecimal("500000.00")));
+        assertEquals(CustomerRiskType.HIGH_RISK, table.classify(InsuranceCategory.LIFE, new BigDecimal("500000.01")));
+
+        assertEquals(CustomerRiskType.PREFERRED, table.classify(InsuranceCategory.AUTO, new BigDecimal("150000")));
+        assertEquals(CustomerRiskType.HIGH_RISK, table.classify(InsuranceCategory.RESIDENTIAL, new BigDecimal("400001")));
+        assertEquals(CustomerRiskType.REGULAR, table.classify(InsuranceCategory.TRAVEL, new BigDecimal("99999.99")));
+        assertEquals(CustomerRiskType.HIGH_RISK, table.classify(InsuranceCategory.HEALTH, new BigDecimal("200000.01")));
+    }
+
+    @Test
+    void testExtremeValue() {
+        assertFalse(table.isExtremeValue(new BigDecimal("1000000.00")));
+        assertTrue(table.isExtremeValue(new BigDecimal("1000000.01")));
+    }
+
+    @Test
+    void testHighValueDescriptionIsPrecomputed() {
+        assertEquals("High insured amount detected for category AUTO",
+                table.highValueDescription(InsuranceCategory.AUTO));
+    }
+
+    @Test
+    void testHighValueDescriptionComesFromRules() {
+        FraudRulesProperties rules = new FraudRulesProperties();
+        rules.setHighValueDescription("Valor segurado alto para {category}");
+
+        assertEquals("Valor segurado alto para LIFE",
+                FraudDecisionTable.compile(rules).highValueDescription(InsuranceCategory.LIFE));
+    }
+
+    @Test
+    void testCompileRejectsBlankHighValueDescription() {
+        FraudRulesProperties rules = new FraudRulesProperties();
+        rules.setHighValueDescription(" ");
+
+        assertThrows(IllegalArgumentException.class, () -> FraudDecisionTable.compile(rules));
+    }
+
+    @Test
+    void testCompileRejectsMissingCategory() {
+        FraudRulesProperties rules = new FraudRulesProperties();
+        rules.getCategories().remove(InsuranceCategory.HEALTH);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> FraudDecisionTable.compile(rules));
+        assertTrue(error.getMessage().contains("HEALTH"));
+    }
+
+    @Test
+    void testCompileRejectsInvertedRange() {
+        FraudRulesProperties rules = new FraudRulesProperties();
+        rules.getCategories().put(InsuranceCategory.AUTO,
+                new FraudRulesProperties.CategoryRule(new BigDecimal("400000"), new BigDecimal("300000")));
+
+        assertThrows(IllegalArgumentException.class, () -> FraudDecisionTable.compile(rules));
+    }
+
+    @Test
+    void testCompileRejectsNonPositiveExtremeValue() {
+        FraudRulesProperties rules = new FraudRulesProperties();
+        rules.setExtremeValueAbove(BigDecimal.ZERO);
+
+        assertThrows(IllegalArgumentException.class, () -> FraudDecisionTable.compile(rules));
+    }
+}
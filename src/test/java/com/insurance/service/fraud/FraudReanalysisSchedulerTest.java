@@ -0,0 +1,167 @@
+package com.insurance.service.fraud;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.RiskOccurrence;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.repository.PolicyRequestRepository;
+import com.insurance.service.FraudAnalysisService;
+import com.insurance.service.PolicyRequestService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class FraudReanalysisSchedulerTest {
+
+    @Mock
+    private FraudReanalysisRepository reanalyses;
+
+    @Mock
+    private PolicyRequestRepository repository;
+
+    @Mock
+    private PolicyRequestService policyRequestService;
+
+    @Mock
+    private FraudAnalysisService fraudAnalysisService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FraudAnalysisProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private FraudReanalysisScheduler scheduler;
+    private PolicyRequest policyRequest;
+    private UUID policyId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FraudAnalysisProperties();
+        properties.setReanalysisDelayMs(60_000);
+        properties.setReanalysisMaxAttempts(2);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new FraudReanalysisScheduler(reanalyses, repository, policyRequestService, fraudAnalysisService,
+                properties, transactionManager, meterRegistry);
+
+        policyId = UUID.randomUUID();
+        policyRequest = new PolicyRequest();
+        policyRequest.setId(policyId);
+        policyRequest.setRiskAnalysis(analysis(CustomerRiskType.NO_INFORMATION,
+                FraudReanalysisScheduler.DEADLINE_EXCEEDED));
+    }
+
+    @Test
+    void testClaimDueCountsAttemptAndPushesNextAttempt() {
+        LocalDateTime now = LocalDateTime.now();
+        FraudReanalysis first = FraudReanalysis.of(policyId, now.minusSeconds(1));
+        FraudReanalysis second = FraudReanalysis.of(UUID.randomUUID(), now.minusSeconds(1));
+        second.setAttempts(1);
+        when(reanalyses.lockDue(eq(now), eq(2), any(Limit.class))).thenReturn(List.of(first, second));
+
+        List<FraudReanalysis> due = scheduler.claimDue(now);
+
+        assertEquals(2, due.size());
+        assertEquals(1, first.getAttempts());
+        assertEquals(now.plusSeconds(60), first.getNextAttemptAt());
+        assertEquals(2, second.getAttempts());
+        assertEquals(now.plusSeconds(120), second.getNextAttemptAt());
+    }
+
+    @Test
+    void testReanalyzeHandsFreshAnalysisToService() {
+        RiskAnalysis fresh = analysis(CustomerRiskType.PREFERRED, null);
+        when(repository.findWorkflowById(policyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(fresh);
+        when(policyRequestService.applyFraudReanalysis(policyId, fresh)).thenReturn(true);
+
+        assertEquals("upgraded", scheduler.reanalyze(policyId));
+    }
+
+    @Test
+    void testReanalyzeSkipsProviderNoInformation() {
+        policyRequest.setRiskAnalysis(analysis(CustomerRiskType.NO_INFORMATION, "FRAUD"));
+        when(repository.findWorkflowById(policyId)).thenReturn(Optional.of(policyRequest));
+
+        assertEquals("skipped", scheduler.reanalyze(policyId));
+
+        verify(fraudAnalysisService, never()).analyzeFraud(any());
+        verify(policyRequestService, never()).applyFraudReanalysis(any(), any());
+    }
+
+    @Test
+    void testReanalyzeSkipsMissingPolicy() {
+        when(repository.findWorkflowById(policyId)).thenReturn(Optional.empty());
+
+        assertEquals("skipped", scheduler.reanalyze(policyId));
+    }
+
+    @Test
+    void testRunDeletesFinishedReanalysis() {
+        FraudReanalysis pending = pending(1);
+        when(repository.findWorkflowById(policyId)).thenReturn(Optional.empty());
+
+        scheduler.run(pending);
+
+        verify(reanalyses).deleteById(pending.getId());
+        assertEquals(1.0, meterRegistry.get("insurance.fraud.reanalysis.total").tag("outcome", "skipped").counter().count());
+    }
+
+    @Test
+    void testRunKeepsFailedReanalysisWithError() {
+        FraudReanalysis first = pending(1);
+        FraudReanalysis last = pending(2);
+        when(repository.findWorkflowById(policyId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenThrow(new RuntimeException("still down"));
+        when(reanalyses.findById(first.getId())).thenReturn(Optional.of(first));
+        when(reanalyses.findById(last.getId())).thenReturn(Optional.of(last));
+
+        scheduler.run(first);
+        scheduler.run(last);
+
+        verify(reanalyses, never()).deleteById(any());
+        assertEquals("still down", last.getLastError());
+        assertEquals(1.0, meterRegistry.get("insurance.fraud.reanalysis.total").tag("outcome", "retry").counter().count());
+        assertEquals(1.0, meterRegistry.get("insurance.fraud.reanalysis.total").tag("outcome", "failed").counter().count());
+        assertEquals(CustomerRiskType.NO_INFORMATION, policyRequest.getRiskAnalysis().getClassification());
+    }
+
+    private FraudReanalysis pending(int attempts) {
+        FraudReanalysis reanalysis = FraudReanalysis.of(policyId, LocalDateTime.now());
+        reanalysis.setId(UUID.randomUUID());
+        reanalysis.setAttempts(attempts);
+        return reanalysis;
+    }
+
+    private RiskAnalysis analysis(CustomerRiskType classification, String occurrenceType) {
+        RiskAnalysis analysis = new RiskAnalysis();
+        analysis.setClassification(classification);
+        analysis.setAnalyzedAt(LocalDateTime.now());
+        List<RiskOccurrence> occurrences = new ArrayList<>();
+        if (occurrenceType != null) {
+            RiskOccurrence occurrence = new RiskOccurrence();
+            occurrence.setType(occurrenceType);
+            occurrence.setDescription("test");
+            occurrences.add(occurrence);
+        }
+        analysis.setOccurrences(occurrences);
+        return analysis;
+    }
+}
@@ -0,0 +1,81 @@
+package com.insurance.service.fraud;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FraudRuleEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path rulesFile;
+    private FraudRuleEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        rulesFile = tempDir.resolve("fraud-rules.properties");
+        FraudRulesProperties properties = new FraudRulesProperties();
+        properties.setFile(rulesFile.toString());
+        engine = new FraudRuleEngine(properties);
+    }
+
+    @Test
+    void testReloadIfChangedAppliesFile() throws IOException {
+        write("fraud.rules.categories.AUTO.preferred-from=50000.00\n"
+                + "fraud.rules.categories.AUTO.high-risk-above=100000.00\n"
+                + "fraud.rules.extreme-value-above=750000.00\n", 1_000);
+
+        engine.reloadIfChanged();
+
+        FraudDecisionTable table = engine.currentTable();
+        assertEquals(CustomerRiskType.HIGH_RISK, table.classify(InsuranceCategory.AUTO, new BigDecimal("150000")));
+        assertEquals(new BigDecimal("750000.00"), table.extremeValueAbove());
+        assertEquals(new BigDecimal("500000.00"), table.highRiskAbove(InsuranceCategory.LIFE));
+    }
+
+    @Test
+    void testReloadIfChangedSkipsUnchangedFile() throws IOException {
+        write("fraud.rules.extreme-value-above=750000.00\n", 1_000);
+        engine.reloadIfChanged();
+        FraudDecisionTable loaded = engine.currentTable();
+
+        engine.reloadIfChanged();
+
+        assertSame(loaded, engine.currentTable());
+    }
+
+    @Test
+    void testInvalidFileKeepsCurrentRules() throws IOException {
+        FraudDecisionTable initial = engine.currentTable();
+        write("fraud.rules.categories.AUTO.preferred-from=900000.00\n", 1_000);
+
+        engine.reloadIfChanged();
+
+        assertSame(initial, engine.currentTable());
+    }
+
+    @Test
+    void testMissingFileKeepsCurrentRules() {
+        FraudDecisionTable initial = engine.currentTable();
+
+        engine.reloadIfChanged();
+
+        assertSame(initial, engine.currentTable());
+    }
+
+    private void write(String content, long lastModified) throws IOException {
+        Files.writeString(rulesFile, content);
+        Files.setLastModifiedTime(rulesFile, FileTime.fromMillis(lastModified));
+    }
+}
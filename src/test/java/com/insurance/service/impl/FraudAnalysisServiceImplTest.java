@@ -3,10 +3,13 @@ package com.insurance.service.impl;
 import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.RiskAnalysis;
 import com.insurance.domain.enums.*;
+import com.insurance.service.fraud.FraudRuleEngine;
+import com.insurance.service.fraud.FraudRulesProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
@@ -21,6 +24,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class FraudAnalysisServiceImplTest {
 
+    @Spy
+    private FraudRuleEngine ruleEngine = new FraudRuleEngine(new FraudRulesProperties());
+
     @InjectMocks
     private FraudAnalysisServiceImpl fraudAnalysisService;
 
@@ -231,4 +237,22 @@ class FraudAnalysisServiceImplTest {
         
         assertTrue(exception.getMessage().contains("customerId cannot be null"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testAnalyzeFraudUsesReloadedRules() {
+        policyRequest.setInsuredAmount(new BigDecimal("250000.00"));
+        policyRequest.setCategory(InsuranceCategory.AUTO);
+        assertEquals(CustomerRiskType.PREFERRED, fraudAnalysisService.analyzeFraud(policyRequest).getClassification());
+
+        FraudRulesProperties rules = new FraudRulesProperties();
+        rules.getCategories().put(InsuranceCategory.AUTO,
+                new FraudRulesProperties.CategoryRule(new BigDecimal("50000.00"), new BigDecimal("200000.00")));
+        ruleEngine.reload(rules);
+
+        RiskAnalysis result = fraudAnalysisService.analyzeFraud(policyRequest);
+
+        assertEquals(CustomerRiskType.HIGH_RISK, result.getClassification());
+        assertEquals(1, result.getOccurrences().size());
+        assertEquals("HIGH_VALUE", result.getOccurrences().get(0).getType());
+    }
+}
@@ -3,30 +3,63 @@ package com.insurance.service.impl;
 import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.RiskAnalysis;
 import com.insurance.domain.RiskOccurrence;
+import com.insurance.domain.StatusHistory;
 import com.insurance.domain.enums.*;
 import com.insurance.dto.FraudAnalysisResponseDTO;
+import com.insurance.dto.PolicyBatchResponseDTO;
 import com.insurance.dto.PolicyCancelResponseDTO;
+import com.insurance.dto.PolicyProcessingBatchResponseDTO;
+import com.insurance.dto.PolicyProcessingResponseDTO;
+import com.insurance.dto.PolicyRequestCursor;
+import com.insurance.dto.PolicyRequestSnapshot;
+import com.insurance.dto.PolicyTransitionsDTO;
 import com.insurance.dto.PolicyValidationResponseDTO;
 import com.insurance.event.PolicyRequestCreatedEvent;
+import com.insurance.event.PolicyRejectedEvent;
 import com.insurance.event.PolicyRequestEvent;
 import com.insurance.exception.BusinessException;
+import com.insurance.infrastructure.cache.PolicyRequestCache;
+import com.insurance.infrastructure.cache.PolicyRequestCacheProperties;
+import com.insurance.infrastructure.config.PolicyBatchProperties;
 import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
 import com.insurance.infrastructure.messaging.service.EventPublisher;
+import com.insurance.infrastructure.persistence.routing.ReadAfterWriteTracker;
+import com.insurance.infrastructure.streaming.PolicyEventHub;
+import com.insurance.mapper.PolicyRequestMapper;
 import com.insurance.repository.PolicyRequestRepository;
+import com.insurance.repository.StatusHistoryRepository;
 import com.insurance.service.FraudAnalysisService;
 import com.insurance.service.PaymentService;
 import com.insurance.service.SubscriptionService;
 import com.insurance.service.PolicyStatusService;
+import com.insurance.service.concurrency.OptimisticRetryExecutor;
+import com.insurance.service.concurrency.OptimisticRetryProperties;
+import com.insurance.service.fraud.FraudAnalysisProperties;
+import com.insurance.service.fraud.FraudReanalysis;
+import com.insurance.service.fraud.FraudReanalysisRepository;
+import com.insurance.service.fraud.FraudReanalysisScheduler;
+import com.insurance.service.limits.CoverageLimitProperties;
+import com.insurance.service.limits.CoverageLimitProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,6 +72,9 @@ class PolicyRequestServiceImplTest {
     @Mock
     private PolicyRequestRepository repository;
 
+    @Mock
+    private StatusHistoryRepository statusHistoryRepository;
+
     @Mock
     private FraudAnalysisService fraudAnalysisService;
 
@@ -54,6 +90,37 @@ class PolicyRequestServiceImplTest {
     @Mock
     private PolicyStatusService policyStatusService;
 
+    @Spy
+    private PolicyBatchProperties batchProperties = new PolicyBatchProperties();
+
+    @Spy
+    private FraudAnalysisProperties fraudAnalysisProperties = new FraudAnalysisProperties();
+
+    @Mock
+    private FraudReanalysisRepository fraudReanalysisRepository;
+
+    @Mock
+    private ReadAfterWriteTracker readAfterWrite;
+
+    @Mock
+    private PolicyEventHub eventHub;
+
+    @Spy
+    private PolicyRequestCache policyRequestCache = new PolicyRequestCache(
+            new PolicyRequestCacheProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private PolicyRequestMapper mapper = new PolicyRequestMapper();
+
+    @Spy
+    private CoverageLimitProvider coverageLimitProvider = new CoverageLimitProvider(new CoverageLimitProperties());
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(
+            new TransactionTemplate(transactionManager), noBackoff(), new SimpleMeterRegistry());
+
     @Spy
     @InjectMocks
     private PolicyRequestServiceImpl policyRequestService;
@@ -98,6 +165,8 @@ class PolicyRequestServiceImplTest {
             request.setStatus(newStatus);
             return null;
         }).when(policyStatusService).updatePolicyStatus(any(PolicyRequest.class), any(PolicyStatus.class));
+        lenient().when(statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtAscIdAsc(requestId))
+                .thenAnswer(invocation -> List.copyOf(policyRequest.getStatusHistory()));
     }
 
     @Test
@@ -117,41 +186,220 @@ class PolicyRequestServiceImplTest {
         );
     }
 
+    @Test
+    void testCreatePolicyRequestsReturnsPerItemResults() {
+        PolicyRequest invalid = new PolicyRequest();
+        invalid.setCustomerId(customerId);
+
+        PolicyBatchResponseDTO result = policyRequestService.createPolicyRequests(
+            Arrays.asList(policyRequest, invalid));
+
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+
+        PolicyBatchResponseDTO.ItemResultDTO createdItem = result.getItems().get(0);
+        assertTrue(createdItem.isCreated());
+        assertEquals(0, createdItem.getIndex());
+        assertEquals(requestId, createdItem.getPolicyId());
+        assertEquals(PolicyStatus.RECEIVED, createdItem.getStatus());
+
+        PolicyBatchResponseDTO.ItemResultDTO failedItem = result.getItems().get(1);
+        assertFalse(failedItem.isCreated());
+        assertEquals(1, failedItem.getIndex());
+        assertEquals("Product ID is required", failedItem.getError());
+
+        verify(repository).persistInBatches(List.of(policyRequest), batchProperties.getChunkSize());
+        verify(eventPublisher).publishAll(
+            eq(RabbitMQConfig.POLICY_EVENTS_EXCHANGE),
+            eq(RabbitMQConfig.POLICY_CREATED_KEY),
+            argThat(events -> events.size() == 1 && events.get(0).getPolicyRequestId().equals(requestId))
+        );
+        verify(repository, never()).save(any(PolicyRequest.class));
+    }
+
+    @Test
+    void testCreatePolicyRequestsEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () ->
+            policyRequestService.createPolicyRequests(Collections.emptyList())
+        );
+
+        verifyNoInteractions(repository, eventPublisher);
+    }
+
+    @Test
+    void testCreatePolicyRequestsExceedsMaxSize() {
+        batchProperties.setMaxSize(1);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            policyRequestService.createPolicyRequests(Arrays.asList(policyRequest, policyRequest))
+        );
+
+        assertEquals("Batch size 2 exceeds the maximum of 1", exception.getMessage());
+        verifyNoInteractions(repository, eventPublisher);
+    }
+
     @Test
     void testFindById() {
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findDetailById(requestId)).thenReturn(Optional.of(policyRequest));
 
         PolicyRequest result = policyRequestService.findById(requestId);
 
         assertNotNull(result);
         assertEquals(requestId, result.getId());
+        verify(readAfterWrite).routeToPrimaryIfRecentlyWritten(requestId);
+    }
+
+    @Test
+    void testFindByIdIsNotCached() {
+        when(repository.findDetailById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        policyRequestService.findById(requestId);
+        policyRequestService.findById(requestId);
+
+        verify(repository, times(2)).findDetailById(requestId);
+    }
+
+    @Test
+    void testFindSnapshotServedFromCacheUntilPolicyIsWritten() {
+        policyRequest.setVersion(2L);
+        when(repository.findDetailById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        PolicyRequestSnapshot first = policyRequestService.findSnapshot(requestId);
+        PolicyRequestSnapshot cached = policyRequestService.findSnapshot(requestId);
+        policyRequestCache.evictOnWrite(requestId);
+        policyRequestService.findSnapshot(requestId);
+
+        assertSame(first, cached);
+        assertEquals(2L, cached.version());
+        assertEquals(requestId, cached.dto().getId());
+        verify(repository, times(2)).findDetailById(requestId);
+        verify(mapper, times(2)).toDTO(policyRequest);
+    }
+
+    @Test
+    void testFindSnapshotNotFoundIsNotCached() {
+        when(repository.findDetailById(requestId)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> policyRequestService.findSnapshot(requestId));
+        assertThrows(EntityNotFoundException.class, () -> policyRequestService.findSnapshot(requestId));
+
+        verify(repository, times(2)).findDetailById(requestId);
     }
 
     @Test
     void testFindByIdNotFound() {
-        when(repository.findById(requestId)).thenReturn(Optional.empty());
+        when(repository.findDetailById(requestId)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> 
             policyRequestService.findById(requestId)
         );
     }
 
+    @Test
+    void testFindVersionUsesSingleColumnQuery() {
+        when(repository.findVersionById(requestId)).thenReturn(Optional.of(7L));
+
+        assertEquals(7L, policyRequestService.findVersion(requestId));
+        verify(repository, never()).findDetailById(any(UUID.class));
+    }
+
+    @Test
+    void testFindVersionServedFromCachedPolicy() {
+        policyRequest.setVersion(5L);
+        when(repository.findDetailById(requestId)).thenReturn(Optional.of(policyRequest));
+        policyRequestService.findSnapshot(requestId);
+
+        assertEquals(5L, policyRequestService.findVersion(requestId));
+        verify(repository, never()).findVersionById(any(UUID.class));
+    }
+
+    @Test
+    void testFindVersionNotFound() {
+        when(repository.findVersionById(requestId)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> policyRequestService.findVersion(requestId));
+    }
+
     @Test
     void testFindByCustomerId() {
         List<PolicyRequest> requests = Arrays.asList(policyRequest);
-        when(repository.findByCustomerId(customerId)).thenReturn(requests);
+        when(repository.findByCustomerId(customerId, PolicyRequestRepository.EARLIEST_CREATED_AT)).thenReturn(requests);
 
-        List<PolicyRequest> result = policyRequestService.findByCustomerId(customerId);
+        List<PolicyRequest> result = policyRequestService.findByCustomerId(customerId, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(customerId, result.get(0).getCustomerId());
+        verify(readAfterWrite).routeToPrimaryIfRecentlyWritten(customerId);
+    }
+
+    @Test
+    void testFindByCustomerIdSinceBoundsCreatedAt() {
+        when(repository.findByCustomerId(customerId, LocalDateTime.of(2024, 3, 1, 0, 0))).thenReturn(List.of(policyRequest));
+
+        List<PolicyRequest> result = policyRequestService.findByCustomerId(customerId, LocalDate.of(2024, 3, 1));
+
+        assertEquals(List.of(policyRequest), result);
+    }
+
+    @Test
+    void testFindPageByCustomerIdFirstPageHasNext() {
+        PolicyRequest second = new PolicyRequest();
+        PolicyRequest third = new PolicyRequest();
+        when(repository.findFirstPageByCustomerId(customerId, PolicyRequestRepository.EARLIEST_CREATED_AT, Limit.of(3)))
+            .thenReturn(Arrays.asList(policyRequest, second, third));
+
+        Slice<PolicyRequest> result = policyRequestService.findPageByCustomerId(customerId, null, null, 2);
+
+        assertTrue(result.hasNext());
+        assertEquals(2, result.getNumberOfElements());
+        assertEquals(policyRequest, result.getContent().get(0));
+        assertEquals(second, result.getContent().get(1));
+    }
+
+    @Test
+    void testFindPageByCustomerIdAfterCursorLastPage() {
+        PolicyRequestCursor cursor = new PolicyRequestCursor(now, UUID.randomUUID());
+        when(repository.findPageByCustomerIdAfter(eq(customerId), eq(LocalDateTime.of(2024, 3, 1, 0, 0)), eq(cursor.getCreatedAt()),
+                eq(cursor.getId()), eq(Limit.of(3))))
+            .thenReturn(List.of(policyRequest));
+
+        Slice<PolicyRequest> result = policyRequestService.findPageByCustomerId(customerId, LocalDate.of(2024, 3, 1), cursor, 2);
+
+        assertFalse(result.hasNext());
+        assertEquals(1, result.getNumberOfElements());
+        verify(repository, never()).findFirstPageByCustomerId(any(), any(), any());
+    }
+
+    @Test
+    void testFindPageByCustomerIdInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () ->
+            policyRequestService.findPageByCustomerId(customerId, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+            policyRequestService.findPageByCustomerId(customerId, null, null, 501));
+        assertThrows(IllegalArgumentException.class, () ->
+            policyRequestService.findPageByCustomerId(null, null, null, 10));
+    }
+
+    @Test
+    void testStreamByCustomerIdDelegatesToRepository() {
+        List<PolicyRequest> consumed = new ArrayList<>();
+        doAnswer(invocation -> {
+            java.util.function.Consumer<PolicyRequest> consumer = invocation.getArgument(2);
+            consumer.accept(policyRequest);
+            return null;
+        }).when(repository).forEachByCustomerId(eq(customerId), eq(PolicyRequestRepository.EARLIEST_CREATED_AT), any());
+
+        policyRequestService.streamByCustomerId(customerId, null, consumed::add);
+
+        assertEquals(List.of(policyRequest), consumed);
     }
 
     @Test
     void testUpdateStatusValidTransition() {
         policyRequest.setStatus(PolicyStatus.RECEIVED);
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
 
         PolicyRequest result = policyRequestService.updateStatus(requestId, PolicyStatus.VALIDATED);
@@ -167,7 +415,7 @@ class PolicyRequestServiceImplTest {
     @Test
     void testUpdateStatusInvalidTransition() {
         policyRequest.setStatus(PolicyStatus.APPROVED);
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         
         doThrow(new IllegalStateException("Cannot transition from APPROVED to VALIDATED"))
                 .when(policyStatusService).updatePolicyStatus(any(PolicyRequest.class), eq(PolicyStatus.VALIDATED));
@@ -177,6 +425,73 @@ class PolicyRequestServiceImplTest {
         );
     }
 
+    @Test
+    void testFindStatusHistoryReturnsRequestedPage() {
+        StatusHistory entry = new StatusHistory();
+        entry.setNewStatus(PolicyStatus.VALIDATED);
+        Slice<StatusHistory> page = new SliceImpl<>(List.of(entry), PageRequest.of(2, 1), true);
+        when(statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtDescIdDesc(requestId, PageRequest.of(2, 1)))
+            .thenReturn(page);
+
+        Slice<StatusHistory> result = policyRequestService.findStatusHistory(requestId, 2, 1);
+
+        assertSame(page, result);
+        verify(repository, never()).existsById(any());
+        verify(repository, never()).findDetailById(any());
+    }
+
+    @Test
+    void testFindStatusHistoryEmptyForExistingPolicy() {
+        when(statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtDescIdDesc(requestId, PageRequest.of(0, 50)))
+            .thenReturn(new SliceImpl<>(List.of()));
+        when(repository.existsById(requestId)).thenReturn(true);
+
+        assertFalse(policyRequestService.findStatusHistory(requestId, 0, 50).hasContent());
+    }
+
+    @Test
+    void testFindStatusHistoryNotFound() {
+        when(statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtDescIdDesc(requestId, PageRequest.of(0, 50)))
+            .thenReturn(new SliceImpl<>(List.of()));
+        when(repository.existsById(requestId)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> policyRequestService.findStatusHistory(requestId, 0, 50));
+    }
+
+    @Test
+    void testFindStatusHistoryInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> policyRequestService.findStatusHistory(null, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> policyRequestService.findStatusHistory(requestId, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> policyRequestService.findStatusHistory(requestId, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> policyRequestService.findStatusHistory(requestId, 0, 501));
+        verifyNoInteractions(statusHistoryRepository);
+    }
+
+    @Test
+    void testGetAllowedTransitions() {
+        policyRequest.setStatus(PolicyStatus.VALIDATED);
+        when(repository.findDetailById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        PolicyTransitionsDTO result = policyRequestService.getAllowedTransitions(requestId);
+
+        assertEquals(requestId, result.getPolicyId());
+        assertEquals(PolicyStatus.VALIDATED, result.getStatus());
+        assertFalse(result.isFinalStatus());
+        assertEquals(EnumSet.of(PolicyStatus.PENDING, PolicyStatus.REJECTED, PolicyStatus.CANCELLED),
+                result.getAllowedNextStates());
+    }
+
+    @Test
+    void testGetAllowedTransitionsForFinalStatus() {
+        policyRequest.setStatus(PolicyStatus.APPROVED);
+        when(repository.findDetailById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        PolicyTransitionsDTO result = policyRequestService.getAllowedTransitions(requestId);
+
+        assertTrue(result.isFinalStatus());
+        assertTrue(result.getAllowedNextStates().isEmpty());
+    }
+
     @Test
     void testProcessFraudAnalysisSuccess() {
         RiskAnalysis riskAnalysis = new RiskAnalysis();
@@ -184,7 +499,7 @@ class PolicyRequestServiceImplTest {
         riskAnalysis.setAnalyzedAt(LocalDateTime.now());
         riskAnalysis.setOccurrences(new ArrayList<>());
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(riskAnalysis);
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
 
@@ -204,7 +519,7 @@ class PolicyRequestServiceImplTest {
 
     @Test
     void testProcessFraudAnalysisFailure() {
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest))
             .thenThrow(new RuntimeException("Analysis failed"));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
@@ -227,7 +542,7 @@ class PolicyRequestServiceImplTest {
         policyRequest.setStatus(PolicyStatus.VALIDATED);
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
 
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenAnswer(invocation -> {
             PolicyRequest savedRequest = invocation.getArgument(0);
             return savedRequest;
@@ -251,12 +566,30 @@ class PolicyRequestServiceImplTest {
         assertEquals(PolicyStatus.PENDING, policyRequest.getStatus());
     }
 
+    @Test
+    void testWorkflowStepsLoadAggregateOnce() {
+        policyRequest.setStatus(PolicyStatus.VALIDATED);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+        when(paymentService.processPayment(policyRequest)).thenReturn(true);
+
+        policyRequestService.processPayment(requestId);
+        policyRequestService.processSubscription(requestId);
+
+        verify(repository, times(2)).findWorkflowById(requestId);
+        verify(repository, times(2)).save(policyRequest);
+        verify(repository, never()).findDetailById(any(UUID.class));
+        verify(policyRequestService, never()).updateStatus(any(UUID.class), any(PolicyStatus.class));
+        verify(eventPublisher, times(2)).publish(anyString(), anyString(), any(PolicyRequestEvent.class));
+        assertEquals(PolicyStatus.APPROVED, policyRequest.getStatus());
+    }
+
     @Test
     void testProcessPaymentFailure() {
         policyRequest.setStatus(PolicyStatus.VALIDATED);
         policyRequest.setPaymentMethod(PaymentMethod.CREDIT_CARD);
 
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenAnswer(invocation -> {
             PolicyRequest savedRequest = invocation.getArgument(0);
             return savedRequest;
@@ -277,7 +610,7 @@ class PolicyRequestServiceImplTest {
     @Test
     void testProcessSubscriptionSuccess() {
         policyRequest.setStatus(PolicyStatus.PENDING);
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
 
         policyRequestService.processSubscription(requestId);
@@ -289,7 +622,7 @@ class PolicyRequestServiceImplTest {
     @Test
     void testProcessSubscriptionFailure() {
         policyRequest.setStatus(PolicyStatus.PENDING);
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
         doThrow(new RuntimeException("Subscription failed"))
             .when(subscriptionService).processSubscription(policyRequest);
@@ -308,7 +641,7 @@ class PolicyRequestServiceImplTest {
     @Test
     void testCancelPolicyRequest() {
         policyRequest.setStatus(PolicyStatus.VALIDATED);
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
 
         PolicyCancelResponseDTO result = policyRequestService.cancelPolicyRequest(requestId);
@@ -327,7 +660,7 @@ class PolicyRequestServiceImplTest {
     @Test
     void testCancelApprovedPolicyRequest() {
         policyRequest.setStatus(PolicyStatus.APPROVED);
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
 
         BusinessException exception = assertThrows(BusinessException.class, () ->
             policyRequestService.cancelPolicyRequest(requestId)
@@ -343,7 +676,7 @@ class PolicyRequestServiceImplTest {
     void testValidatePolicyRequestWithoutRiskAnalysis() {
 
         policyRequest.setStatus(PolicyStatus.RECEIVED);
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
 
         BusinessException exception = assertThrows(BusinessException.class, () ->
             policyRequestService.validatePolicyRequest(requestId)
@@ -361,7 +694,7 @@ class PolicyRequestServiceImplTest {
         policyRequest.setRiskAnalysis(riskAnalysis);
         policyRequest.setStatus(PolicyStatus.RECEIVED);
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
         
         when(policyStatusService.canTransitionTo(PolicyStatus.RECEIVED, PolicyStatus.VALIDATED))
@@ -384,7 +717,7 @@ class PolicyRequestServiceImplTest {
         policyRequest.setInsuredAmount(BigDecimal.valueOf(500000.00));
         policyRequest.setStatus(PolicyStatus.RECEIVED);
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
 
         PolicyValidationResponseDTO result = policyRequestService.validatePolicyRequest(requestId);
@@ -403,7 +736,7 @@ class PolicyRequestServiceImplTest {
         policyRequest.setRiskAnalysis(riskAnalysis);
         policyRequest.setStatus(PolicyStatus.RECEIVED);
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
         
         when(policyStatusService.canTransitionTo(eq(PolicyStatus.RECEIVED), any(PolicyStatus.class)))
@@ -432,7 +765,7 @@ class PolicyRequestServiceImplTest {
         policyRequest.setRiskAnalysis(riskAnalysis);
         policyRequest.setStatus(PolicyStatus.RECEIVED);
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
         
         when(policyStatusService.canTransitionTo(eq(PolicyStatus.RECEIVED), any(PolicyStatus.class)))
@@ -461,7 +794,7 @@ class PolicyRequestServiceImplTest {
         policyRequest.setRiskAnalysis(riskAnalysis);
         policyRequest.setStatus(PolicyStatus.RECEIVED);
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
         
         when(policyStatusService.canTransitionTo(eq(PolicyStatus.RECEIVED), any(PolicyStatus.class)))
@@ -493,7 +826,7 @@ class PolicyRequestServiceImplTest {
         policyRequest.setRiskAnalysis(riskAnalysis);
         policyRequest.setStatus(PolicyStatus.RECEIVED);
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
         
         when(policyStatusService.canTransitionTo(eq(PolicyStatus.RECEIVED), any(PolicyStatus.class)))
@@ -512,7 +845,7 @@ class PolicyRequestServiceImplTest {
 
     @Test
     void testStatusTransitionValidations() {
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
 
         policyRequest.setStatus(PolicyStatus.RECEIVED);
@@ -564,7 +897,7 @@ class PolicyRequestServiceImplTest {
         
         riskAnalysis.setOccurrences(Arrays.asList(occurrence));
         
-        when(repository.findById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
         when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(riskAnalysis);
         when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
 
@@ -585,4 +918,347 @@ class PolicyRequestServiceImplTest {
         
         verify(fraudAnalysisService).analyzeFraud(policyRequest);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testProcessFraudAnalysisCallsProviderOutsideTransaction() {
+        RiskAnalysis riskAnalysis = new RiskAnalysis();
+        riskAnalysis.setClassification(CustomerRiskType.REGULAR);
+        riskAnalysis.setAnalyzedAt(LocalDateTime.now());
+        PolicyRequest fresh = new PolicyRequest();
+        fresh.setId(requestId);
+        fresh.setCustomerId(customerId);
+        fresh.setStatus(PolicyStatus.RECEIVED);
+        when(repository.findWorkflowById(requestId))
+            .thenReturn(Optional.of(policyRequest), Optional.of(policyRequest), Optional.of(fresh));
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(riskAnalysis);
+        when(repository.save(any(PolicyRequest.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doNothing()
+            .doThrow(new ObjectOptimisticLockingFailureException(PolicyRequest.class, requestId))
+            .doNothing()
+            .when(transactionManager).commit(any());
+
+        FraudAnalysisResponseDTO result = policyRequestService.processFraudAnalysis(requestId);
+
+        assertEquals(CustomerRiskType.REGULAR, result.getClassification());
+        InOrder inOrder = inOrder(transactionManager, fraudAnalysisService);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(fraudAnalysisService).analyzeFraud(policyRequest);
+        inOrder.verify(transactionManager).getTransaction(any());
+        verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(CustomerRiskType.REGULAR, fresh.getRiskAnalysis().getClassification());
+        assertNotSame(policyRequest.getRiskAnalysis(), fresh.getRiskAnalysis());
+    }
+
+    @Test
+    void testProcessFraudAnalysisDegradesToNoInformationOnDeadline() {
+        fraudAnalysisProperties.setDegradedModeEnabled(true);
+        fraudAnalysisProperties.setDeadlineMs(20);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest)).thenReturn(new CompletableFuture<>());
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+
+        FraudAnalysisResponseDTO result = policyRequestService.processFraudAnalysis(requestId);
+
+        assertEquals(CustomerRiskType.NO_INFORMATION, result.getClassification());
+        assertEquals(FraudReanalysisScheduler.DEADLINE_EXCEEDED, result.getOccurrences().get(0).getType());
+        assertEquals(PolicyStatus.RECEIVED, policyRequest.getStatus());
+        assertTrue(FraudReanalysisScheduler.isDegraded(policyRequest));
+        ArgumentCaptor<FraudReanalysis> pending = ArgumentCaptor.forClass(FraudReanalysis.class);
+        verify(fraudReanalysisRepository).save(pending.capture());
+        assertEquals(requestId, pending.getValue().getPolicyRequestId());
+        assertEquals(0, pending.getValue().getAttempts());
+        assertTrue(pending.getValue().getNextAttemptAt().isAfter(now));
+        verify(eventPublisher, never()).publish(any(), eq(RabbitMQConfig.POLICY_REJECTED_KEY), any());
+    }
+
+    @Test
+    void testProcessFraudAnalysisDegradesWhenProviderUnavailable() {
+        fraudAnalysisProperties.setDegradedModeEnabled(true);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest)).thenReturn(CompletableFuture.failedFuture(
+            new BusinessException("Fraud API circuit breaker is open", "FRAUD_API_CIRCUIT_OPEN")));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+
+        FraudAnalysisResponseDTO result = policyRequestService.processFraudAnalysis(requestId);
+
+        assertEquals(CustomerRiskType.NO_INFORMATION, result.getClassification());
+        verify(fraudReanalysisRepository).save(any(FraudReanalysis.class));
+    }
+
+    @Test
+    void testProcessFraudAnalysisWithinDeadlineUsesProviderResult() {
+        fraudAnalysisProperties.setDegradedModeEnabled(true);
+        RiskAnalysis riskAnalysis = new RiskAnalysis();
+        riskAnalysis.setClassification(CustomerRiskType.PREFERRED);
+        riskAnalysis.setAnalyzedAt(LocalDateTime.now());
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest))
+            .thenReturn(CompletableFuture.completedFuture(riskAnalysis));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+
+        FraudAnalysisResponseDTO result = policyRequestService.processFraudAnalysis(requestId);
+
+        assertEquals(CustomerRiskType.PREFERRED, result.getClassification());
+        verifyNoInteractions(fraudReanalysisRepository);
+    }
+
+    @Test
+    void testProcessFraudAnalysisStillRejectsOnOtherErrors() {
+        fraudAnalysisProperties.setDegradedModeEnabled(true);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(fraudAnalysisService.analyzeFraudAsync(policyRequest)).thenReturn(CompletableFuture.failedFuture(
+            new BusinessException("Fraud API returned HTTP 400", "FRAUD_API_ERROR")));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+
+        assertThrows(BusinessException.class, () -> policyRequestService.processFraudAnalysis(requestId));
+
+        assertEquals(PolicyStatus.REJECTED, policyRequest.getStatus());
+        verifyNoInteractions(fraudReanalysisRepository);
+    }
+
+    @Test
+    void testApplyFraudReanalysisRejectsValidatedPolicyOverNewLimit() {
+        policyRequest.setCategory(InsuranceCategory.LIFE);
+        policyRequest.setInsuredAmount(new BigDecimal("150000.00"));
+        policyRequest.setStatus(PolicyStatus.VALIDATED);
+        policyRequest.setRiskAnalysis(degradedAnalysis());
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+
+        assertTrue(policyRequestService.applyFraudReanalysis(requestId, reanalysis(CustomerRiskType.HIGH_RISK)));
+
+        assertEquals(CustomerRiskType.HIGH_RISK, policyRequest.getRiskAnalysis().getClassification());
+        assertEquals("FRAUD", policyRequest.getRiskAnalysis().getOccurrences().get(0).getType());
+        verify(policyStatusService).updatePolicyStatus(policyRequest, PolicyStatus.REJECTED);
+        verify(eventPublisher).publish(eq(RabbitMQConfig.POLICY_EVENTS_EXCHANGE),
+            eq(RabbitMQConfig.POLICY_REJECTED_KEY), any(PolicyRejectedEvent.class));
+    }
+
+    @Test
+    void testApplyFraudReanalysisKeepsValidatedPolicyWithinNewLimit() {
+        policyRequest.setCategory(InsuranceCategory.LIFE);
+        policyRequest.setInsuredAmount(new BigDecimal("150000.00"));
+        policyRequest.setStatus(PolicyStatus.PENDING);
+        policyRequest.setRiskAnalysis(degradedAnalysis());
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        assertTrue(policyRequestService.applyFraudReanalysis(requestId, reanalysis(CustomerRiskType.PREFERRED)));
+
+        assertEquals(PolicyStatus.PENDING, policyRequest.getStatus());
+        assertEquals(CustomerRiskType.PREFERRED, policyRequest.getRiskAnalysis().getClassification());
+        verify(repository).save(policyRequest);
+        verify(policyStatusService, never()).updatePolicyStatus(any(PolicyRequest.class), any(PolicyStatus.class));
+    }
+
+    @Test
+    void testApplyFraudReanalysisLeavesReceivedPolicyForValidation() {
+        policyRequest.setCategory(InsuranceCategory.LIFE);
+        policyRequest.setInsuredAmount(new BigDecimal("150000.00"));
+        policyRequest.setRiskAnalysis(degradedAnalysis());
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        assertTrue(policyRequestService.applyFraudReanalysis(requestId, reanalysis(CustomerRiskType.HIGH_RISK)));
+
+        assertEquals(PolicyStatus.RECEIVED, policyRequest.getStatus());
+        verify(policyStatusService, never()).updatePolicyStatus(any(PolicyRequest.class), any(PolicyStatus.class));
+    }
+
+    @Test
+    void testApplyFraudReanalysisSkipsPolicyNoLongerDegraded() {
+        policyRequest.setRiskAnalysis(reanalysis(CustomerRiskType.REGULAR));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        assertFalse(policyRequestService.applyFraudReanalysis(requestId, reanalysis(CustomerRiskType.HIGH_RISK)));
+
+        assertEquals(CustomerRiskType.REGULAR, policyRequest.getRiskAnalysis().getClassification());
+        verify(repository, never()).save(any(PolicyRequest.class));
+    }
+
+    @Test
+    void testProcessPolicyRequestRunsWholePipeline() {
+        RiskAnalysis riskAnalysis = new RiskAnalysis();
+        riskAnalysis.setClassification(CustomerRiskType.REGULAR);
+        riskAnalysis.setAnalyzedAt(LocalDateTime.now());
+        riskAnalysis.setOccurrences(new ArrayList<>());
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(riskAnalysis);
+        when(paymentService.processPayment(policyRequest)).thenReturn(true);
+        enforceStatusTable();
+        doAnswer(invocation -> {
+            policyRequest.setStatus(PolicyStatus.APPROVED);
+            return null;
+        }).when(subscriptionService).processSubscription(policyRequest);
+
+        PolicyProcessingResponseDTO result = policyRequestService.processPolicyRequest(requestId);
+
+        assertTrue(result.isApproved());
+        assertEquals(PolicyStatus.APPROVED, result.getStatus());
+        assertNull(result.getStoppedAt());
+        assertEquals(List.of(PolicyStatus.VALIDATED, PolicyStatus.PENDING, PolicyStatus.APPROVED),
+                result.getStatusHistory().stream().map(h -> h.getStatus()).toList());
+        verify(repository, times(2)).findWorkflowById(requestId);
+        verify(fraudAnalysisService, times(1)).analyzeFraud(policyRequest);
+        verify(policyStatusService).updatePolicyStatus(policyRequest, PolicyStatus.APPROVED);
+    }
+
+    @Test
+    void testProcessPolicyRequestStopsAtValidationRejection() {
+        RiskAnalysis riskAnalysis = new RiskAnalysis();
+        riskAnalysis.setClassification(CustomerRiskType.HIGH_RISK);
+        riskAnalysis.setAnalyzedAt(LocalDateTime.now());
+        riskAnalysis.setOccurrences(new ArrayList<>());
+        policyRequest.setInsuredAmount(new BigDecimal("900000.00"));
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+        when(fraudAnalysisService.analyzeFraud(policyRequest)).thenReturn(riskAnalysis);
+
+        PolicyProcessingResponseDTO result = policyRequestService.processPolicyRequest(requestId);
+
+        assertFalse(result.isApproved());
+        assertEquals(PolicyStatus.REJECTED, result.getStatus());
+        assertEquals(PolicyProcessingResponseDTO.Step.VALIDATION, result.getStoppedAt());
+        assertEquals("VALIDATION_REJECTED", result.getErrorCode());
+        verifyNoInteractions(paymentService, subscriptionService);
+    }
+
+    @Test
+    void testProcessPolicyRequestStopsAtPaymentFailure() {
+        policyRequest.setStatus(PolicyStatus.VALIDATED);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+        when(paymentService.processPayment(policyRequest)).thenReturn(false);
+
+        PolicyProcessingResponseDTO result = policyRequestService.processPolicyRequest(requestId);
+
+        assertFalse(result.isApproved());
+        assertEquals(PolicyStatus.REJECTED, result.getStatus());
+        assertEquals(PolicyProcessingResponseDTO.Step.PAYMENT, result.getStoppedAt());
+        assertEquals("PAYMENT_FAILED", result.getErrorCode());
+        verifyNoInteractions(fraudAnalysisService, subscriptionService);
+    }
+
+    @Test
+    void testProcessPolicyRequestInFinalStatusIsNoOp() {
+        policyRequest.setStatus(PolicyStatus.CANCELLED);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+
+        PolicyProcessingResponseDTO result = policyRequestService.processPolicyRequest(requestId);
+
+        assertFalse(result.isApproved());
+        assertEquals(PolicyStatus.CANCELLED, result.getStatus());
+        assertNull(result.getErrorCode());
+        verify(repository, never()).save(any(PolicyRequest.class));
+    }
+
+    @Test
+    void testProcessPolicyRequestsOneTransactionPerItem() {
+        UUID missingId = UUID.randomUUID();
+        policyRequest.setStatus(PolicyStatus.PENDING);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.findWorkflowById(missingId)).thenReturn(Optional.empty());
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+
+        PolicyProcessingBatchResponseDTO result = policyRequestService.processPolicyRequests(
+                Arrays.asList(requestId, missingId, null));
+
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getApproved());
+        assertEquals(2, result.getNotApproved());
+        assertEquals(PolicyStatus.APPROVED, result.getItems().get(0).getStatus());
+        assertEquals("NOT_FOUND", result.getItems().get(1).getErrorCode());
+        assertEquals("INVALID_ID", result.getItems().get(2).getErrorCode());
+        verify(retryExecutor, times(2)).execute(eq("fraud-analysis"), any());
+        verify(retryExecutor, times(1)).execute(eq("process"), any());
+    }
+
+    @Test
+    void testProcessPolicyRequestsRejectsInvalidBatch() {
+        assertThrows(IllegalArgumentException.class, () -> policyRequestService.processPolicyRequests(List.of()));
+
+        batchProperties.setMaxSize(1);
+        assertThrows(IllegalArgumentException.class,
+                () -> policyRequestService.processPolicyRequests(List.of(requestId, customerId)));
+        verifyNoInteractions(repository);
+    }
+
+    private void enforceStatusTable() {
+        doAnswer(invocation -> {
+            PolicyRequest request = invocation.getArgument(0);
+            PolicyStatus newStatus = invocation.getArgument(1);
+            if (!request.getStatus().canTransitionTo(newStatus)) {
+                throw new BusinessException(request.getStatus().toString(), newStatus.toString());
+            }
+            StatusHistory history = new StatusHistory();
+            history.setPreviousStatus(request.getStatus());
+            history.setNewStatus(newStatus);
+            history.setChangedAt(LocalDateTime.now());
+            request.getStatusHistory().add(history);
+            request.setStatus(newStatus);
+            return null;
+        }).when(policyStatusService).updatePolicyStatus(any(PolicyRequest.class), any(PolicyStatus.class));
+    }
+
+    @Test
+    void testCancelRetriesOnVersionConflictAgainstFreshState() {
+        PolicyRequest stale = policyRequest;
+        stale.setStatus(PolicyStatus.VALIDATED);
+        PolicyRequest fresh = new PolicyRequest();
+        fresh.setId(requestId);
+        fresh.setCustomerId(customerId);
+        fresh.setStatus(PolicyStatus.PENDING);
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(repository.save(any(PolicyRequest.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new ObjectOptimisticLockingFailureException(PolicyRequest.class, requestId))
+            .doNothing()
+            .when(transactionManager).commit(any());
+
+        PolicyCancelResponseDTO result = policyRequestService.cancelPolicyRequest(requestId);
+
+        assertTrue(result.isCancelled());
+        assertEquals(PolicyStatus.CANCELLED, fresh.getStatus());
+        verify(repository, times(2)).findWorkflowById(requestId);
+    }
+
+    @Test
+    void testUpdateStatusGivesUpAfterMaxConflicts() {
+        when(repository.findWorkflowById(requestId)).thenReturn(Optional.of(policyRequest));
+        when(repository.save(any(PolicyRequest.class))).thenReturn(policyRequest);
+        doThrow(new ObjectOptimisticLockingFailureException(PolicyRequest.class, requestId))
+            .when(transactionManager).commit(any());
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> policyRequestService.updateStatus(requestId, PolicyStatus.VALIDATED));
+
+        verify(repository, times(new OptimisticRetryProperties().getMaxAttempts())).save(any(PolicyRequest.class));
+    }
+
+    private static OptimisticRetryProperties noBackoff() {
+        OptimisticRetryProperties properties = new OptimisticRetryProperties();
+        properties.setBackoffMs(0);
+        return properties;
+    }
+
+    private RiskAnalysis degradedAnalysis() {
+        RiskOccurrence occurrence = new RiskOccurrence();
+        occurrence.setType(FraudReanalysisScheduler.DEADLINE_EXCEEDED);
+        occurrence.setDescription("deadline");
+        RiskAnalysis analysis = new RiskAnalysis();
+        analysis.setClassification(CustomerRiskType.NO_INFORMATION);
+        analysis.setAnalyzedAt(now);
+        analysis.setOccurrences(new ArrayList<>(List.of(occurrence)));
+        return analysis;
+    }
+
+    private RiskAnalysis reanalysis(CustomerRiskType classification) {
+        RiskOccurrence occurrence = new RiskOccurrence();
+        occurrence.setType("FRAUD");
+        occurrence.setDescription("reanalysis");
+        RiskAnalysis analysis = new RiskAnalysis();
+        analysis.setClassification(classification);
+        analysis.setAnalyzedAt(now);
+        analysis.setOccurrences(new ArrayList<>(List.of(occurrence)));
+        return analysis;
+    }
+}
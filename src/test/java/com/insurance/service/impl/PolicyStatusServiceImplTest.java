@@ -0,0 +1,179 @@
+package com.insurance.service.impl;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.StatusHistory;
+import com.insurance.domain.enums.PolicyStatus;
+import com.insurance.exception.BusinessException;
+import com.insurance.repository.StatusHistoryRepository;
+import com.insurance.service.StatusHistoryValidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyStatusServiceImplTest {
+
+    @Mock
+    private StatusHistoryValidationService statusHistoryValidationService;
+
+    @Mock
+    private StatusHistoryRepository statusHistoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyStatusServiceImpl service;
+    private PolicyRequest policyRequest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new PolicyStatusServiceImpl(statusHistoryValidationService, statusHistoryRepository, meterRegistry);
+
+        policyRequest = new PolicyRequest();
+        policyRequest.setId(UUID.randomUUID());
+        policyRequest.setStatus(PolicyStatus.RECEIVED);
+        policyRequest.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+    }
+
+    @Test
+    void testCanTransitionToUsesStatusTable() {
+        for (PolicyStatus from : PolicyStatus.values()) {
+            for (PolicyStatus to : PolicyStatus.values()) {
+                assertEquals(from.allowedNextStates().contains(to), service.canTransitionTo(from, to));
+            }
+        }
+        assertTrue(service.canTransitionTo(null, PolicyStatus.RECEIVED));
+        assertFalse(service.canTransitionTo(null, PolicyStatus.VALIDATED));
+    }
+
+    @Test
+    void testUpdatePolicyStatusAppendsHistoryAndCountsTransition() {
+        service.updatePolicyStatus(policyRequest, PolicyStatus.VALIDATED);
+
+        assertEquals(PolicyStatus.VALIDATED, policyRequest.getStatus());
+        assertNotNull(policyRequest.getStatusChangedAt());
+        ArgumentCaptor<StatusHistory> captor = ArgumentCaptor.forClass(StatusHistory.class);
+        verify(statusHistoryRepository).save(captor.capture());
+        StatusHistory history = captor.getValue();
+        assertEquals(List.of(history), policyRequest.getStatusHistory());
+        assertEquals(PolicyStatus.RECEIVED, history.getPreviousStatus());
+        assertEquals(PolicyStatus.VALIDATED, history.getNewStatus());
+        assertEquals(policyRequest.getId(), history.getPolicyRequestId());
+        assertNull(policyRequest.getFinishedAt());
+
+        assertEquals(1.0, meterRegistry.get("insurance.policy.transition.total")
+                .tag("from", "RECEIVED").tag("to", "VALIDATED").counter().count());
+        assertTrue(meterRegistry.get("insurance.policy.transition.dwell")
+                .tag("from", "RECEIVED").tag("to", "VALIDATED").timer().totalTime(TimeUnit.MINUTES) >= 4.9);
+        verify(statusHistoryValidationService, never()).createStatusHistory(any(), any(), any(), any());
+    }
+
+    @Test
+    void testUpdatePolicyStatusToFinalStatusSetsFinishedAt() {
+        service.updatePolicyStatus(policyRequest, PolicyStatus.VALIDATED);
+        service.updatePolicyStatus(policyRequest, PolicyStatus.PENDING);
+        service.updatePolicyStatus(policyRequest, PolicyStatus.APPROVED);
+
+        ArgumentCaptor<StatusHistory> captor = ArgumentCaptor.forClass(StatusHistory.class);
+        verify(statusHistoryRepository, times(3)).save(captor.capture());
+        assertEquals(List.of(PolicyStatus.VALIDATED, PolicyStatus.PENDING, PolicyStatus.APPROVED),
+                captor.getAllValues().stream().map(StatusHistory::getNewStatus).toList());
+        assertNotNull(policyRequest.getFinishedAt());
+        assertEquals(1.0, meterRegistry.get("insurance.policy.transition.total")
+                .tag("from", "PENDING").tag("to", "APPROVED").counter().count());
+    }
+
+    @Test
+    void testDwellTimeMeasuredFromLastStatusChange() {
+        policyRequest.setStatus(PolicyStatus.VALIDATED);
+        policyRequest.setStatusChangedAt(LocalDateTime.now().minusSeconds(30));
+
+        service.updatePolicyStatus(policyRequest, PolicyStatus.PENDING);
+
+        double seconds = meterRegistry.get("insurance.policy.transition.dwell")
+                .tag("from", "VALIDATED").tag("to", "PENDING").timer().totalTime(TimeUnit.SECONDS);
+        assertTrue(seconds >= 29 && seconds < 120);
+    }
+
+    @Test
+    void testUpdatePolicyStatusRejectsInvalidTransition() {
+        policyRequest.setStatus(PolicyStatus.APPROVED);
+
+        assertThrows(BusinessException.class,
+                () -> service.updatePolicyStatus(policyRequest, PolicyStatus.CANCELLED));
+
+        assertEquals(PolicyStatus.APPROVED, policyRequest.getStatus());
+        verify(statusHistoryRepository, never()).save(any());
+        assertEquals(1.0, meterRegistry.get("insurance.policy.transition.rejected.total")
+                .tag("from", "APPROVED").counter().count());
+    }
+
+    @Test
+    void testTransitionMetricsAreRecordedOnlyOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.updatePolicyStatus(policyRequest, PolicyStatus.VALIDATED);
+
+            assertEquals(0.0, meterRegistry.get("insurance.policy.transition.total")
+                    .tag("from", "RECEIVED").tag("to", "VALIDATED").counter().count());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            assertEquals(1.0, meterRegistry.get("insurance.policy.transition.total")
+                    .tag("from", "RECEIVED").tag("to", "VALIDATED").counter().count());
+            assertEquals(1, meterRegistry.get("insurance.policy.transition.dwell")
+                    .tag("from", "RECEIVED").tag("to", "VALIDATED").timer().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testRejectedTransitionIsCountedEvenWhenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            policyRequest.setStatus(PolicyStatus.APPROVED);
+
+            assertThrows(BusinessException.class,
+                    () -> service.updatePolicyStatus(policyRequest, PolicyStatus.CANCELLED));
+
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+            assertEquals(1.0, meterRegistry.get("insurance.policy.transition.rejected.total")
+                    .tag("from", "APPROVED").counter().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testUpdatePolicyStatusRequiresPolicyId() {
+        policyRequest.setId(null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updatePolicyStatus(policyRequest, PolicyStatus.VALIDATED));
+    }
+
+    @Test
+    void testUpdatePolicyStatusRejectsNullArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updatePolicyStatus(null, PolicyStatus.VALIDATED));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updatePolicyStatus(policyRequest, null));
+    }
+}
@@ -0,0 +1,59 @@
+package com.insurance.service.limits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class CoverageLimitMatrixTest {
+
+    private final CoverageLimitMatrix matrix = CoverageLimitMatrix.compile(new CoverageLimitProperties());
+
+    @Test
+    void testDefaultLimits() {
+        assertEquals(new BigDecimal("500000.00"), matrix.maxAmount(CustomerRiskType.REGULAR, InsuranceCategory.LIFE));
+        assertEquals(new BigDecimal("350000.00"), matrix.maxAmount(CustomerRiskType.REGULAR, InsuranceCategory.AUTO));
+        assertEquals(new BigDecimal("250000.00"), matrix.maxAmount(CustomerRiskType.HIGH_RISK, InsuranceCategory.AUTO));
+        assertEquals(new BigDecimal("375000.00"), matrix.maxAmount(CustomerRiskType.PREFERRED, InsuranceCategory.HEALTH));
+        assertEquals(7_500_000L, matrix.maxAmountCents(CustomerRiskType.NO_INFORMATION, InsuranceCategory.AUTO));
+    }
+
+    @Test
+    void testLimitIsInclusive() {
+        assertTrue(matrix.isWithinLimit(CustomerRiskType.HIGH_RISK, InsuranceCategory.AUTO, new BigDecimal("250000")));
+        assertFalse(matrix.isWithinLimit(CustomerRiskType.HIGH_RISK, InsuranceCategory.AUTO, new BigDecimal("250000.01")));
+        assertTrue(matrix.isWithinLimit(CustomerRiskType.HIGH_RISK, InsuranceCategory.AUTO, 25_000_000L));
+        assertFalse(matrix.isWithinLimit(CustomerRiskType.HIGH_RISK, InsuranceCategory.AUTO, 25_000_001L));
+    }
+
+    @Test
+    void testToMapCoversEveryCell() {
+        var map = matrix.toMap();
+
+        assertEquals(CustomerRiskType.values().length, map.size());
+        map.values().forEach(row -> assertEquals(InsuranceCategory.values().length, row.size()));
+    }
+
+    @Test
+    void testCompileRejectsMissingCell() {
+        CoverageLimitProperties properties = new CoverageLimitProperties();
+        properties.getMaxInsuredAmount().get(CustomerRiskType.PREFERRED).remove(InsuranceCategory.TRAVEL);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> CoverageLimitMatrix.compile(properties));
+        assertTrue(error.getMessage().contains("PREFERRED/TRAVEL"));
+    }
+
+    @Test
+    void testCompileRejectsFractionalCents() {
+        CoverageLimitProperties properties = new CoverageLimitProperties();
+        properties.getMaxInsuredAmount().get(CustomerRiskType.REGULAR).put(InsuranceCategory.AUTO, new BigDecimal("1.005"));
+
+        assertThrows(IllegalArgumentException.class, () -> CoverageLimitMatrix.compile(properties));
+    }
+}
@@ -0,0 +1,59 @@
+package com.insurance.service.limits;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CoverageLimitProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path limitsFile;
+    private CoverageLimitProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        limitsFile = tempDir.resolve("limits.properties");
+        CoverageLimitProperties properties = new CoverageLimitProperties();
+        properties.setFile(limitsFile.toString());
+        provider = new CoverageLimitProvider(properties);
+    }
+
+    @Test
+    void testReloadIfChangedAppliesFile() throws IOException {
+        write("policy.limits.max-insured-amount.HIGH_RISK.AUTO=200000.00\n", 1_000);
+
+        provider.reloadIfChanged();
+
+        assertEquals(new BigDecimal("200000.00"),
+                provider.current().maxAmount(CustomerRiskType.HIGH_RISK, InsuranceCategory.AUTO));
+        assertEquals(new BigDecimal("350000.00"),
+                provider.current().maxAmount(CustomerRiskType.REGULAR, InsuranceCategory.AUTO));
+    }
+
+    @Test
+    void testInvalidFileKeepsCurrentLimits() throws IOException {
+        CoverageLimitMatrix initial = provider.current();
+        write("policy.limits.max-insured-amount.HIGH_RISK.AUTO=-1\n", 1_000);
+
+        provider.reloadIfChanged();
+
+        assertSame(initial, provider.current());
+    }
+
+    private void write(String content, long lastModified) throws IOException {
+        Files.writeString(limitsFile, content);
+        Files.setLastModifiedTime(limitsFile, FileTime.fromMillis(lastModified));
+    }
+}